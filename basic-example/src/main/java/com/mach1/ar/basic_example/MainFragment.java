@@ -34,23 +34,30 @@ import androidx.lifecycle.ViewModelProviders;
 
 import com.mach1.ar.basic_example.R;
 import com.bose.blecore.DeviceException;
-import com.bose.wearable.sensordata.Quaternion;
-import com.bose.wearable.sensordata.SensorValue;
-import com.bose.wearable.sensordata.Vector;
 import com.google.android.material.snackbar.Snackbar;
 
 import java.net.*;
 import java.util.*;
 
-import com.illposed.osc.*;
+import com.mach1.ar.sensor_android.FrameUpdater;
+import com.mach1.ar.sensor_core.DecimalFormatter;
+import com.mach1.ar.sensor_core.OrientationSnapshot;
+import com.mach1.ar.sensor_core.PipelineLatency;
+import com.mach1.ar.sensor_core.SendThrottle;
+import com.mach1.ar.sensor_core.SendPolicy;
+import com.mach1.ar.sensor_core.osc.DestinationResolver;
 
-import java.util.Locale;
 
 public class MainFragment extends Fragment {
     public static final String ARG_DEVICE_ADDRESS = "device-address";
     public static final String ARG_USE_SIMULATED_DEVICE = "use-simulated-device";
     private static final String TAG = MainFragment.class.getSimpleName();
-    private static final Quaternion TRANSLATION_Q = new Quaternion(1, 0, 0, 0);
+    private static final String DEGREE_SIGN = "°";
+    // Skip sub-0.1° jitter, keep receivers alive twice a second and never exceed 50 Hz
+    private static final SendPolicy ADAPTIVE_RATE_POLICY = new SendPolicy(0.1f, 500, 50);
+    private static final long STATS_INTERVAL_MILLIS = 1000;
+    // Angles are redrawn on every display frame; set a rate to redraw less often
+    private static final int DISPLAY_MAX_RATE_HZ = 0;
 
     private String mDeviceAddress;
     private boolean mUseSimulatedDevice;
@@ -62,12 +69,38 @@ public class MainFragment extends Fragment {
     private TextView mPitch;
     private TextView mRoll;
     private TextView mYaw;
-    public float fYaw;
-    public float fPitch;
-    public float fRoll;
-    private float fLastYaw;
-    private float fLastPitch;
-    private float fLastRoll;
+    private TextView mLatency;
+    private TextView mSendRate;
+    // TextView keeps a reference to these, so each view gets its own buffer
+    private final char[] mPitchText = new char[DecimalFormatter.BUFFER_SIZE];
+    private final char[] mRollText = new char[DecimalFormatter.BUFFER_SIZE];
+    private final char[] mYawText = new char[DecimalFormatter.BUFFER_SIZE];
+    private PipelineLatency.Window mLatencyWindow;
+    private SendThrottle.Window mThrottleWindow;
+    private final OrientationSnapshot.Sample mDisplayed = new OrientationSnapshot.Sample();
+    private final FrameUpdater mDisplayUpdater = new FrameUpdater(this::updateAngles)
+        .maxRate(DISPLAY_MAX_RATE_HZ);
+    private final Runnable mLatencyUpdater = new Runnable() {
+        @Override
+        public void run() {
+            mLatencyWindow.update();
+            mLatency.setText(getString(R.string.latency, mLatencyWindow.toString()));
+            mThrottleWindow.update(System.nanoTime());
+            mSendRate.setText(getString(R.string.send_rate, mThrottleWindow.toString()));
+            mLatency.postDelayed(this, STATS_INTERVAL_MILLIS);
+        }
+    };
+    private final DestinationResolver mResolver = new DestinationResolver(new DestinationResolver.Listener() {
+        @Override
+        public void onResolved(@NonNull final List<InetSocketAddress> addresses) {
+            mViewModel.oscSender().addresses(addresses);
+        }
+
+        @Override
+        public void onResolveFailed(@NonNull final String hosts, @NonNull final Exception error) {
+            MainFragment.this.onResolveFailed(hosts, error);
+        }
+    });
 
     public EditText mOscAddressInput;
     public EditText mOscPortInput;
@@ -92,16 +125,14 @@ public class MainFragment extends Fragment {
             throw new IllegalArgumentException();
         }
 
-        // Start the thread that sends messages
-        oscThread.start();
+        // The view model converts and sends samples on its own threads and outlives the fragment
+        mViewModel = ViewModelProviders.of(this)
+            .get(MainViewModel.class);
+        mViewModel.axes(mYawEnabled, mPitchEnabled, mRollEnabled);
+        mLatencyWindow = mViewModel.oscSender().latency().window();
+        mThrottleWindow = mViewModel.oscSender().throttle().window();
     }
 
-    // This is used to send messages
-    private OSCPortOut oscPortOut;
-    // init IP and port
-    private String myIP = "127.0.0.1";
-    private int myPort = 9901;
-
     @Nullable
     @Override
     public View onCreateView(@NonNull final LayoutInflater inflater,
@@ -123,23 +154,52 @@ public class MainFragment extends Fragment {
         mPitch = view.findViewById(R.id.pitch);
         mRoll = view.findViewById(R.id.roll);
         mYaw = view.findViewById(R.id.yaw);
+        mLatency = view.findViewById(R.id.latency);
+        mSendRate = view.findViewById(R.id.sendRate);
 
         Switch yawEnable = (Switch) view.findViewById(R.id.yawEnable);
         Switch pitchEnable = (Switch) view.findViewById(R.id.pitchEnable);
         Switch rollEnable = (Switch) view.findViewById(R.id.rollEnable);
+        Switch bundleEnable = (Switch) view.findViewById(R.id.bundleEnable);
+        Switch adaptiveRateEnable = (Switch) view.findViewById(R.id.adaptiveRateEnable);
+        Switch statsEnable = (Switch) view.findViewById(R.id.statsEnable);
+        Switch smoothEnable = (Switch) view.findViewById(R.id.smoothEnable);
         yawEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
             public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
                 mYawEnabled = yawEnable.isChecked();
+                mViewModel.axes(mYawEnabled, mPitchEnabled, mRollEnabled);
             }
         });
         pitchEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
             public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
                 mPitchEnabled = pitchEnable.isChecked();
+                mViewModel.axes(mYawEnabled, mPitchEnabled, mRollEnabled);
             }
         });
         rollEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
             public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
                 mRollEnabled = rollEnable.isChecked();
+                mViewModel.axes(mYawEnabled, mPitchEnabled, mRollEnabled);
+            }
+        });
+        bundleEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                mViewModel.bundled(isChecked);
+            }
+        });
+        adaptiveRateEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                mViewModel.oscSender().policy(isChecked ? ADAPTIVE_RATE_POLICY : SendPolicy.UNTHROTTLED);
+            }
+        });
+        statsEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                mViewModel.oscSender().stats(isChecked ? STATS_INTERVAL_MILLIS : 0);
+            }
+        });
+        smoothEnable.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                mViewModel.smoothed(isChecked);
             }
         });
 
@@ -178,16 +238,30 @@ public class MainFragment extends Fragment {
         });
     }
 
+    @Override
+    public void onStart() {
+        super.onStart();
+        mLatency.postDelayed(mLatencyUpdater, STATS_INTERVAL_MILLIS);
+        mDisplayUpdater.start();
+    }
+
+    @Override
+    public void onStop() {
+        mDisplayUpdater.stop();
+        mLatency.removeCallbacks(mLatencyUpdater);
+        super.onStop();
+    }
+
     public void addressChanged() {
-        // the variable OSCPortOut tries to get an instance of OSCPortOut
-        // at the address indicated by mOscAddressInput
-        try {
-            oscPortOut =
-                    new OSCPortOut(InetAddress.getByName(mOscAddressInput.getText().toString()), Integer.parseInt(mOscPortInput.getText().toString()));
-            // if the oscPort variable fails to be instantiated then sent
-            // the error message
-        } catch (Exception e) {
-            showError("Couldn't set new address");
+        // resolve every address listed in mOscAddressInput once typing has paused
+        mResolver.request(mOscAddressInput.getText().toString(), mOscPortInput.getText().toString());
+    }
+
+    private void onResolveFailed(@NonNull final String hosts, @NonNull final Exception error) {
+        Log.w(TAG, "Failed to resolve OSC addresses " + hosts + ": " + error.getMessage());
+        final Activity activity = getActivity();
+        if (activity != null) {
+            activity.runOnUiThread(() -> showError("Couldn't set new address"));
         }
     }
 
@@ -198,9 +272,6 @@ public class MainFragment extends Fragment {
         final Activity activity = requireActivity();
         mProgressBar = activity.findViewById(R.id.progressbar);
 
-        mViewModel = ViewModelProviders.of(this)
-            .get(MainViewModel.class);
-
         mViewModel.busy()
             .observe(this, this::onBusy);
 
@@ -210,12 +281,6 @@ public class MainFragment extends Fragment {
         mViewModel.sensorsSuspended()
             .observe(this, this::onSensorsSuspended);
 
-        mViewModel.accelerometerData()
-            .observe(this, this::onAccelerometerData);
-
-        mViewModel.rotationData()
-            .observe(this, this::onRotationData);
-
         if (mDeviceAddress != null) {
             mViewModel.selectDevice(mDeviceAddress);
         } else if (mUseSimulatedDevice) {
@@ -226,6 +291,7 @@ public class MainFragment extends Fragment {
     @Override
     public void onDestroy() {
         onBusy(false);
+        mResolver.shutdown();
 
         final Snackbar snackbar = mSnackBar;
         mSnackBar = null;
@@ -280,44 +346,18 @@ public class MainFragment extends Fragment {
         mSnackBar = snackbar;
     }
 
-    @SuppressWarnings("PMD.ReplaceVectorWithList") // PMD confuses SDK Vector with java.util.Vector
-    private void onAccelerometerData(@NonNull final SensorValue sensorValue) {
-        final Vector vector = sensorValue.vector();
-    }
-
-    private void onRotationData(@NonNull final SensorValue sensorValue) {
-        final Quaternion quaternion = Quaternion.multiply(sensorValue.quaternion(), TRANSLATION_Q);
-
-        if (mYawEnabled) {
-            mYaw.setText(formatAngle(-quaternion.zRotation()));
-            fYaw = Float.parseFloat(formatDegrees(-quaternion.zRotation()));
-            //Log.d("YFormDebug", "Yaw Formatted: " + formatDegrees(-quaternion.zRotation()));
-            //Log.d("YFinalDebug", "Yaw Final: " + Float.toString(fYaw));
-        } else {
-            mYaw.setText("0°");
-            fYaw = 0.0f;
-        }
-        if (mPitchEnabled) {
-            mPitch.setText(formatAngle(quaternion.xRotation()));
-            fPitch = Float.parseFloat(formatDegrees(quaternion.xRotation()));
-            //Log.d("PFormDebug", "Pitch Formatted: " + formatDegrees(quaternion.xRotation()));
-            //Log.d("PFinalDebug", "Pitch Final: " + Float.toString(fPitch));
-        } else {
-            mPitch.setText("0°");
-            fPitch = 0.0f;
-        }
-        if (mRollEnabled) {
-            mRoll.setText(formatAngle(quaternion.yRotation()));
-            fRoll = Float.parseFloat(formatDegrees(quaternion.yRotation()));
-            //Log.d("RFormDebug", "Roll Formatted: " + formatDegrees(-quaternion.yRotation()));
-            //Log.d("RFinalDebug", "Roll Final: " + Float.toString(fRoll));
-        } else {
-            mRoll.setText("0°");
-            fRoll = 0.0f;
+    /**
+     * Shows the most recently published angles, if they changed since the last frame.
+     */
+    private void updateAngles() {
+        final long shown = mDisplayed.sequence();
+        if (mViewModel.oscSender().snapshot().read(mDisplayed) == shown) {
+            return;
         }
-        fLastYaw = fYaw;
-        fLastPitch = fPitch;
-        fLastRoll = fRoll;
+
+        mYaw.setText(mYawText, 0, DecimalFormatter.format(mDisplayed.yaw(), 2, DEGREE_SIGN, mYawText));
+        mPitch.setText(mPitchText, 0, DecimalFormatter.format(mDisplayed.pitch(), 2, DEGREE_SIGN, mPitchText));
+        mRoll.setText(mRollText, 0, DecimalFormatter.format(mDisplayed.roll(), 2, DEGREE_SIGN, mRollText));
     }
 
     private void showError(final String message) {
@@ -334,77 +374,4 @@ public class MainFragment extends Fragment {
     private static float mapValue(float input, float in_min, float in_max, float out_min, float out_max){
         return (input - in_min) * (out_max - out_min) / (in_max - in_min) + out_min;
     }
-
-    private static String formatValue(final double value) {
-        return String.format(Locale.US, "%.3f", value);
-    }
-
-    private static String formatDegrees(final double radians) {
-        final double degrees = radians * 180 / Math.PI;
-        return String.format(Locale.US,"%.3f", degrees);
-    }
-
-    private static String formatAngle(final double radians) {
-        final double degrees = radians * 180 / Math.PI;
-        return String.format(Locale.US, "%.2f°", degrees);
-    }
-
-    private static String formatAngleText(final double degrees) {
-        return String.format(Locale.US, "%.2f°", degrees);
-    }
-
-    // This thread will contain all the code that pertains to OSC
-    private Thread oscThread = new Thread() {
-        @Override
-        public void run() {
-            /* The first part of the run() method initializes the OSCPortOut for sending messages.
-             */
-
-//            try {
-//                // Connect to some IP address and port
-//                oscPortOut = new OSCPortOut(InetAddress.getByName(myIP), myPort);
-//            } catch(UnknownHostException e) {
-//                // Error handling when your IP isn't found
-//                return;
-//            } catch(Exception e) {
-//                // Error handling for any other errors
-//                return;
-//            }
-
-            /* The second part of the run() method loops infinitely and sends messages every 10
-             * milliseconds.
-             */
-            while (true) {
-                if ((oscPortOut != null) && (fLastYaw != fYaw || fLastPitch != fPitch || fLastRoll != fRoll)) {
-                    // Creating the message
-                    List<Object> orientationOSC = new ArrayList<Object>();
-                    orientationOSC.add(fYaw);
-                    orientationOSC.add(fPitch);
-                    orientationOSC.add(fRoll);
-
-                    /* The version of JavaOSC from the Maven Repository is slightly different from the one
-                     * from the download link on the main website at the time of writing this tutorial.
-                     *
-                     * The Maven Repository version (used here), takes a Collection, which is why we need
-                     * Arrays.asList(thingsToSend).
-                     *
-                     * If you're using the downloadable version for some reason, you should switch the
-                     * commented and uncommented lines for message below
-                     */
-                    OSCMessage message = new OSCMessage("/orientation", orientationOSC);
-                    //Log.d("OSCMessage", "OSC Address: " + message.getAddress().toString() + " | OSC Contents: " + message.getArguments().toString());
-
-                    try {
-                        // Send the messages
-                        oscPortOut.send(message);
-
-                        // Pause for half a second
-                        sleep(10);
-                    } catch (Exception e) {
-                        // Error handling for some error
-                    }
-                }
-            }
-        }
-    };
 }
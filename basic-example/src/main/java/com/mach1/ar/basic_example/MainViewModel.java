@@ -9,6 +9,8 @@ package com.mach1.ar.basic_example;
 //
 
 import android.annotation.TargetApi;
+import android.os.Process;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -26,29 +28,38 @@ import com.bose.wearable.BoseWearableException;
 import com.bose.wearable.WearableDeviceException;
 import com.bose.wearable.sensordata.GestureIntent;
 import com.bose.wearable.sensordata.SensorIntent;
-import com.bose.wearable.sensordata.SensorValue;
 import com.bose.wearable.services.wearablesensor.SamplePeriod;
 import com.bose.wearable.services.wearablesensor.SensorConfiguration;
 import com.bose.wearable.services.wearablesensor.SensorType;
 import com.bose.wearable.services.wearablesensor.SensorsSuspensionReason;
 import com.bose.wearable.wearabledevice.BaseWearableDeviceListener;
 import com.bose.wearable.wearabledevice.WearableDevice;
-import com.bose.wearable.wearabledevice.WearableDeviceListener;
+import com.mach1.ar.sensor_android.DeviceSensorSource;
+import com.mach1.ar.sensor_android.SensorThread;
+import com.mach1.ar.sensor_android.SimulatedSensorSource;
+import com.mach1.ar.sensor_core.OrientationPipeline;
+import com.mach1.ar.sensor_core.osc.OrientationSender;
+import com.mach1.ar.sensor_core.osc.OscDestination;
+import com.mach1.ar.sensor_core.osc.OscFormat;
+import com.mach1.ar.sensor_core.source.SensorSource;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ThreadFactory;
 
 @TargetApi(BoseWearable.MINIMUM_SUPPORTED_OS_VERSION)
 public class MainViewModel extends ViewModel {
+    private static final String TAG = MainViewModel.class.getSimpleName();
     private static final SamplePeriod SAMPLE_PERIOD = SamplePeriod._20_MS;
+    // OSC send threads run at audio priority so that frames leave the device promptly
+    private static final ThreadFactory OSC_THREADS = runnable -> new Thread(() -> {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_URGENT_AUDIO);
+        runnable.run();
+    });
 
     @NonNull
     private final BoseWearable mBoseWearable;
     @NonNull
-    private final MutableLiveData<SensorValue> mAccelerometerData = new MutableLiveData<>();
-    @NonNull
-    private final MutableLiveData<SensorValue> mRotationData = new MutableLiveData<>();
-    @NonNull
     private final MutableLiveData<Boolean> mBusy = new MutableLiveData<>();
     @NonNull
     private final MutableLiveData<Event<DeviceException>> mErrors = new MutableLiveData<>();
@@ -59,31 +70,64 @@ public class MainViewModel extends ViewModel {
     private boolean mSimulatedDevice;
     @Nullable
     private Session mSession;
+    // Delivers the samples of the connected or simulated device to the pipeline
+    @Nullable
+    private SensorSource mSource;
 
-    private final WearableDeviceListener mSensorDataListener = new BaseWearableDeviceListener() {
-        @Override
-        public void onSensorDataRead(@NonNull final SensorValue sensorValue) {
-            switch (sensorValue.sensorType()) {
-                case ACCELEROMETER:
-                    mAccelerometerData.setValue(sensorValue);
-                    break;
-                case ROTATION_VECTOR:
-                    mRotationData.setValue(sensorValue);
-                    break;
-            }
-        }
-    };
+    // Samples are converted and sent on the sensor thread; the UI only sees the latest ones
+    private final OrientationSender mOscSender = new OrientationSender(OSC_THREADS);
+    private final OrientationPipeline mPipeline = new OrientationPipeline(
+        SensorType.ROTATION_VECTOR.ordinal(), SensorType.ACCELEROMETER.ordinal(), mOscSender::publish);
+    private final SensorThread mSensorThread = new SensorThread(TAG);
 
     public MainViewModel() {
         mBoseWearable = BoseWearable.getInstance();
+        mOscSender.start();
     }
 
     @Override
     protected void onCleared() {
         stopSession();
+        mSensorThread.quit();
+
+        for (final OscDestination destination : mOscSender.destinations()) {
+            Log.d(TAG, "OSC " + destination);
+        }
+        mOscSender.stop();
         super.onCleared();
     }
 
+    /**
+     * @return the sender the orientation of the selected device is published to. Its snapshot
+     * holds the latest angles for display.
+     */
+    @NonNull
+    public OrientationSender oscSender() {
+        return mOscSender;
+    }
+
+    /**
+     * Disabled angles are sent and shown as zero.
+     */
+    public void axes(final boolean yaw, final boolean pitch, final boolean roll) {
+        mPipeline.axes(yaw, pitch, roll);
+    }
+
+    /**
+     * @param bundled {@code true} to send each orientation bundled with its acceleration
+     */
+    public void bundled(final boolean bundled) {
+        mSensorThread.post(() -> mPipeline.bundled(bundled));
+        mOscSender.format(bundled ? OscFormat.BUNDLE : OscFormat.MESSAGE);
+    }
+
+    /**
+     * @param smoothed {@code true} to smooth the orientation before sending it
+     */
+    public void smoothed(final boolean smoothed) {
+        mSensorThread.post(() -> mPipeline.smoothed(smoothed));
+    }
+
     public DiscoveredDevice selectedDevice() {
         return mSelectedDevice;
     }
@@ -114,13 +158,20 @@ public class MainViewModel extends ViewModel {
             return;
         }
 
-        if (mSession != null) {
-            mSession.close();
-        }
+        stopSession();
 
         mSelectedDevice = null;
         mSimulatedDevice = true;
-        onSessionCreated(mBoseWearable.createSimulatedSession());
+
+        final SimulatedSensorSource source =
+            new SimulatedSensorSource(SAMPLE_PERIOD, mSensorThread.looper());
+        source.errorListener(exception -> {
+            mSimulatedDevice = false;
+            stopSource();
+
+            mErrors.setValue(new Event<>(exception));
+        });
+        startSource(source);
     }
 
     private void onSessionCreated(@NonNull final Session session) {
@@ -173,14 +224,6 @@ public class MainViewModel extends ViewModel {
         return mSensorsSuspended;
     }
 
-    public LiveData<SensorValue> accelerometerData() {
-        return mAccelerometerData;
-    }
-
-    public LiveData<SensorValue> rotationData() {
-        return mRotationData;
-    }
-
     public static SensorIntent sensorIntent() {
         final Set<SensorType> sensorTypes = new ArraySet<>(2);
         sensorTypes.add(SensorType.ACCELEROMETER);
@@ -229,14 +272,12 @@ public class MainViewModel extends ViewModel {
             .enableSensor(SensorType.ACCELEROMETER, SAMPLE_PERIOD)
             .enableSensor(SensorType.ROTATION_VECTOR, SAMPLE_PERIOD);
 
-        wearableDevice.addListener(mSensorDataListener);
+        startSource(new DeviceSensorSource(wearableDevice, mSensorThread.looper()));
         wearableDevice.changeSensorConfiguration(sensorConfiguration);
     }
 
     private void stopMonitoring(@NonNull final WearableDevice wearableDevice,
                                 @NonNull final Runnable onCompleted) {
-        wearableDevice.removeListener(mSensorDataListener);
-
         wearableDevice.addListener(new BaseWearableDeviceListener() {
             @Override
             public void onSensorConfigurationRead(@NonNull final SensorConfiguration sensorConfiguration) {
@@ -259,7 +300,33 @@ public class MainViewModel extends ViewModel {
         wearableDevice.changeSensorConfiguration(sensorConfiguration);
     }
 
+    /**
+     * Delivers the samples of {@code source} to the pipeline on the sensor thread.
+     */
+    private void startSource(@NonNull final SensorSource source) {
+        stopSource();
+
+        // The device may not be the one the pipeline saw last; its timestamps start over
+        final int samplePeriodMillis = SAMPLE_PERIOD.milliseconds();
+        mSensorThread.post(() -> {
+            mPipeline.reset();
+            mPipeline.samplePeriodMillis(samplePeriodMillis);
+        });
+        mSource = source;
+        source.start(mPipeline);
+    }
+
+    private void stopSource() {
+        final SensorSource source = mSource;
+        if (source != null) {
+            mSource = null;
+            source.stop();
+        }
+    }
+
     private void stopSession() {
+        stopSource();
+
         final Session session = mSession;
         if (session == null) {
             return;
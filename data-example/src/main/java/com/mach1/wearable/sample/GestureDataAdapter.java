@@ -10,22 +10,47 @@ package com.mach1.wearable.sample;
 
 import android.view.ViewGroup;
 
+import com.mach1.ar.sensor_core.GestureLog;
 import com.mach1.wearable.sample.viewholders.ValueViewHolder;
-import com.mach1.wearable.sample.viewmodels.GestureEvent;
-import com.bose.wearable.sensordata.GestureData;
+import com.bose.wearable.services.wearablesensor.GestureType;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Date;
 import java.util.Locale;
 
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
-public class GestureDataAdapter extends RecyclerView.Adapter<ValueViewHolder> {
+/**
+ * Shows the events of a {@link GestureLog}, reading them a page at a time and rebinding only the
+ * rows the log reports as inserted or removed.
+ */
+public class GestureDataAdapter extends RecyclerView.Adapter<ValueViewHolder> implements GestureLog.Listener {
     private static final DateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss", Locale.US);
-    private final List<GestureEvent> mData = new ArrayList<>();
+    private static final int PAGE_SIZE = 64;
+    private static final GestureType[] GESTURE_TYPES = GestureType.values();
+
+    private final GestureLog mLog;
+    private final GestureLog.Page mPage = new GestureLog.Page(PAGE_SIZE);
+    private final Date mDate = new Date();
+
+    public GestureDataAdapter(@NonNull final GestureLog log) {
+        mLog = log;
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull final RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        mPage.invalidate();
+        mLog.listener(this);
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull final RecyclerView recyclerView) {
+        mLog.listener(null);
+        super.onDetachedFromRecyclerView(recyclerView);
+    }
 
     @NonNull
     @Override
@@ -38,32 +63,33 @@ public class GestureDataAdapter extends RecyclerView.Adapter<ValueViewHolder> {
     @Override
     public void onBindViewHolder(@NonNull final ValueViewHolder holder,
                                  final int position) {
-        final GestureEvent event = mData.get(position);
-        final GestureData gestureData = event.gestureData();
-        final String time = TIME_FORMAT.format(event.date());
+        if (!mPage.contains(position)) {
+            // Centre the page on the row, so scrolling either way stays within it for a while
+            mLog.read(Math.max(0, position - PAGE_SIZE / 2), mPage);
+        }
 
-        final String value = String.format(Locale.US, "%d (%s)", gestureData.timestamp(), time);
-        holder.bind(gestureData.type().toString(), value);
+        final int type = mPage.type(position);
+        mDate.setTime(mPage.timeMillis(position));
+        final String time = TIME_FORMAT.format(mDate);
+
+        final String value = String.format(Locale.US, "%d (%s)", mPage.deviceTimestamp(position), time);
+        holder.bind(type >= 0 && type < GESTURE_TYPES.length ? GESTURE_TYPES[type].toString() : "?", value);
     }
 
     @Override
     public int getItemCount() {
-        return mData.size();
+        return mLog.size();
     }
 
-    public void addGestureEvent(@NonNull final GestureEvent gestureEvent) {
-        mData.add(gestureEvent);
-        notifyItemInserted(getItemCount() - 1);
-    }
-
-    public void replace(@NonNull final List<GestureEvent> events) {
-        mData.clear();
-        mData.addAll(events);
-        notifyDataSetChanged();
+    @Override
+    public void onInserted(final int position, final int count) {
+        mPage.invalidate();
+        notifyItemRangeInserted(position, count);
     }
 
-    public void clear() {
-        mData.clear();
-        notifyDataSetChanged();
+    @Override
+    public void onRemoved(final int position, final int count) {
+        mPage.invalidate();
+        notifyItemRangeRemoved(position, count);
     }
 }
@@ -17,9 +17,10 @@ import android.view.View;
 import android.view.ViewGroup;
 
 import com.bose.wearable.sample.R;
-import com.mach1.wearable.sample.viewmodels.GestureEvent;
 import com.mach1.wearable.sample.viewmodels.SessionViewModel;
 
+import java.io.File;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
@@ -27,6 +28,8 @@ import androidx.lifecycle.ViewModelProviders;
 import androidx.recyclerview.widget.RecyclerView;
 
 public class GestureDataFragment extends Fragment {
+    private static final String GESTURE_SPILL_FILE = "gestures.log";
+
     @SuppressWarnings("PMD.SingularField") // Need to keep a reference to it so it does not get GC'd
     private SessionViewModel mViewModel;
     private RecyclerView mRecyclerView;
@@ -51,8 +54,6 @@ public class GestureDataFragment extends Fragment {
         super.onViewCreated(view, savedInstanceState);
 
         mRecyclerView = view.findViewById(R.id.list);
-        mAdapter = new GestureDataAdapter();
-        mRecyclerView.setAdapter(mAdapter);
     }
 
     @Override
@@ -60,16 +61,23 @@ public class GestureDataFragment extends Fragment {
         super.onActivityCreated(savedInstanceState);
 
         mViewModel = ViewModelProviders.of(requireActivity()).get(SessionViewModel.class);
-        mViewModel.gestureEvents()
-            .observe(this, event -> {
-                final GestureEvent gestureEvent = event.get();
-                if (gestureEvent != null) {
-                    mAdapter.addGestureEvent(gestureEvent);
-                    mRecyclerView.scrollToPosition(mAdapter.getItemCount() - 1);
-                }
-            });
-
-        mAdapter.replace(mViewModel.gestures());
+        mViewModel.spillGestures(new File(requireContext().getCacheDir(), GESTURE_SPILL_FILE));
+
+        mAdapter = new GestureDataAdapter(mViewModel.gestureLog());
+        mAdapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onItemRangeInserted(final int positionStart, final int itemCount) {
+                mRecyclerView.scrollToPosition(mAdapter.getItemCount() - 1);
+            }
+        });
+        mRecyclerView.setAdapter(mAdapter);
+    }
+
+    @Override
+    public void onDestroyView() {
+        // Stops the adapter listening to the log, which outlives this view
+        mRecyclerView.setAdapter(null);
+        super.onDestroyView();
     }
 
     @Override
@@ -82,7 +90,6 @@ public class GestureDataFragment extends Fragment {
         switch (item.getItemId()) {
             case R.id.clear:
                 mViewModel.clearGestures();
-                mAdapter.clear();
                 return true;
             default:
                 return super.onOptionsItemSelected(item);
@@ -12,7 +12,11 @@ import android.app.Activity;
 import android.content.Intent;
 import android.os.Bundle;
 import android.util.ArrayMap;
+import android.util.Log;
 import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
@@ -27,6 +31,8 @@ import androidx.lifecycle.OnLifecycleEvent;
 import androidx.lifecycle.ViewModelProviders;
 
 import com.bose.wearable.sample.R;
+import com.mach1.ar.sensor_android.LifecycleChannelObserver;
+import com.mach1.ar.sensor_core.SensorChannel;
 import com.mach1.wearable.sample.dialogs.SamplePeriodDialog;
 import com.mach1.wearable.sample.viewmodels.SessionViewModel;
 import com.mach1.wearable.sample.views.SensorDataQuaternionView;
@@ -38,8 +44,13 @@ import com.bose.wearable.services.wearablesensor.SensorConfiguration;
 import com.bose.wearable.services.wearablesensor.SensorInformation;
 import com.bose.wearable.services.wearablesensor.SensorType;
 
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static androidx.lifecycle.Lifecycle.Event.ON_PAUSE;
@@ -47,7 +58,9 @@ import static androidx.lifecycle.Lifecycle.Event.ON_RESUME;
 
 @SuppressWarnings("PMD.UseConcurrentHashMap") // All Maps are used from UI thread only
 public class SensorDataFragment extends Fragment {
+    private static final String TAG = SensorDataFragment.class.getSimpleName();
     private static final int REQUEST_CODE_SAMPLE_PERIOD = 1;
+    private static final String RECORDINGS_DIRECTORY = "recordings";
 
     private SessionViewModel mViewModel;
     @Nullable
@@ -56,7 +69,13 @@ public class SensorDataFragment extends Fragment {
     private TextView mSamplePeriodText;
     private Button mSamplePeriodButton;
     private final Map<SensorType, SensorDataVectorView> mSensorViews = new HashMap<>();
-    private final Map<SensorType, ObservedRateUpdater> mRateUpdaters = new ArrayMap<>();
+    private final Map<SensorType, SensorStatsUpdater> mStatsUpdaters = new ArrayMap<>();
+
+    @Override
+    public void onCreate(@Nullable final Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setHasOptionsMenu(true);
+    }
 
     @Nullable
     @Override
@@ -89,38 +108,31 @@ public class SensorDataFragment extends Fragment {
         mViewModel.wearableSensorConfiguration()
             .observe(this, this::onSensorConfRead);
 
-        mViewModel.accelerometerData()
-            .observe(this, this::onSensorData);
-
-        mViewModel.gyroscopeData()
-            .observe(this, this::onSensorData);
-
-        mViewModel.rotationVectorData()
-            .observe(this, this::onSensorData);
-
-        mViewModel.gameRotationData()
-            .observe(this, this::onSensorData);
-
-        mViewModel.orientationData()
-            .observe(this, this::onSensorData);
-
-        mViewModel.magnetometerData()
-            .observe(this, this::onSensorData);
+        // The views only show the newest sample, so anything newer replaces what is waiting
+        for (final SensorChannel<SensorValue> channel : Arrays.asList(mViewModel.accelerometerData(),
+                                                                       mViewModel.gyroscopeData(),
+                                                                       mViewModel.rotationVectorData(),
+                                                                       mViewModel.gameRotationData(),
+                                                                       mViewModel.orientationData(),
+                                                                       mViewModel.magnetometerData(),
+                                                                       mViewModel.uncalibratedMagnetometerData())) {
+            LifecycleChannelObserver.observe(this, channel, SensorChannel.Delivery.LATEST, this::onSensorData);
+        }
 
-        mViewModel.uncalibratedMagnetometerData()
-            .observe(this, this::onSensorData);
+        mViewModel.recording()
+            .observe(this, isRecording -> requireActivity().invalidateOptionsMenu());
 
         updateSamplePeriod(mViewModel.sensorSamplePeriod());
 
         final LifecycleObserver lifecycleObserver = new LifecycleObserver() {
             @OnLifecycleEvent(ON_RESUME)
             void onResume() {
-                resumeRateUpdaters();
+                resumeStatsUpdaters();
             }
 
             @OnLifecycleEvent(ON_PAUSE)
             void onPausee() {
-                stopRateUpdaters();
+                stopStatsUpdaters();
             }
         };
 
@@ -148,9 +160,50 @@ public class SensorDataFragment extends Fragment {
         }
     }
 
+    @Override
+    public void onCreateOptionsMenu(final Menu menu, final MenuInflater inflater) {
+        inflater.inflate(R.menu.sensor_data_menu, menu);
+    }
+
+    @Override
+    public void onPrepareOptionsMenu(final Menu menu) {
+        final boolean isRecording = mViewModel != null && Boolean.TRUE.equals(mViewModel.recording().getValue());
+        menu.findItem(R.id.record)
+            .setTitle(isRecording ? R.string.stop_recording : R.string.start_recording);
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(final MenuItem item) {
+        switch (item.getItemId()) {
+            case R.id.record:
+                if (Boolean.TRUE.equals(mViewModel.recording().getValue())) {
+                    mViewModel.stopRecording();
+                } else {
+                    mViewModel.startRecording(recordingFile());
+                }
+                return true;
+            default:
+                return super.onOptionsItemSelected(item);
+        }
+    }
+
+    @NonNull
+    private File recordingFile() {
+        File directory = requireContext().getExternalFilesDir(RECORDINGS_DIRECTORY);
+        if (directory == null) {
+            directory = new File(requireContext().getFilesDir(), RECORDINGS_DIRECTORY);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "Failed to create " + directory);
+        }
+
+        final String name = new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(new Date());
+        return new File(directory, "session-" + name + ".m1s");
+    }
+
     private void onSensorInfoRead(@NonNull final SensorInformation sensorInformation) {
-        stopRateUpdaters();
-        mRateUpdaters.clear();
+        stopStatsUpdaters();
+        mStatsUpdaters.clear();
 
         mSensorViews.clear();
         mContainer.removeAllViews();
@@ -179,8 +232,9 @@ public class SensorDataFragment extends Fragment {
             if (vectorView != null) {
                 vectorView.sensorType(sensorType);
 
-                final ObservedRateUpdater rateUpdater = new ObservedRateUpdater(vectorView::frequency);
-                mRateUpdaters.put(sensorType, rateUpdater);
+                final SensorStatsUpdater statsUpdater =
+                    new SensorStatsUpdater(mViewModel.stats(sensorType), vectorView::stats);
+                mStatsUpdaters.put(sensorType, statsUpdater);
 
                 final boolean sensorEnabled = mViewModel.sensorEnabled(sensorType);
 
@@ -190,7 +244,7 @@ public class SensorDataFragment extends Fragment {
                 mContainer.addView(vectorView);
 
                 if (sensorEnabled) {
-                    rateUpdater.start();
+                    statsUpdater.start();
                 }
             }
         }
@@ -224,11 +278,11 @@ public class SensorDataFragment extends Fragment {
             return false;
         }
 
-        final ObservedRateUpdater rateUpdater = mRateUpdaters.get(sensorType);
+        final SensorStatsUpdater statsUpdater = mStatsUpdaters.get(sensorType);
         if (isEnabled) {
-            rateUpdater.start();
+            statsUpdater.start();
         } else {
-            rateUpdater.stop();
+            statsUpdater.stop();
         }
 
         mViewModel.enableSensor(sensorType, isEnabled ? mSamplePeriod.milliseconds() : 0);
@@ -250,24 +304,19 @@ public class SensorDataFragment extends Fragment {
         if (view != null) {
             view.sensorValue(sensorValue);
         }
-
-        final ObservedRateUpdater rateUpdater = mRateUpdaters.get(sensorType);
-        if (rateUpdater != null) {
-            rateUpdater.updateReceived();
-        }
     }
 
-    private void resumeRateUpdaters() {
-        for (final Map.Entry<SensorType, ObservedRateUpdater> entry : mRateUpdaters.entrySet()) {
+    private void resumeStatsUpdaters() {
+        for (final Map.Entry<SensorType, SensorStatsUpdater> entry : mStatsUpdaters.entrySet()) {
             if (mViewModel.sensorEnabled(entry.getKey())) {
                 entry.getValue().start();
             }
         }
     }
 
-    private void stopRateUpdaters() {
-        for (final ObservedRateUpdater rateUpdater : mRateUpdaters.values()) {
-            rateUpdater.stop();
+    private void stopStatsUpdaters() {
+        for (final SensorStatsUpdater statsUpdater : mStatsUpdaters.values()) {
+            statsUpdater.stop();
         }
     }
 }
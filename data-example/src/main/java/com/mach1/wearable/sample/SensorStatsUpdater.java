@@ -0,0 +1,66 @@
+package com.mach1.wearable.sample;
+
+//
+//  SensorStatsUpdater.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.os.Handler;
+import android.os.Message;
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.SensorStats;
+
+/**
+ * Reports the arrival statistics of one sensor once a second, on the main thread.
+ */
+public class SensorStatsUpdater implements Handler.Callback {
+    private static final long INTERVAL_MILLIS = 1000;
+
+    private final Handler mHandler;
+    private final SensorStats.Window mWindow;
+    private final Listener mListener;
+    private boolean mStarted;
+
+    interface Listener {
+        void onStatsUpdated(@NonNull SensorStats.Window window);
+    }
+
+    public SensorStatsUpdater(@NonNull final SensorStats stats, @NonNull final Listener listener) {
+        mHandler = new Handler(this);
+        mWindow = stats.window();
+        mListener = listener;
+    }
+
+    public void start() {
+        if (mStarted) {
+            return;
+        }
+
+        mStarted = true;
+        // Leaves out what arrived while stopped
+        mWindow.update(System.nanoTime());
+        mHandler.sendEmptyMessageDelayed(0, INTERVAL_MILLIS);
+    }
+
+    public void stop() {
+        mHandler.removeMessages(0);
+        mStarted = false;
+    }
+
+    @Override
+    public boolean handleMessage(final Message message) {
+        // Same clock as the arrival times recorded by SensorThread
+        mWindow.update(System.nanoTime());
+        mListener.onStatsUpdated(mWindow);
+
+        if (mStarted) {
+            mHandler.sendEmptyMessageDelayed(0, INTERVAL_MILLIS);
+        }
+
+        return true;
+    }
+}
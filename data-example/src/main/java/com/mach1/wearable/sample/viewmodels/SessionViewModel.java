@@ -10,6 +10,7 @@ package com.mach1.wearable.sample.viewmodels;
 
 import android.annotation.TargetApi;
 import android.os.Handler;
+import android.os.Process;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -42,17 +43,41 @@ import com.bose.wearable.services.wearablesensor.WearableDeviceInformation;
 import com.bose.wearable.wearabledevice.DeviceProperties;
 import com.bose.wearable.wearabledevice.WearableDevice;
 import com.bose.wearable.wearabledevice.WearableDeviceListener;
-
-import java.util.ArrayList;
+import com.mach1.ar.sensor_android.SensorSamples;
+import com.mach1.ar.sensor_android.SensorThread;
+import com.mach1.ar.sensor_core.GestureLog;
+import com.mach1.ar.sensor_core.SensorChannel;
+import com.mach1.ar.sensor_core.SensorHistory;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+import com.mach1.ar.sensor_core.SensorStats;
+import com.mach1.ar.sensor_core.recording.SessionRecorder;
+
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 @TargetApi(BoseWearable.MINIMUM_SUPPORTED_OS_VERSION)
 public class SessionViewModel extends ViewModel implements WearableDeviceListener {
     private static final String TAG = SessionViewModel.class.getSimpleName();
     private static final int REFRESH_TIMEOUT = 3000; // In milliseconds
+    // Sensor history covers this long at the fastest sample period, 5 ms
+    private static final int HISTORY_SECONDS = 10;
+    private static final int HISTORY_MAX_RATE_HZ = 200;
+    // Gestures kept in memory and, once the list is shown, in a file; and for how long
+    private static final int GESTURE_LOG_CAPACITY = 256;
+    private static final int GESTURE_SPILL_CAPACITY = 64 * 1024;
+    private static final long GESTURE_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(8);
+    private static final ThreadFactory RECORDER_THREADS = runnable -> new Thread(() -> {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        runnable.run();
+    });
 
     private final MutableLiveData<ConnectionState> mConnectionState = new MutableLiveData<>();
     private final MutableLiveData<DeviceInformation> mDeviceInfo = new MutableLiveData<>();
@@ -64,15 +89,35 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
     private final MutableLiveData<Boolean> mSensorsSuspended = new MutableLiveData<>();
 
     // Sensor data
-    private final MutableLiveData<SensorValue> mAccelerometerData = new MutableLiveData<>();
-    private final MutableLiveData<SensorValue> mGyroscopeData = new MutableLiveData<>();
-    private final MutableLiveData<SensorValue> mRotationVectorData = new MutableLiveData<>();
-    private final MutableLiveData<SensorValue> mGameRotationData = new MutableLiveData<>();
-    private final MutableLiveData<SensorValue> mOrientationData = new MutableLiveData<>();
-    private final MutableLiveData<SensorValue> mMagnetometerData = new MutableLiveData<>();
-    private final MutableLiveData<SensorValue> mUncalibratedMagnetometerData = new MutableLiveData<>();
-    private final MutableLiveData<Event<GestureEvent>> _mGestureEvents = new MutableLiveData<>();
-    private final List<GestureEvent> mGestureEvents = new ArrayList<>();
+    // Recent samples per sensor type, written on the sensor thread
+    private final SensorHistory[] mHistories = new SensorHistory[SensorType.values().length];
+    private final SensorStats[] mStats = new SensorStats[SensorType.values().length];
+    private final SensorSampleListener mHistoryListener = new SensorSampleListener() {
+        @Override
+        public void onSensorSample(final int type,
+                                   final int deviceTimestamp,
+                                   final long receiveNanos,
+                                   final float x,
+                                   final float y,
+                                   final float z,
+                                   final float w,
+                                   final float accuracy) {
+            mHistories[type].add(deviceTimestamp, receiveNanos, x, y, z, w, accuracy);
+        }
+
+        @Override
+        public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+            // Gestures are kept in mGestureLog
+        }
+    };
+    private final SensorChannel<SensorValue> mAccelerometerData = new SensorChannel<>();
+    private final SensorChannel<SensorValue> mGyroscopeData = new SensorChannel<>();
+    private final SensorChannel<SensorValue> mRotationVectorData = new SensorChannel<>();
+    private final SensorChannel<SensorValue> mGameRotationData = new SensorChannel<>();
+    private final SensorChannel<SensorValue> mOrientationData = new SensorChannel<>();
+    private final SensorChannel<SensorValue> mMagnetometerData = new SensorChannel<>();
+    private final SensorChannel<SensorValue> mUncalibratedMagnetometerData = new SensorChannel<>();
+    private final GestureLog mGestureLog = new GestureLog(GESTURE_LOG_CAPACITY, GESTURE_RETENTION_MILLIS);
 
     private final MutableLiveData<Boolean> mFocus = new MutableLiveData<>();
     @NonNull
@@ -81,12 +126,42 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
     private final MutableLiveData<Event<DeviceException>> mErrors = new MutableLiveData<>();
     private final MutableLiveData<Boolean> mBusy = new MutableLiveData<>();
 
+    // Recording
+    private final MutableLiveData<Boolean> mRecording = new MutableLiveData<>();
+    private final SensorSamples mSamples = new SensorSamples();
+    @Nullable
+    private volatile SessionRecorder mRecorder;
+    // Opens and closes recordings in order, off the main thread: both map, truncate and flush files
+    private final ExecutorService mRecorderFiles = Executors.newSingleThreadExecutor(RECORDER_THREADS);
+
+    // Sensor data is recorded and published on this thread; the UI chooses which samples it sees
+    private final SensorThread mSensorThread = new SensorThread(TAG, new SensorThread.Listener() {
+        @Override
+        public void onSensorData(@NonNull final SensorValue value, final long receiveNanos) {
+            SessionViewModel.this.onSensorData(value, receiveNanos);
+        }
+
+        @Override
+        public void onGestureData(@NonNull final GestureData gestureData, final long receiveNanos) {
+            final SessionRecorder recorder = mRecorder;
+            if (recorder != null) {
+                mSamples.dispatch(gestureData, receiveNanos, recorder);
+            }
+        }
+    });
+
     private final Handler mHandler = new Handler();
     private final Queue<PendingOp> mPendingOps = new LinkedList<>();
 
     public SessionViewModel() {
+        for (int i = 0; i < mHistories.length; i++) {
+            mHistories[i] = SensorHistory.forDuration(HISTORY_SECONDS, HISTORY_MAX_RATE_HZ);
+            mStats[i] = new SensorStats();
+        }
+
         mConnectionState.setValue(ConnectionState.IDLE);
         mBusy.setValue(false);
+        mRecording.setValue(false);
 
         if (BoseWearable.getInstance().focusMode() == FocusMode.MANUAL) {
             final LiveData<Boolean> uniqueFocus = LiveDataUtil.distinctUntilChanged(mFocus);
@@ -99,7 +174,11 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
 
     @Override
     protected void onCleared() {
+        stopRecording();
+        mRecorderFiles.shutdown();
         stopSession();
+        mSensorThread.quit();
+        mGestureLog.close();
         super.onCleared();
     }
 
@@ -117,6 +196,13 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
                 final ConnectionState.Connected state = new ConnectionState.Connected(destination, session);
                 final WearableDevice wd = state.device();
                 wd.addListener(SessionViewModel.this);
+                // Timestamps of this device have nothing to do with the previous one's
+                mSensorThread.post(() -> {
+                    for (final SensorStats stats : mStats) {
+                        stats.reset();
+                    }
+                });
+                wd.addListener(mSensorThread);
 
                 mDeviceInfo.setValue(wd.deviceInformation());
                 mDeviceProperties.setValue(wd.deviceProperties());
@@ -361,31 +447,49 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
         }
     }
 
-    public LiveData<SensorValue> accelerometerData() {
+    /**
+     * @return arrival statistics of {@code sensorType}, recorded on the sensor thread. Unlike
+     * the data channels, these include samples the UI never sees.
+     */
+    @NonNull
+    public SensorStats stats(@NonNull final SensorType sensorType) {
+        return mStats[sensorType.ordinal()];
+    }
+
+    /**
+     * @return the last samples received for {@code sensorType}, for reading with
+     * {@link SensorHistory#snapshot(SensorHistory.Snapshot)} from any thread
+     */
+    @NonNull
+    public SensorHistory history(@NonNull final SensorType sensorType) {
+        return mHistories[sensorType.ordinal()];
+    }
+
+    public SensorChannel<SensorValue> accelerometerData() {
         return mAccelerometerData;
     }
 
-    public LiveData<SensorValue> gyroscopeData() {
+    public SensorChannel<SensorValue> gyroscopeData() {
         return mGyroscopeData;
     }
 
-    public LiveData<SensorValue> rotationVectorData() {
+    public SensorChannel<SensorValue> rotationVectorData() {
         return mRotationVectorData;
     }
 
-    public LiveData<SensorValue> gameRotationData() {
+    public SensorChannel<SensorValue> gameRotationData() {
         return mGameRotationData;
     }
 
-    public LiveData<SensorValue> orientationData() {
+    public SensorChannel<SensorValue> orientationData() {
         return mOrientationData;
     }
 
-    public LiveData<SensorValue> magnetometerData() {
+    public SensorChannel<SensorValue> magnetometerData() {
         return mMagnetometerData;
     }
 
-    public LiveData<SensorValue> uncalibratedMagnetometerData() {
+    public SensorChannel<SensorValue> uncalibratedMagnetometerData() {
         return mUncalibratedMagnetometerData;
     }
 
@@ -433,16 +537,77 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
         }
     }
 
-    public List<GestureEvent> gestures() {
-        return mGestureEvents;
+    /**
+     * @return gestures received in this session. Must be used on the main thread.
+     */
+    @NonNull
+    public GestureLog gestureLog() {
+        return mGestureLog;
+    }
+
+    /**
+     * Keeps gestures that no longer fit in memory in {@code file} instead of dropping them.
+     * Does nothing if they are already kept in a file.
+     */
+    public void spillGestures(@NonNull final File file) {
+        if (mGestureLog.spilling()) {
+            return;
+        }
+
+        try {
+            mGestureLog.spillTo(file, GESTURE_SPILL_CAPACITY);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to open " + file, e);
+        }
     }
 
     public void clearGestures() {
-        mGestureEvents.clear();
+        mGestureLog.clear();
     }
 
-    public LiveData<Event<GestureEvent>> gestureEvents() {
-        return _mGestureEvents;
+    // Recording
+
+    /**
+     * Starts recording all sensor and gesture data to {@code file}, replacing its contents.
+     * {@link #recording()} changes once the file is open.
+     */
+    public void startRecording(@NonNull final File file) {
+        stopRecording();
+
+        mRecorderFiles.execute(() -> {
+            try {
+                mRecorder = new SessionRecorder(file, SessionRecorder.DEFAULT_QUEUE_CAPACITY, RECORDER_THREADS);
+                mRecording.postValue(true);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to start recording to " + file, e);
+            }
+        });
+    }
+
+    /**
+     * Stops recording. {@link #recording()} changes once the file is complete.
+     */
+    public void stopRecording() {
+        mRecorderFiles.execute(() -> {
+            final SessionRecorder recorder = mRecorder;
+            if (recorder == null) {
+                return;
+            }
+
+            mRecorder = null;
+            try {
+                recorder.close();
+                Log.i(TAG, "Recorded " + recorder.recordCount() + " samples to " + recorder.file()
+                    + ", dropped " + recorder.droppedCount());
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to finish recording " + recorder.file(), e);
+            }
+            mRecording.postValue(false);
+        });
+    }
+
+    public LiveData<Boolean> recording() {
+        return mRecording;
     }
 
     // WearableDeviceListener implementation
@@ -509,6 +674,12 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
     public void onSensorConfigurationRead(@NonNull final SensorConfiguration sensorConfiguration) {
         pendingOpMaybeDone(PendingOp.SENSOR_CONF);
         mWearableSensorConfiguration.setValue(sensorConfiguration);
+
+        final SamplePeriod samplePeriod = sensorConfiguration.enabledSensorsSamplePeriod();
+        final int samplePeriodMillis = samplePeriod != null ? samplePeriod.milliseconds() : 0;
+        for (final SensorStats stats : mStats) {
+            stats.samplePeriodMillis(samplePeriodMillis);
+        }
     }
 
     @Override
@@ -524,49 +695,59 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
 
     @Override
     public void onSensorDataRead(@NonNull final SensorValue value) {
+        // Handled by mSensorThread
+    }
+
+    @Override
+    public void onGestureConfigurationRead(@NonNull final GestureConfiguration gestureConfiguration) {
+        pendingOpMaybeDone(PendingOp.GESTURE_CONF);
+        mWearableGestureConfiguration.setValue(gestureConfiguration);
+    }
+
+    @Override
+    public void onGestureDataRead(@NonNull final GestureData gestureData) {
+        // Recorded by mSensorThread; the gesture list stays on the main thread
+        mGestureLog.add(gestureData.type().ordinal(), gestureData.timestamp(), System.currentTimeMillis());
+    }
+
+    @Override
+    public void onDevicePropertiesRead(@NonNull final DeviceProperties deviceProperties) {
+        mDeviceProperties.setValue(deviceProperties);
+    }
+
+    private void onSensorData(@NonNull final SensorValue value, final long receiveNanos) {
+        mStats[value.sensorType().ordinal()].record(value.timestamp(), receiveNanos);
+        mSamples.dispatch(value, receiveNanos, mHistoryListener);
+        final SessionRecorder recorder = mRecorder;
+        if (recorder != null) {
+            mSamples.dispatch(value, receiveNanos, recorder);
+        }
+
         switch (value.sensorType()) {
             case ACCELEROMETER:
-                mAccelerometerData.setValue(value);
+                mAccelerometerData.publish(value);
                 break;
             case GYROSCOPE:
-                mGyroscopeData.setValue(value);
+                mGyroscopeData.publish(value);
                 break;
             case ROTATION_VECTOR:
-                mRotationVectorData.setValue(value);
+                mRotationVectorData.publish(value);
                 break;
             case GAME_ROTATION_VECTOR:
-                mGameRotationData.setValue(value);
+                mGameRotationData.publish(value);
                 break;
             case ORIENTATION:
-                mOrientationData.setValue(value);
+                mOrientationData.publish(value);
                 break;
             case MAGNETOMETER:
-                mMagnetometerData.setValue(value);
+                mMagnetometerData.publish(value);
                 break;
             case UNCALIBRATED_MAGNETOMETER:
-                mUncalibratedMagnetometerData.setValue(value);
+                mUncalibratedMagnetometerData.publish(value);
                 break;
         }
     }
 
-    @Override
-    public void onGestureConfigurationRead(@NonNull final GestureConfiguration gestureConfiguration) {
-        pendingOpMaybeDone(PendingOp.GESTURE_CONF);
-        mWearableGestureConfiguration.setValue(gestureConfiguration);
-    }
-
-    @Override
-    public void onGestureDataRead(@NonNull final GestureData gestureData) {
-        final GestureEvent event = new GestureEvent(gestureData);
-        mGestureEvents.add(event);
-        _mGestureEvents.setValue(new Event<>(event));
-    }
-
-    @Override
-    public void onDevicePropertiesRead(@NonNull final DeviceProperties deviceProperties) {
-        mDeviceProperties.setValue(deviceProperties);
-    }
-
     private void stopSession() {
         final ConnectionState state = mConnectionState.getValue();
         if (state instanceof ConnectionState.Idle) {
@@ -594,6 +775,7 @@ public class SessionViewModel extends ViewModel implements WearableDeviceListene
 
         if (device != null) {
             device.removeListener(this);
+            device.removeListener(mSensorThread);
         }
 
         if (session != null) {
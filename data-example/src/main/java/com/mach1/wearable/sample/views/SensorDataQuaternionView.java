@@ -11,25 +11,28 @@ package com.mach1.wearable.sample.views;
 import android.content.Context;
 import android.util.AttributeSet;
 import android.view.View;
-import android.widget.TextView;
 
 import com.bose.wearable.sample.R;
 import com.bose.wearable.sensordata.Quaternion;
 import com.bose.wearable.sensordata.QuaternionAccuracy;
 import com.bose.wearable.sensordata.SensorValue;
 import com.bose.wearable.services.wearablesensor.SensorType;
-
-import java.util.Locale;
+import com.mach1.ar.sensor_android.NumberLabel;
+import com.mach1.ar.sensor_core.Angles;
 
 import androidx.annotation.NonNull;
 
 public class SensorDataQuaternionView extends SensorDataVectorView {
     private static final Quaternion TRANSLATION_Q = new Quaternion(1, 0, 0, 0);
 
-    private TextView mW;
-    private TextView mPitch;
-    private TextView mRoll;
-    private TextView mYaw;
+    private static final int ANGLE_DECIMALS = 2;
+    private static final String DEGREES = "°";
+
+    private NumberLabel mW;
+    private NumberLabel mPitch;
+    private NumberLabel mRoll;
+    private NumberLabel mYaw;
+    private NumberLabel mAccuracyAngle;
 
     public SensorDataQuaternionView(final Context context) {
         super(context);
@@ -49,10 +52,11 @@ public class SensorDataQuaternionView extends SensorDataVectorView {
     }
 
     private void init() {
-        mW = findViewById(R.id.w);
-        mPitch = findViewById(R.id.pitch);
-        mRoll = findViewById(R.id.roll);
-        mYaw = findViewById(R.id.yaw);
+        mW = label(this, R.id.w);
+        mPitch = label(this, R.id.pitch);
+        mRoll = label(this, R.id.roll);
+        mYaw = label(this, R.id.yaw);
+        mAccuracyAngle = new NumberLabel(mAccuracy);
 
         numberValue(mW, 0.0);
         angleValue(mPitch, Math.PI);
@@ -67,7 +71,7 @@ public class SensorDataQuaternionView extends SensorDataVectorView {
         if (sensorType == SensorType.GAME_ROTATION_VECTOR) {
             mAccuracy.setVisibility(View.GONE);
         } else if (sensorType == SensorType.ROTATION_VECTOR) {
-            numberValue(mAccuracy, 0);
+            numberValue(mAccuracyAngle, 0);
         }
     }
 
@@ -95,13 +99,12 @@ public class SensorDataQuaternionView extends SensorDataVectorView {
 
         final QuaternionAccuracy accuracy = sensorValue.quaternionAccuracy();
         if (accuracy != null) {
-            angleValue(mAccuracy, accuracy.estimatedAccuracy());
+            angleValue(mAccuracyAngle, accuracy.estimatedAccuracy());
         }
     }
 
-    private void angleValue(@NonNull final TextView textView,
+    private void angleValue(@NonNull final NumberLabel label,
                             final double radians) {
-        final double degrees = radians * 180 / Math.PI;
-        textView.setText(String.format(Locale.US, "%.2f°", degrees));
+        label.decimal(Angles.degrees(radians), ANGLE_DECIMALS, DEGREES);
     }
 }
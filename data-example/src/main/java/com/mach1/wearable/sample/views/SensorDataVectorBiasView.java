@@ -10,18 +10,18 @@ package com.mach1.wearable.sample.views;
 
 import android.content.Context;
 import android.util.AttributeSet;
-import android.widget.TextView;
 
 import com.bose.wearable.sample.R;
 import com.bose.wearable.sensordata.SensorValue;
 import com.bose.wearable.sensordata.Vector;
+import com.mach1.ar.sensor_android.NumberLabel;
 
 import androidx.annotation.NonNull;
 
 public class SensorDataVectorBiasView extends SensorDataVectorView {
-    private TextView mBiasX;
-    private TextView mBiasY;
-    private TextView mBiasZ;
+    private NumberLabel mBiasX;
+    private NumberLabel mBiasY;
+    private NumberLabel mBiasZ;
 
     public SensorDataVectorBiasView(final Context context) {
         super(context);
@@ -41,9 +41,9 @@ public class SensorDataVectorBiasView extends SensorDataVectorView {
     }
 
     private void init() {
-        mBiasX = findViewById(R.id.biasX);
-        mBiasY = findViewById(R.id.biasY);
-        mBiasZ = findViewById(R.id.biasZ);
+        mBiasX = label(this, R.id.biasX);
+        mBiasY = label(this, R.id.biasY);
+        mBiasZ = label(this, R.id.biasZ);
 
         numberValue(mBiasX, 0.0);
         numberValue(mBiasY, 0.0);
@@ -21,25 +21,43 @@ import com.bose.wearable.sensordata.SensorValue;
 import com.bose.wearable.sensordata.Vector;
 import com.bose.wearable.sensordata.VectorAccuracy;
 import com.bose.wearable.services.wearablesensor.SensorType;
+import com.mach1.ar.sensor_android.NumberLabel;
+import com.mach1.ar.sensor_core.SensorStats;
 
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
+import androidx.annotation.IdRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.constraintlayout.widget.ConstraintLayout;
 
+/**
+ * Shows the latest value of one sensor. Numbers are written with {@link NumberLabel}, which
+ * neither allocates nor touches a label whose text did not change.
+ */
 @SuppressWarnings("PMD.ConstructorCallsOverridableMethod") // layout() is meant to be called from constructor
 public class SensorDataVectorView extends ConstraintLayout {
+    private static final int DECIMALS = 3;
+    private static final String INTEGER_FORMAT = "%d";
+
     private Switch mSwitch;
-    protected TextView mX;
-    protected TextView mY;
-    protected TextView mZ;
-    protected TextView mTimestamp;
+    protected NumberLabel mX;
+    protected NumberLabel mY;
+    protected NumberLabel mZ;
+    protected NumberLabel mTimestamp;
     protected TextView mAccuracy;
-    protected TextView mFrequency;
+    @Nullable
+    private VectorAccuracy mVectorAccuracy;
+    protected NumberLabel mFrequency;
+    protected TextView mArrival;
     private EnabledListener mListener;
     protected String mFrequencyFormat;
+    protected String mArrivalFormat;
+    // Text after the number in the frequency format, or null if the number does not come first
+    @Nullable
+    private String mFrequencySuffix;
 
     public interface EnabledListener {
         boolean onChanged(boolean isEnabled);
@@ -68,14 +86,20 @@ public class SensorDataVectorView extends ConstraintLayout {
             .inflate(layout(), this, true);
 
         mFrequencyFormat = context.getString(R.string.sensor_data_frequency_format);
+        mArrivalFormat = context.getString(R.string.sensor_data_arrival_format);
+        mFrequencySuffix = mFrequencyFormat.startsWith(INTEGER_FORMAT)
+            && mFrequencyFormat.indexOf('%', INTEGER_FORMAT.length()) < 0
+            ? mFrequencyFormat.substring(INTEGER_FORMAT.length())
+            : null;
 
         mSwitch = content.findViewById(R.id.enable_switch);
-        mX = content.findViewById(R.id.x);
-        mY = content.findViewById(R.id.y);
-        mZ = content.findViewById(R.id.z);
-        mTimestamp = content.findViewById(R.id.timestamp);
+        mX = label(content, R.id.x);
+        mY = label(content, R.id.y);
+        mZ = label(content, R.id.z);
+        mTimestamp = label(content, R.id.timestamp);
         mAccuracy = content.findViewById(R.id.accuracy);
-        mFrequency = content.findViewById(R.id.frequency);
+        mFrequency = label(content, R.id.frequency);
+        mArrival = content.findViewById(R.id.arrival);
 
         numberValue(mX, 0.0);
         numberValue(mY, 0.0);
@@ -83,6 +107,7 @@ public class SensorDataVectorView extends ConstraintLayout {
         numberValue(mTimestamp, 0);
         mAccuracy.setText(VectorAccuracy.UNRELIABLE.toString());
         frequency(0);
+        arrival(0, 0, 0, 0);
 
         mSwitch.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
             @Override
@@ -122,8 +147,34 @@ public class SensorDataVectorView extends ConstraintLayout {
         bindData(sensorValue);
     }
 
+    /**
+     * Shows the rate, inter-arrival times, longest gap and lost samples of one stats window.
+     * Called once a second, so the arrival line is formatted the simple way.
+     */
+    public void stats(@NonNull final SensorStats.Window window) {
+        frequency((int) Math.round(window.rateHz()));
+        arrival(window.intervalNanos(0.5), window.intervalNanos(0.99), window.maxGapNanos(),
+            window.lostCount());
+    }
+
     public void frequency(final int frequency) {
-        mFrequency.setText(String.format(Locale.US, mFrequencyFormat, frequency));
+        if (mFrequencySuffix != null) {
+            mFrequency.integer(frequency, mFrequencySuffix);
+        } else {
+            mFrequency.view().setText(String.format(Locale.US, mFrequencyFormat, frequency));
+        }
+    }
+
+    private void arrival(final long medianNanos,
+                         final long p99Nanos,
+                         final long maxGapNanos,
+                         final long lostCount) {
+        mArrival.setText(String.format(Locale.US, mArrivalFormat,
+            millis(medianNanos), millis(p99Nanos), millis(maxGapNanos), lostCount));
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
     }
 
     @SuppressWarnings("PMD.ReplaceVectorWithList") // PMD confuses SDK Vector with java.util.Vector
@@ -136,16 +187,22 @@ public class SensorDataVectorView extends ConstraintLayout {
         }
 
         final VectorAccuracy accuracy = sensorValue.vectorAccuracy();
-        if (accuracy != null) {
+        if (accuracy != null && accuracy != mVectorAccuracy) {
+            mVectorAccuracy = accuracy;
             mAccuracy.setText(accuracy.toString());
         }
     }
 
-    protected void numberValue(@NonNull final TextView textView, final double value) {
-        textView.setText(String.format(Locale.US, "%.3f", value));
+    @NonNull
+    protected static NumberLabel label(@NonNull final View content, @IdRes final int id) {
+        return new NumberLabel(content.findViewById(id));
+    }
+
+    protected void numberValue(@NonNull final NumberLabel label, final double value) {
+        label.decimal(value, DECIMALS);
     }
 
-    protected void numberValue(@NonNull final TextView textView, final int value) {
-        textView.setText(String.valueOf(value));
+    protected void numberValue(@NonNull final NumberLabel label, final int value) {
+        label.integer(value);
     }
 }
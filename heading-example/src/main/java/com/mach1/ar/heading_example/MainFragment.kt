@@ -26,8 +26,8 @@ import com.bose.ar.heading_example.R
 import com.bose.blecore.DeviceException
 import com.bose.wearable.wearabledevice.SuspensionState
 import com.google.android.material.snackbar.Snackbar
+import com.mach1.ar.sensor_core.DecimalFormatter
 import kotlinx.android.synthetic.main.fragment_main.*
-import java.util.*
 
 @RequiresApi(Build.VERSION_CODES.O)
 class MainFragment : Fragment(R.layout.fragment_main) {
@@ -138,7 +138,7 @@ class MainFragment : Fragment(R.layout.fragment_main) {
     }
 
     private fun formatAngle(angle: Double): String =
-        String.format(Locale.US, "%.2f°", angle)
+        DecimalFormatter.toString(angle, 2, "°")
 
     companion object {
         const val ARG_DEVICE_ADDRESS = "device-address"
@@ -34,6 +34,9 @@ import com.bose.wearable.sensordata.Quaternion;
 import com.bose.wearable.sensordata.SensorValue;
 import com.bose.wearable.sensordata.Vector;
 import com.google.android.material.snackbar.Snackbar;
+import com.mach1.ar.sensor_android.FrameUpdater;
+import com.mach1.ar.sensor_core.Angles;
+import com.mach1.ar.sensor_core.DecimalFormatter;
 
 import java.util.Locale;
 
@@ -43,6 +46,8 @@ public class MainFragment extends Fragment {
     public static final String ARG_TOOLBAR_ID = "toolbar-id";
     private static final String TAG = MainFragment.class.getSimpleName();
     private static final Quaternion TRANSLATION_Q = new Quaternion(1, 0, 0, 0);
+    // Several devices are shown at once, so their values need not be redrawn on every frame
+    private static final int DISPLAY_MAX_RATE_HZ = 30;
 
     private String mDeviceAddress;
     private boolean mUseSimulatedDevice;
@@ -60,6 +65,13 @@ public class MainFragment extends Fragment {
     private TextView mZ;
     @Nullable
     private Snackbar mSnackBar;
+    // Latest samples not shown yet, consumed by the next display update
+    @Nullable
+    private SensorValue mPendingRotation;
+    @Nullable
+    private SensorValue mPendingAcceleration;
+    private final FrameUpdater mDisplayUpdater = new FrameUpdater(this::updateDisplay)
+        .maxRate(DISPLAY_MAX_RATE_HZ);
 
     @Override
     public void onCreate(@Nullable final Bundle savedInstanceState) {
@@ -146,6 +158,18 @@ public class MainFragment extends Fragment {
         }
     }
 
+    @Override
+    public void onStart() {
+        super.onStart();
+        mDisplayUpdater.start();
+    }
+
+    @Override
+    public void onStop() {
+        mDisplayUpdater.stop();
+        super.onStop();
+    }
+
     @Override
     public void onDestroy() {
         onBusy(false);
@@ -203,20 +227,38 @@ public class MainFragment extends Fragment {
         mSnackBar = snackbar;
     }
 
-    @SuppressWarnings("PMD.ReplaceVectorWithList") // PMD confuses SDK Vector with java.util.Vector
     private void onAccelerometerData(@NonNull final SensorValue sensorValue) {
-        final Vector vector = sensorValue.vector();
-        mX.setText(formatValue(vector.x()));
-        mY.setText(formatValue(vector.y()));
-        mZ.setText(formatValue(vector.z()));
+        mPendingAcceleration = sensorValue;
     }
 
     private void onRotationData(@NonNull final SensorValue sensorValue) {
-        final Quaternion quaternion = Quaternion.multiply(sensorValue.quaternion(), TRANSLATION_Q);
+        mPendingRotation = sensorValue;
+    }
 
-        mPitch.setText(formatAngle(quaternion.xRotation()));
-        mRoll.setText(formatAngle(-quaternion.yRotation()));
-        mYaw.setText(formatAngle(-quaternion.zRotation()));
+    /**
+     * Shows the samples that arrived since the last display update, skipping views whose sensor
+     * had nothing new.
+     */
+    @SuppressWarnings("PMD.ReplaceVectorWithList") // PMD confuses SDK Vector with java.util.Vector
+    private void updateDisplay() {
+        final SensorValue acceleration = mPendingAcceleration;
+        mPendingAcceleration = null;
+        if (acceleration != null) {
+            final Vector vector = acceleration.vector();
+            mX.setText(formatValue(vector.x()));
+            mY.setText(formatValue(vector.y()));
+            mZ.setText(formatValue(vector.z()));
+        }
+
+        final SensorValue rotation = mPendingRotation;
+        mPendingRotation = null;
+        if (rotation != null) {
+            final Quaternion quaternion = Quaternion.multiply(rotation.quaternion(), TRANSLATION_Q);
+
+            mPitch.setText(formatAngle(quaternion.xRotation()));
+            mRoll.setText(formatAngle(-quaternion.yRotation()));
+            mYaw.setText(formatAngle(-quaternion.zRotation()));
+        }
     }
 
     private void showError(final String message) {
@@ -235,7 +277,6 @@ public class MainFragment extends Fragment {
     }
 
     private static String formatAngle(final double radians) {
-        final double degrees = radians * 180 / Math.PI;
-        return String.format(Locale.US, "%.2f°", degrees);
+        return DecimalFormatter.toString(Angles.degrees(radians), 2, "°");
     }
 }
@@ -11,6 +11,7 @@ package com.mach1.ar.scene_example;
 import com.bose.wearable.sensordata.SensorValue;
 import com.google.ar.sceneform.math.Quaternion;
 import com.google.ar.sceneform.math.Vector3;
+import com.mach1.ar.sensor_core.EulerAngles;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -98,37 +99,14 @@ public class ARCoreSensorValueReader {
     }
 
     public static double yaw(@NonNull final Quaternion q) {
-        final double x = q.x;
-        final double y = q.y;
-        final double z = q.z;
-        final double w = q.w;
-        final double siny = 2 * (w * y + x * z);
-        final double cosy = 1 - 2 * (y * y + z * z);
-
-        return -Math.atan2(siny, cosy);
+        return EulerAngles.yaw(q.x, q.y, q.z, q.w);
     }
 
     public static double pitch(@NonNull final Quaternion q) {
-        final double x = q.x;
-        final double y = q.y;
-        final double z = q.z;
-        final double w = q.w;
-        final double sinp = 2 * (w * x + y * z);
-        final double cosp = 1 - 2 * (x * x + z * z);
-
-        return Math.atan2(sinp, cosp);
+        return EulerAngles.pitch(q.x, q.y, q.z, q.w);
     }
 
     public static double roll(@NonNull final Quaternion q) {
-        final double x = q.x;
-        final double y = q.y;
-        final double z = q.z;
-        final double w = q.w;
-        final double sinr = 2 * (w * z - y * x);
-        if (Math.abs(sinr) >= 1) {
-            return -Math.copySign(Math.PI / 2, sinr);
-        } else {
-            return -Math.asin(sinr);
-        }
+        return EulerAngles.roll(q.x, q.y, q.z, q.w);
     }
 }
@@ -32,8 +32,8 @@ import com.google.ar.sceneform.math.Quaternion;
 import com.google.ar.sceneform.math.Vector3;
 import com.google.ar.sceneform.rendering.ModelRenderable;
 import com.google.ar.sceneform.rendering.Renderable;
-
-import java.util.Locale;
+import com.mach1.ar.sensor_core.Angles;
+import com.mach1.ar.sensor_core.DecimalFormatter;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -240,8 +240,7 @@ public class MainFragment extends Fragment {
     }
 
     private String formatAngle(final double radians) {
-        final double degrees = radians * 180 / Math.PI;
-        return String.format(Locale.US, "%.2f°", degrees);
+        return DecimalFormatter.toString(Angles.degrees(radians), 2, "°");
     }
 
     private void readPrefs(@NonNull final SharedPreferences preferences) {
@@ -41,6 +41,7 @@ import com.bose.wearable.services.wearablesensor.WearableDeviceInformation;
 import com.bose.wearable.wearabledevice.BaseWearableDeviceListener;
 import com.bose.wearable.wearabledevice.WearableDeviceListener;
 import com.google.ar.sceneform.math.Quaternion;
+import com.mach1.ar.sensor_android.SensorThread;
 
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
@@ -52,9 +53,27 @@ public class SensorViewModel extends ViewModel {
 
     @NonNull
     private final MutableLiveData<ConnectionState> mConnectionState = new MutableLiveData<>();
+    // Only used on the sensor thread
     @NonNull
     private final ARCoreSensorValueReader mValueReader = new ARCoreSensorValueReader();
     @NonNull
+    private final SensorThread mSensorThread = new SensorThread(TAG, new SensorThread.Listener() {
+        @Override
+        public void onSensorData(@NonNull final SensorValue value, final long receiveNanos) {
+            if (mSensorType.equals(value.sensorType())) {
+                onSensorData(value);
+            }
+        }
+
+        @Override
+        public void onGestureData(@NonNull final GestureData gestureData, final long receiveNanos) {
+            if (GESTURE_TYPE.equals(gestureData.type())) {
+                onGestureData();
+            }
+        }
+    });
+    private volatile boolean mInverted;
+    @NonNull
     private final MutableLiveData<Boolean> mBusy = new MutableLiveData<>();
     @NonNull
     private final MutableLiveData<Event<DeviceException>> mErrors = new MutableLiveData<>();
@@ -70,7 +89,7 @@ public class SensorViewModel extends ViewModel {
     @NonNull
     private final MutableLiveData<QuaternionAccuracy> mSensorAccuracy = new MutableLiveData<>();
     @NonNull
-    private SensorType mSensorType = SensorType.ROTATION_VECTOR;
+    private volatile SensorType mSensorType = SensorType.ROTATION_VECTOR;
 
     public SensorViewModel() {
         mConnectionState.setValue(ConnectionState.IDLE);
@@ -91,6 +110,7 @@ public class SensorViewModel extends ViewModel {
     @Override
     protected void onCleared() {
         stopSession();
+        mSensorThread.quit();
         super.onCleared();
     }
 
@@ -104,19 +124,20 @@ public class SensorViewModel extends ViewModel {
     }
 
     public void correctedInitially(final boolean value) {
-        mValueReader.correctedInitially(value);
+        mSensorThread.post(() -> mValueReader.correctedInitially(value));
     }
 
     public void inverted(final boolean value) {
-        mValueReader.inverted(value);
+        mInverted = value;
+        mSensorThread.post(() -> mValueReader.inverted(value));
     }
 
     public boolean inverted() {
-        return mValueReader.inverted();
+        return mInverted;
     }
 
     public void resetInitialReading() {
-        mValueReader.resetInitialReading();
+        mSensorThread.post(mValueReader::resetInitialReading);
     }
 
     public LiveData<Boolean> busy() {
@@ -220,21 +241,8 @@ public class SensorViewModel extends ViewModel {
     }
 
     private void setupSensorMonitoring(@NonNull final LiveData<Boolean> focus) {
-        final WearableDeviceListener listener = new BaseWearableDeviceListener() {
-            @Override
-            public void onSensorDataRead(@NonNull final SensorValue sensorData) {
-                if (mSensorType.equals(sensorData.sensorType())) {
-                    onSensorData(sensorData);
-                }
-            }
-
-            @Override
-            public void onGestureDataRead(@NonNull final GestureData gestureData) {
-                if (GESTURE_TYPE.equals(gestureData.type())) {
-                    onGestureData();
-                }
-            }
-        };
+        // Samples are converted on the sensor thread; the UI only sees the latest one
+        final WearableDeviceListener listener = mSensorThread;
 
         focus.observeForever(new Observer<Boolean>() {
             private boolean mHaveFocus;
@@ -326,12 +334,12 @@ public class SensorViewModel extends ViewModel {
     private void onSensorData(@NonNull final SensorValue sensorValue) {
         final Quaternion quaternion = mValueReader.quaternion(sensorValue);
         if (quaternion != null) {
-            mSensorData.setValue(quaternion);
+            mSensorData.postValue(quaternion);
         }
 
         final QuaternionAccuracy accuracy = sensorValue.quaternionAccuracy();
         if (accuracy != null) {
-            mSensorAccuracy.setValue(accuracy);
+            mSensorAccuracy.postValue(accuracy);
         }
     }
 
@@ -402,8 +410,9 @@ public class SensorViewModel extends ViewModel {
         if (session.device() != null) {
             future = stopDevice(wearableDevice)
                 .whenComplete((aVoid, throwable) -> {
-                    mSensorData.setValue(null);
-                    mSensorAccuracy.setValue(null);
+                    // Posted, so that it replaces any sample still on its way
+                    mSensorData.postValue(null);
+                    mSensorAccuracy.postValue(null);
                 });
         } else {
             future = CompletableFuture.completedFuture(null);
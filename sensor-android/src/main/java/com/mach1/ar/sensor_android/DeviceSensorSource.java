@@ -0,0 +1,125 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  DeviceSensorSource.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bose.wearable.sensordata.GestureData;
+import com.bose.wearable.sensordata.SensorValue;
+import com.bose.wearable.wearabledevice.BaseWearableDeviceListener;
+import com.bose.wearable.wearabledevice.WearableDevice;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+import com.mach1.ar.sensor_core.source.SensorSource;
+
+/**
+ * Delivers the sensor and gesture data of a connected {@link WearableDevice}.
+ *
+ * The device's sensors and gestures must already be configured. Without a looper, samples are
+ * delivered on the thread the SDK calls its listeners on, the main thread unless configured
+ * otherwise. With one, for example {@link SensorThread#looper()}, each sample is stamped with its
+ * arrival time and handed over the same way {@link SensorThread} does, so work posted to that
+ * thread stays in order with the samples.
+ *
+ * Must be started and stopped on the thread the SDK calls its listeners on. Once stopped, a sample
+ * the looper is already processing still finishes.
+ */
+public class DeviceSensorSource implements SensorSource {
+    private static final int MSG_SENSOR = 1;
+    private static final int MSG_GESTURE = 2;
+
+    @NonNull
+    private final WearableDevice mDevice;
+    @Nullable
+    private final Handler mHandler;
+    private final SensorSamples mSamples = new SensorSamples();
+    @Nullable
+    private volatile SensorSampleListener mListener;
+
+    private final BaseWearableDeviceListener mDeviceListener = new BaseWearableDeviceListener() {
+        @Override
+        public void onSensorDataRead(@NonNull final SensorValue sensorValue) {
+            deliver(MSG_SENSOR, sensorValue);
+        }
+
+        @Override
+        public void onGestureDataRead(@NonNull final GestureData gestureData) {
+            deliver(MSG_GESTURE, gestureData);
+        }
+    };
+
+    public DeviceSensorSource(@NonNull final WearableDevice device) {
+        this(device, null);
+    }
+
+    /**
+     * @param looper where to deliver samples, or {@code null} to deliver them on the SDK's thread
+     */
+    public DeviceSensorSource(@NonNull final WearableDevice device, @Nullable final Looper looper) {
+        mDevice = device;
+        mHandler = looper != null ? new Handler(looper, this::handleMessage) : null;
+    }
+
+    @NonNull
+    public WearableDevice device() {
+        return mDevice;
+    }
+
+    @Override
+    public void start(@NonNull final SensorSampleListener listener) {
+        if (mListener != null) {
+            throw new IllegalStateException("Already started");
+        }
+
+        mListener = listener;
+        mDevice.addListener(mDeviceListener);
+    }
+
+    @Override
+    public void stop() {
+        mDevice.removeListener(mDeviceListener);
+        mListener = null;
+        if (mHandler != null) {
+            mHandler.removeCallbacksAndMessages(null);
+        }
+    }
+
+    private void deliver(final int what, @NonNull final Object data) {
+        final long receiveNanos = System.nanoTime();
+        if (mHandler != null) {
+            // The arrival time travels in the two int arguments, so no wrapper is allocated
+            mHandler.obtainMessage(what, (int) (receiveNanos >>> 32), (int) receiveNanos, data)
+                .sendToTarget();
+        } else {
+            dispatch(what, data, receiveNanos);
+        }
+    }
+
+    private boolean handleMessage(@NonNull final Message message) {
+        final long receiveNanos = ((long) message.arg1 << 32) | (message.arg2 & 0xFFFFFFFFL);
+        dispatch(message.what, message.obj, receiveNanos);
+        return true;
+    }
+
+    private void dispatch(final int what, @NonNull final Object data, final long receiveNanos) {
+        final SensorSampleListener listener = mListener;
+        if (listener == null) {
+            return;
+        }
+
+        if (what == MSG_SENSOR) {
+            mSamples.dispatch((SensorValue) data, receiveNanos, listener);
+        } else {
+            mSamples.dispatch((GestureData) data, receiveNanos, listener);
+        }
+    }
+}
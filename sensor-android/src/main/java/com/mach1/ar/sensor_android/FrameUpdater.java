@@ -0,0 +1,74 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  FrameUpdater.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a UI update once per display frame, or less often if a maximum rate is set.
+ *
+ * Sensors deliver samples faster than the display refreshes, so views that are written on every
+ * sample lay out many times per frame for nothing. Instead the data path stores the latest value
+ * and the view pulls it here, right before the frame is drawn. Must be used on the main thread.
+ */
+public class FrameUpdater implements Choreographer.FrameCallback {
+    // Display frames do not land exactly on the interval; accept one that is slightly early
+    private static final long TOLERANCE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    @NonNull
+    private final Runnable mUpdate;
+    private long mIntervalNanos;
+    private long mLastUpdateNanos;
+    private boolean mRunning;
+
+    public FrameUpdater(@NonNull final Runnable update) {
+        mUpdate = update;
+    }
+
+    /**
+     * @param maxRateHz highest number of updates per second, or 0 to update on every frame
+     */
+    @NonNull
+    public FrameUpdater maxRate(final int maxRateHz) {
+        mIntervalNanos = maxRateHz > 0 ? TimeUnit.SECONDS.toNanos(1) / maxRateHz : 0;
+        return this;
+    }
+
+    public void start() {
+        if (mRunning) {
+            return;
+        }
+
+        mRunning = true;
+        mLastUpdateNanos = 0;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    public void stop() {
+        mRunning = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(final long frameTimeNanos) {
+        if (!mRunning) {
+            return;
+        }
+
+        Choreographer.getInstance().postFrameCallback(this);
+        if (mLastUpdateNanos == 0
+            || frameTimeNanos - mLastUpdateNanos >= mIntervalNanos - TOLERANCE_NANOS) {
+            mLastUpdateNanos = frameTimeNanos;
+            mUpdate.run();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  LifecycleChannelObserver.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.mach1.ar.sensor_core.SensorChannel;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Observes a {@link SensorChannel} on the main thread while a lifecycle owner is started, the
+ * way {@code LiveData.observe} does.
+ *
+ * The channel is subscribed to when the owner starts, which delivers the latest value right
+ * away, and unsubscribed from when it stops, so a stopped fragment receives nothing and queues
+ * nothing. The observer is removed for good when the owner is destroyed.
+ */
+public final class LifecycleChannelObserver<T> implements LifecycleEventObserver {
+    /**
+     * Runs tasks on the main thread.
+     */
+    public static final Executor MAIN_THREAD = new Handler(Looper.getMainLooper())::post;
+
+    @NonNull
+    private final SensorChannel<T> mChannel;
+    @NonNull
+    private final SensorChannel.Delivery mDelivery;
+    @NonNull
+    private final SensorChannel.Observer<T> mObserver;
+    @Nullable
+    private SensorChannel.Subscription<T> mSubscription;
+
+    private LifecycleChannelObserver(@NonNull final SensorChannel<T> channel,
+                                     @NonNull final SensorChannel.Delivery delivery,
+                                     @NonNull final SensorChannel.Observer<T> observer) {
+        mChannel = channel;
+        mDelivery = delivery;
+        mObserver = observer;
+    }
+
+    /**
+     * Delivers values from {@code channel} to {@code observer} on the main thread while
+     * {@code owner} is at least started.
+     */
+    @MainThread
+    public static <T> void observe(@NonNull final LifecycleOwner owner,
+                                   @NonNull final SensorChannel<T> channel,
+                                   @NonNull final SensorChannel.Delivery delivery,
+                                   @NonNull final SensorChannel.Observer<T> observer) {
+        if (owner.getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            return;
+        }
+        owner.getLifecycle().addObserver(new LifecycleChannelObserver<>(channel, delivery, observer));
+    }
+
+    @Override
+    public void onStateChanged(@NonNull final LifecycleOwner source, @NonNull final Lifecycle.Event event) {
+        final Lifecycle.State state = source.getLifecycle().getCurrentState();
+        if (state.isAtLeast(Lifecycle.State.STARTED)) {
+            if (mSubscription == null) {
+                mSubscription = mChannel.subscribe(mDelivery, MAIN_THREAD, mObserver);
+            }
+            return;
+        }
+
+        if (mSubscription != null) {
+            mSubscription.cancel();
+            mSubscription = null;
+        }
+        if (state == Lifecycle.State.DESTROYED) {
+            source.getLifecycle().removeObserver(this);
+        }
+    }
+}
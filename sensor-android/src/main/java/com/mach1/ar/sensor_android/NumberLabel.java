@@ -0,0 +1,73 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  NumberLabel.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.NumberText;
+
+/**
+ * Shows numbers in a TextView without allocating, and without touching the view at all when
+ * the formatted text is the same as before. See {@link NumberText}.
+ *
+ * If other code sets the view's text in between, the next number is shown regardless. Must be
+ * used on the main thread.
+ */
+public final class NumberLabel {
+    @NonNull
+    private final TextView mView;
+    private final NumberText mText = new NumberText();
+    // What the view returned after our last update, to notice text set by others
+    @Nullable
+    private CharSequence mShown;
+
+    public NumberLabel(@NonNull final TextView view) {
+        mView = view;
+    }
+
+    @NonNull
+    public TextView view() {
+        return mView;
+    }
+
+    public void decimal(final double value, final int decimals) {
+        decimal(value, decimals, "");
+    }
+
+    public void decimal(final double value, final int decimals, @NonNull final String suffix) {
+        checkShown();
+        if (mText.decimal(value, decimals, suffix)) {
+            show();
+        }
+    }
+
+    public void integer(final long value) {
+        integer(value, "");
+    }
+
+    public void integer(final long value, @NonNull final String suffix) {
+        checkShown();
+        if (mText.integer(value, suffix)) {
+            show();
+        }
+    }
+
+    private void checkShown() {
+        if (mView.getText() != mShown) {
+            mText.invalidate();
+        }
+    }
+
+    private void show() {
+        mView.setText(mText.chars(), 0, mText.length());
+        mShown = mView.getText();
+    }
+}
@@ -0,0 +1,59 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  SensorSamples.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.bose.wearable.sensordata.GestureData;
+import com.bose.wearable.sensordata.QuaternionAccuracy;
+import com.bose.wearable.sensordata.SensorValue;
+import com.bose.wearable.sensordata.VectorAccuracy;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+/**
+ * Converts SDK sensor and gesture data into {@link SensorSampleListener} calls.
+ *
+ * Sensor and gesture types are passed as the ordinals of {@code SensorType} and
+ * {@code GestureType}. Quaternion accuracy is the estimated accuracy in radians, vector accuracy
+ * the ordinal of {@link VectorAccuracy}, and vectors have {@code NaN} as their fourth value.
+ *
+ * Not thread safe; use one instance per thread.
+ */
+public class SensorSamples {
+    private final float[] mValues = new float[4];
+
+    /**
+     * @return {@code false} if the value holds neither a quaternion nor a vector
+     */
+    public boolean dispatch(@NonNull final SensorValue value,
+                            final long receiveNanos,
+                            @NonNull final SensorSampleListener listener) {
+        final float[] values = mValues;
+        final float accuracy;
+        if (value.quaternion(values, 0)) {
+            final QuaternionAccuracy quaternionAccuracy = value.quaternionAccuracy();
+            accuracy = quaternionAccuracy != null ? (float) quaternionAccuracy.estimatedAccuracy() : Float.NaN;
+        } else if (value.vector(values, 0)) {
+            values[3] = Float.NaN;
+            final VectorAccuracy vectorAccuracy = value.vectorAccuracy();
+            accuracy = vectorAccuracy != null ? vectorAccuracy.ordinal() : Float.NaN;
+        } else {
+            return false;
+        }
+
+        listener.onSensorSample(value.sensorType().ordinal(), value.timestamp(), receiveNanos,
+            values[0], values[1], values[2], values[3], accuracy);
+        return true;
+    }
+
+    public void dispatch(@NonNull final GestureData gestureData,
+                         final long receiveNanos,
+                         @NonNull final SensorSampleListener listener) {
+        listener.onGestureSample(gestureData.type().ordinal(), gestureData.timestamp(), receiveNanos);
+    }
+}
@@ -0,0 +1,135 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  SensorThread.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Message;
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bose.wearable.sensordata.GestureData;
+import com.bose.wearable.sensordata.SensorValue;
+import com.bose.wearable.wearabledevice.BaseWearableDeviceListener;
+
+/**
+ * Takes sensor and gesture data off the main thread.
+ *
+ * The SDK calls device listeners on the main thread. Register this listener instead and it
+ * stamps each sample with {@code System.nanoTime()} and hands it to a {@link Listener} on its own
+ * {@link HandlerThread}, so conversion and output are not held up by layout or drawing. Handing
+ * over uses pooled messages and does not allocate.
+ *
+ * Samples are delivered in order. Work that must not race with them, such as changing the
+ * settings of whatever processes them, can be run on the same thread with {@link #post(Runnable)}.
+ *
+ * Without a listener the thread only runs posted work and whatever is handed to its
+ * {@link #looper()}, for example by a {@link DeviceSensorSource}.
+ */
+public class SensorThread extends BaseWearableDeviceListener implements Handler.Callback {
+    public static final int DEFAULT_PRIORITY = Process.THREAD_PRIORITY_URGENT_AUDIO;
+
+    private static final int MSG_SENSOR = 1;
+    private static final int MSG_GESTURE = 2;
+
+    public interface Listener {
+        void onSensorData(@NonNull SensorValue value, long receiveNanos);
+
+        void onGestureData(@NonNull GestureData gestureData, long receiveNanos);
+    }
+
+    @Nullable
+    private final Listener mListener;
+    @NonNull
+    private final HandlerThread mThread;
+    @NonNull
+    private final Handler mHandler;
+
+    public SensorThread(@NonNull final String name) {
+        this(name, DEFAULT_PRIORITY, null);
+    }
+
+    public SensorThread(@NonNull final String name, @NonNull final Listener listener) {
+        this(name, DEFAULT_PRIORITY, listener);
+    }
+
+    /**
+     * Starts the thread.
+     *
+     * @param priority an {@code android.os.Process} thread priority
+     * @param listener where to deliver the samples this listener receives, or {@code null} if it
+     *                 is not registered with a device
+     */
+    public SensorThread(@NonNull final String name,
+                        final int priority,
+                        @Nullable final Listener listener) {
+        mListener = listener;
+        mThread = new HandlerThread(name, priority);
+        mThread.start();
+        mHandler = new Handler(mThread.getLooper(), this);
+    }
+
+    /**
+     * Runs {@code runnable} on the sensor thread after the samples already handed over.
+     */
+    public void post(@NonNull final Runnable runnable) {
+        mHandler.post(runnable);
+    }
+
+    @NonNull
+    public Looper looper() {
+        return mThread.getLooper();
+    }
+
+    /**
+     * Processes the samples already handed over, then stops the thread.
+     */
+    public void quit() {
+        mThread.quitSafely();
+    }
+
+    @Override
+    public void onSensorDataRead(@NonNull final SensorValue value) {
+        send(MSG_SENSOR, value);
+    }
+
+    @Override
+    public void onGestureDataRead(@NonNull final GestureData gestureData) {
+        send(MSG_GESTURE, gestureData);
+    }
+
+    @Override
+    public boolean handleMessage(@NonNull final Message message) {
+        final Listener listener = mListener;
+        if (listener == null) {
+            return false;
+        }
+
+        final long receiveNanos = ((long) message.arg1 << 32) | (message.arg2 & 0xFFFFFFFFL);
+        switch (message.what) {
+            case MSG_SENSOR:
+                listener.onSensorData((SensorValue) message.obj, receiveNanos);
+                return true;
+            case MSG_GESTURE:
+                listener.onGestureData((GestureData) message.obj, receiveNanos);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void send(final int what, @NonNull final Object data) {
+        // The arrival time travels in the two int arguments, so no wrapper is allocated
+        final long receiveNanos = System.nanoTime();
+        mHandler.obtainMessage(what, (int) (receiveNanos >>> 32), (int) receiveNanos, data)
+            .sendToTarget();
+    }
+}
@@ -0,0 +1,164 @@
+package com.mach1.ar.sensor_android;
+
+//
+//  SimulatedSensorSource.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bose.blecore.DeviceException;
+import com.bose.blecore.Session;
+import com.bose.blecore.SessionDelegate;
+import com.bose.wearable.BoseWearable;
+import com.bose.wearable.BoseWearableException;
+import com.bose.wearable.services.wearablesensor.SamplePeriod;
+import com.bose.wearable.services.wearablesensor.SensorConfiguration;
+import com.bose.wearable.services.wearablesensor.SensorType;
+import com.bose.wearable.wearabledevice.BaseWearableDeviceListener;
+import com.bose.wearable.wearabledevice.WearableDevice;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+import com.mach1.ar.sensor_core.source.SensorSource;
+
+/**
+ * Opens the SDK's simulated device, enables the rotation vector and accelerometer and delivers
+ * their data. Stopping disables the sensors again before the session is closed. Must be started
+ * and stopped on the main thread.
+ */
+public class SimulatedSensorSource implements SensorSource {
+    private static final String TAG = SimulatedSensorSource.class.getSimpleName();
+
+    public interface ErrorListener {
+        /**
+         * The simulated session could not be opened or was lost. No more samples are delivered.
+         */
+        void onSimulatorError(@NonNull DeviceException exception);
+    }
+
+    @NonNull
+    private final SamplePeriod mSamplePeriod;
+    @Nullable
+    private final Looper mLooper;
+    @Nullable
+    private ErrorListener mErrorListener;
+    @Nullable
+    private Session mSession;
+    @Nullable
+    private DeviceSensorSource mSource;
+
+    public SimulatedSensorSource(@NonNull final SamplePeriod samplePeriod) {
+        this(samplePeriod, null);
+    }
+
+    /**
+     * @param looper where to deliver samples, see {@link DeviceSensorSource}
+     */
+    public SimulatedSensorSource(@NonNull final SamplePeriod samplePeriod,
+                                 @Nullable final Looper looper) {
+        mSamplePeriod = samplePeriod;
+        mLooper = looper;
+    }
+
+    public void errorListener(@Nullable final ErrorListener errorListener) {
+        mErrorListener = errorListener;
+    }
+
+    @Override
+    public void start(@NonNull final SensorSampleListener listener) {
+        if (mSession != null) {
+            throw new IllegalStateException("Already started");
+        }
+
+        final Session session = BoseWearable.getInstance().createSimulatedSession();
+        session.callback(new SessionDelegate() {
+            @Override
+            public void sessionConnected(@NonNull final Session session) {
+                final WearableDevice device = (WearableDevice) session.device();
+                if (device == null || mSession != session) {
+                    return;
+                }
+
+                final SensorConfiguration configuration = device.sensorConfiguration()
+                    .disableAll()
+                    .enableSensor(SensorType.ACCELEROMETER, mSamplePeriod)
+                    .enableSensor(SensorType.ROTATION_VECTOR, mSamplePeriod);
+
+                final DeviceSensorSource source = new DeviceSensorSource(device, mLooper);
+                mSource = source;
+                source.start(listener);
+                device.changeSensorConfiguration(configuration);
+            }
+
+            @Override
+            public void sessionClosed(final int statusCode) {
+                stopSource();
+            }
+
+            @Override
+            public void sessionError(@NonNull final DeviceException exception) {
+                Log.w(TAG, "Simulated session failed", exception);
+                stopSource();
+
+                final ErrorListener errorListener = mErrorListener;
+                if (errorListener != null) {
+                    errorListener.onSimulatorError(exception);
+                }
+            }
+        });
+
+        mSession = session;
+        session.open();
+    }
+
+    @Override
+    public void stop() {
+        stopSource();
+
+        final Session session = mSession;
+        if (session == null) {
+            return;
+        }
+
+        mSession = null;
+        session.callback(null);
+
+        final WearableDevice device = (WearableDevice) session.device();
+        if (device == null) {
+            session.close();
+            return;
+        }
+
+        // Close once the sensors are off, so the next session does not start with them running
+        device.addListener(new BaseWearableDeviceListener() {
+            @Override
+            public void onSensorConfigurationRead(@NonNull final SensorConfiguration sensorConfiguration) {
+                done();
+            }
+
+            @Override
+            public void onSensorConfigurationError(@NonNull final BoseWearableException wearableException) {
+                done();
+            }
+
+            private void done() {
+                device.removeListener(this);
+                session.close();
+            }
+        });
+        device.changeSensorConfiguration(device.sensorConfiguration().disableAll());
+    }
+
+    private void stopSource() {
+        final DeviceSensorSource source = mSource;
+        if (source != null) {
+            mSource = null;
+            source.stop();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mach1.ar.sensor_benchmarks;
+
+//
+//  FormattingBenchmark.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import com.mach1.ar.sensor_core.Angles;
+import com.mach1.ar.sensor_core.DecimalFormatter;
+import com.mach1.ar.sensor_core.NumberText;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning an angle into display text and into the value sent over OSC, and the text of one
+ * sample in the data example's sensor views: three axes with three decimals and a timestamp.
+ * The view benchmarks stop short of the TextView, which cannot run here; with
+ * {@link NumberText} an unchanged label is not set at all.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class FormattingBenchmark {
+    private final char[] mBuffer = new char[DecimalFormatter.BUFFER_SIZE];
+    private final NumberText mX = new NumberText();
+    private final NumberText mY = new NumberText();
+    private final NumberText mZ = new NumberText();
+    private final NumberText mTimestamp = new NumberText();
+
+    @Benchmark
+    public String stringFormat(final Samples samples) {
+        return String.format(Locale.US, "%.2f°", samples.nextDegrees());
+    }
+
+    @Benchmark
+    public char[] decimalFormatter(final Samples samples) {
+        DecimalFormatter.format(samples.nextDegrees(), 2, "°", mBuffer);
+        return mBuffer;
+    }
+
+    /**
+     * Rounding to three decimals by formatting and parsing back, as the OSC path used to.
+     */
+    @Benchmark
+    public float parseFormatted(final Samples samples) {
+        return Float.parseFloat(String.format(Locale.US, "%.3f", samples.nextDegrees()));
+    }
+
+    @Benchmark
+    public float quantize(final Samples samples) {
+        return Angles.quantize(samples.nextDegrees(), 3);
+    }
+
+    /**
+     * A vector sample as {@code SensorDataVectorView} used to format it.
+     */
+    @Benchmark
+    public void vectorViewStringFormat(final Samples samples, final Blackhole blackhole) {
+        final SdkQuaternion q = samples.next();
+        blackhole.consume(String.format(Locale.US, "%.3f", q.x));
+        blackhole.consume(String.format(Locale.US, "%.3f", q.y));
+        blackhole.consume(String.format(Locale.US, "%.3f", q.z));
+        blackhole.consume(String.valueOf(samples.nextTimestamp()));
+    }
+
+    @Benchmark
+    public int vectorViewNumberText(final Samples samples) {
+        final SdkQuaternion q = samples.next();
+        return changes(q.x, q.y, q.z, samples.nextTimestamp());
+    }
+
+    /**
+     * The device held still: values change below the displayed precision, so only the
+     * timestamp is set.
+     */
+    @Benchmark
+    public int vectorViewNumberTextAtRest(final Samples samples) {
+        final SdkQuaternion q = samples.next();
+        return changes(0.25 + q.x * 1e-5, 0.5 + q.y * 1e-5, -0.75 + q.z * 1e-5, samples.nextTimestamp());
+    }
+
+    private int changes(final double x, final double y, final double z, final int timestamp) {
+        int changes = 0;
+        changes += mX.decimal(x, 3, "") ? 1 : 0;
+        changes += mY.decimal(y, 3, "") ? 1 : 0;
+        changes += mZ.decimal(z, 3, "") ? 1 : 0;
+        changes += mTimestamp.integer(timestamp, "") ? 1 : 0;
+        return changes;
+    }
+}
@@ -0,0 +1,82 @@
+package com.mach1.ar.sensor_benchmarks;
+
+//
+//  OscEncodingBenchmark.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import com.illposed.osc.OSCBundle;
+import com.illposed.osc.OSCMessage;
+import com.illposed.osc.OSCPacket;
+import com.mach1.ar.sensor_core.SensorFrame;
+import com.mach1.ar.sensor_core.osc.OscBundleEncoder;
+import com.mach1.ar.sensor_core.osc.OscMessageEncoder;
+import com.mach1.ar.sensor_core.osc.OscTimetag;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JavaOSC serialization against the preallocated encoders, for a single orientation message
+ * and for a whole sensor frame bundle.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class OscEncodingBenchmark {
+    private static final long FRAME_TIME_MILLIS = 1_600_000_000_000L;
+
+    private final OscMessageEncoder mMessageEncoder = OscMessageEncoder.orientation();
+    private final OscBundleEncoder mBundleEncoder = OscBundleEncoder.sensorFrame();
+    private final float[] mFrame = { 12.345f, -6.789f, 0.5f, 0.01f, -0.02f, 9.81f, 2.5f };
+
+    @Benchmark
+    public byte[] javaOscMessage() {
+        final List<Object> arguments = new ArrayList<>(3);
+        arguments.add(mFrame[SensorFrame.YAW]);
+        arguments.add(mFrame[SensorFrame.PITCH]);
+        arguments.add(mFrame[SensorFrame.ROLL]);
+        return new OSCMessage(OscMessageEncoder.ORIENTATION_ADDRESS, arguments).getByteArray();
+    }
+
+    @Benchmark
+    public ByteBuffer messageEncoder() {
+        return mMessageEncoder.encode(mFrame[SensorFrame.YAW], mFrame[SensorFrame.PITCH], mFrame[SensorFrame.ROLL]);
+    }
+
+    @Benchmark
+    public byte[] javaOscBundle() {
+        final List<OSCPacket> messages = new ArrayList<>(3);
+        messages.add(new OSCMessage(OscMessageEncoder.ORIENTATION_ADDRESS, Arrays.<Object>asList(
+            mFrame[SensorFrame.YAW], mFrame[SensorFrame.PITCH], mFrame[SensorFrame.ROLL])));
+        messages.add(new OSCMessage(OscMessageEncoder.ACCELERATION_ADDRESS, Arrays.<Object>asList(
+            mFrame[SensorFrame.ACCELERATION_X], mFrame[SensorFrame.ACCELERATION_Y], mFrame[SensorFrame.ACCELERATION_Z])));
+        messages.add(new OSCMessage(OscMessageEncoder.ACCURACY_ADDRESS, Arrays.<Object>asList(
+            mFrame[SensorFrame.ACCURACY])));
+        return new OSCBundle(messages, new Date(FRAME_TIME_MILLIS)).getByteArray();
+    }
+
+    @Benchmark
+    public ByteBuffer bundleEncoder() {
+        return mBundleEncoder.encode(OscTimetag.fromMillis(FRAME_TIME_MILLIS), mFrame, 0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.mach1.ar.sensor_benchmarks;
+
+//
+//  QuaternionBenchmark.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import com.mach1.ar.sensor_core.EulerAngles;
+import com.mach1.ar.sensor_core.QuaternionFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Orientation math done for every rotation sample.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QuaternionBenchmark {
+    @Benchmark
+    public SdkQuaternion multiplyTranslation(final Samples samples) {
+        return SdkQuaternion.multiply(samples.next(), SdkQuaternion.TRANSLATION_Q);
+    }
+
+    @Benchmark
+    public void rotations(final Samples samples, final Blackhole blackhole) {
+        final SdkQuaternion quaternion = samples.next();
+        blackhole.consume(quaternion.xRotation());
+        blackhole.consume(quaternion.yRotation());
+        blackhole.consume(quaternion.zRotation());
+    }
+
+    /**
+     * {@code ARCoreSensorValueReader.yaw/pitch/roll} in scene-example.
+     */
+    @Benchmark
+    public void arCoreAngles(final Samples samples, final Blackhole blackhole) {
+        final SdkQuaternion q = samples.next();
+        blackhole.consume(EulerAngles.yaw(q.x, q.y, q.z, q.w));
+        blackhole.consume(EulerAngles.pitch(q.x, q.y, q.z, q.w));
+        blackhole.consume(EulerAngles.roll(q.x, q.y, q.z, q.w));
+    }
+
+    /**
+     * {@code OrientationPipeline} with smoothing on, at 50 Hz.
+     */
+    @Benchmark
+    public double[] smooth(final Samples samples, final Smoothing smoothing) {
+        final SdkQuaternion q = samples.next();
+        final double[] quaternion = smoothing.mQuaternion;
+        quaternion[0] = q.x;
+        quaternion[1] = q.y;
+        quaternion[2] = q.z;
+        quaternion[3] = q.w;
+        smoothing.mFilter.filter(quaternion, 0.02);
+        return quaternion;
+    }
+
+    @State(Scope.Thread)
+    public static class Smoothing {
+        final QuaternionFilter mFilter = new QuaternionFilter();
+        final double[] mQuaternion = new double[4];
+    }
+}
@@ -0,0 +1,101 @@
+package com.mach1.ar.sensor_benchmarks;
+
+//
+//  SamplePathBenchmark.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import com.illposed.osc.OSCMessage;
+import com.mach1.ar.sensor_core.Angles;
+import com.mach1.ar.sensor_core.DecimalFormatter;
+import com.mach1.ar.sensor_core.FrameAssembler;
+import com.mach1.ar.sensor_core.SensorFrame;
+import com.mach1.ar.sensor_core.osc.OscMessageEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Everything basic-example does between receiving a rotation sample and having the OSC packet
+ * bytes: coordinate translation, angle conversion, display text for all three angles and
+ * encoding. Sending itself is left out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class SamplePathBenchmark {
+    private static final String DEGREE_SIGN = "°";
+
+    private final char[] mYawText = new char[DecimalFormatter.BUFFER_SIZE];
+    private final char[] mPitchText = new char[DecimalFormatter.BUFFER_SIZE];
+    private final char[] mRollText = new char[DecimalFormatter.BUFFER_SIZE];
+    private final OscMessageEncoder mEncoder = OscMessageEncoder.orientation();
+    private FrameAssembler mFrames;
+    private Blackhole mBlackhole;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        mBlackhole = blackhole;
+        mFrames = new FrameAssembler((frame, frameTimeMillis, arrivalNanos, convertedNanos) ->
+            mBlackhole.consume(mEncoder.encode(frame, SensorFrame.YAW)));
+    }
+
+    /**
+     * The original path: {@code String.format} for display, format and parse for rounding and a
+     * new JavaOSC message per sample.
+     */
+    @Benchmark
+    public void legacy(final Samples samples, final Blackhole blackhole) {
+        final SdkQuaternion quaternion = SdkQuaternion.multiply(samples.next(), SdkQuaternion.TRANSLATION_Q);
+
+        final double yaw = -quaternion.zRotation() * 180 / Math.PI;
+        final double pitch = quaternion.xRotation() * 180 / Math.PI;
+        final double roll = quaternion.yRotation() * 180 / Math.PI;
+        blackhole.consume(String.format(Locale.US, "%.2f°", yaw));
+        blackhole.consume(String.format(Locale.US, "%.2f°", pitch));
+        blackhole.consume(String.format(Locale.US, "%.2f°", roll));
+
+        final List<Object> arguments = new ArrayList<>(3);
+        arguments.add(Float.parseFloat(String.format(Locale.US, "%.3f", yaw)));
+        arguments.add(Float.parseFloat(String.format(Locale.US, "%.3f", pitch)));
+        arguments.add(Float.parseFloat(String.format(Locale.US, "%.3f", roll)));
+        blackhole.consume(new OSCMessage(OscMessageEncoder.ORIENTATION_ADDRESS, arguments).getByteArray());
+    }
+
+    @Benchmark
+    public void current(final Samples samples) {
+        final SdkQuaternion quaternion = SdkQuaternion.multiply(samples.next(), SdkQuaternion.TRANSLATION_Q);
+
+        final double yaw = Angles.degrees(-quaternion.zRotation());
+        final double pitch = Angles.degrees(quaternion.xRotation());
+        final double roll = Angles.degrees(quaternion.yRotation());
+        mBlackhole.consume(DecimalFormatter.format(yaw, 2, DEGREE_SIGN, mYawText));
+        mBlackhole.consume(DecimalFormatter.format(pitch, 2, DEGREE_SIGN, mPitchText));
+        mBlackhole.consume(DecimalFormatter.format(roll, 2, DEGREE_SIGN, mRollText));
+
+        mFrames.orientation(samples.nextTimestamp(),
+            Angles.quantize(yaw, 3),
+            Angles.quantize(pitch, 3),
+            Angles.quantize(roll, 3),
+            SensorFrame.UNKNOWN_ACCURACY);
+    }
+}
@@ -0,0 +1,63 @@
+package com.mach1.ar.sensor_benchmarks;
+
+//
+//  Samples.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * A fixed set of random unit quaternions, cycled through so that neither the JIT nor the branch
+ * predictor sees the same input every time.
+ */
+@State(Scope.Thread)
+public class Samples {
+    private static final int COUNT = 1024;
+
+    private final SdkQuaternion[] mQuaternions = new SdkQuaternion[COUNT];
+    private int mIndex;
+    private int mTimestamp;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < COUNT; i++) {
+            final double x = random.nextGaussian();
+            final double y = random.nextGaussian();
+            final double z = random.nextGaussian();
+            final double w = random.nextGaussian();
+            final double norm = Math.sqrt(x * x + y * y + z * z + w * w);
+            mQuaternions[i] = new SdkQuaternion(x / norm, y / norm, z / norm, w / norm);
+        }
+    }
+
+    @NonNull
+    public SdkQuaternion next() {
+        mIndex = (mIndex + 1) & (COUNT - 1);
+        return mQuaternions[mIndex];
+    }
+
+    /**
+     * @return a device timestamp 20 ms after the previous one, wrapping like the real sensor
+     */
+    public int nextTimestamp() {
+        mTimestamp = (mTimestamp + 20) & 0xFFFF;
+        return mTimestamp;
+    }
+
+    /**
+     * @return an angle in degrees in the range the apps display
+     */
+    public double nextDegrees() {
+        return Math.toDegrees(next().zRotation());
+    }
+}
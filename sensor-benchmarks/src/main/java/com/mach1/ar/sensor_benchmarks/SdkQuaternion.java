@@ -0,0 +1,55 @@
+package com.mach1.ar.sensor_benchmarks;
+
+//
+//  SdkQuaternion.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * JVM stand-in for {@code com.bose.wearable.sensordata.Quaternion}.
+ *
+ * The SDK ships as an Android library and cannot be loaded by a plain JVM, so this copies the
+ * shape of the work the apps do with it: an immutable double quaternion, one allocation per
+ * {@link #multiply(SdkQuaternion, SdkQuaternion)} and the Tait-Bryan angle conversions.
+ */
+final class SdkQuaternion {
+    static final SdkQuaternion TRANSLATION_Q = new SdkQuaternion(1, 0, 0, 0);
+
+    final double x;
+    final double y;
+    final double z;
+    final double w;
+
+    SdkQuaternion(final double x, final double y, final double z, final double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    @NonNull
+    static SdkQuaternion multiply(@NonNull final SdkQuaternion a, @NonNull final SdkQuaternion b) {
+        return new SdkQuaternion(
+            a.w * b.x + a.x * b.w + a.y * b.z - a.z * b.y,
+            a.w * b.y - a.x * b.z + a.y * b.w + a.z * b.x,
+            a.w * b.z + a.x * b.y - a.y * b.x + a.z * b.w,
+            a.w * b.w - a.x * b.x - a.y * b.y - a.z * b.z);
+    }
+
+    double xRotation() {
+        return Math.atan2(2 * (w * x + y * z), 1 - 2 * (x * x + y * y));
+    }
+
+    double yRotation() {
+        final double sin = 2 * (w * y - z * x);
+        return Math.abs(sin) >= 1 ? Math.copySign(Math.PI / 2, sin) : Math.asin(sin);
+    }
+
+    double zRotation() {
+        return Math.atan2(2 * (w * z + x * y), 1 - 2 * (y * y + z * z));
+    }
+}
@@ -0,0 +1,251 @@
+package com.mach1.ar.sensor_benchmarks.load;
+
+//
+//  LoadDevice.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.OrientationPipeline;
+import com.mach1.ar.sensor_core.SensorFrame;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+import com.mach1.ar.sensor_core.osc.OrientationSender;
+import com.mach1.ar.sensor_core.osc.OscDestination;
+import com.mach1.ar.sensor_core.osc.OscFormat;
+import com.mach1.ar.sensor_core.source.MotionProfile;
+import com.mach1.ar.sensor_core.source.SyntheticSensorSource;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * One simulated headset: a synthetic source feeding the orientation pipeline, an
+ * {@link OrientationSender} and a loopback socket receiving what it sends.
+ *
+ * Every published frame is logged with the time its sample was generated. The receiver matches
+ * incoming packets against the log in order, which gives the latency from sample to packet
+ * arrival and counts frames that never arrived.
+ */
+final class LoadDevice implements SensorSampleListener {
+    static final int ROTATION_TYPE = 2;
+    static final int ACCELERATION_TYPE = 0;
+
+    private static final int LOG_SIZE = 1 << 16;
+    private static final int LOG_MASK = LOG_SIZE - 1;
+    // Offset of the yaw argument in an /orientation message, in a sensor frame bundle and in a
+    // traced one, where a 28 byte /trace message comes first
+    private static final int MESSAGE_YAW_OFFSET = 24;
+    private static final int BUNDLE_YAW_OFFSET = 16 + 4 + MESSAGE_YAW_OFFSET;
+    private static final int TRACED_YAW_OFFSET = 4 + 28 + BUNDLE_YAW_OFFSET;
+
+    @NonNull
+    private final SyntheticSensorSource mSource;
+    @NonNull
+    private final OrientationPipeline mPipeline;
+    @NonNull
+    private final OrientationSender mSender;
+    @NonNull
+    private final DatagramChannel mChannel;
+    @NonNull
+    private final Thread mReceiver;
+    private final int mBundleYawOffset;
+
+    // Publish log, written by the source thread, read by the receiver thread
+    private final int[] mLogYaw = new int[LOG_SIZE];
+    private final int[] mLogPitch = new int[LOG_SIZE];
+    private final int[] mLogRoll = new int[LOG_SIZE];
+    private final long[] mLogNanos = new long[LOG_SIZE];
+    private volatile long mPublished;
+    private long mSampleNanos;
+
+    // Written by the receiver thread only
+    private final long[] mLatencies;
+    private volatile int mLatencyCount;
+    private volatile long mReceived;
+    private volatile long mLost;
+    private volatile long mUnmatched;
+    private long mCursor;
+    private volatile long mMeasureFromNanos = Long.MAX_VALUE;
+    private volatile long mMeasureUntilNanos = Long.MAX_VALUE;
+
+    LoadDevice(final int index,
+               final int rateHz,
+               @NonNull final OscFormat format,
+               final int expectedFrames) throws IOException {
+        mSource = new SyntheticSensorSource(rateHz, MotionProfile.WANDER, ROTATION_TYPE, ACCELERATION_TYPE)
+            .seed(index + 1);
+        mSender = new OrientationSender();
+        mPipeline = new OrientationPipeline(ROTATION_TYPE, ACCELERATION_TYPE,
+            (frame, frameTimeMillis, arrivalNanos, convertedNanos) -> {
+                log(frame);
+                mSender.publish(frame, frameTimeMillis, arrivalNanos, convertedNanos);
+            });
+        mPipeline.bundled(format != OscFormat.MESSAGE);
+        mBundleYawOffset = format == OscFormat.TRACED ? TRACED_YAW_OFFSET : BUNDLE_YAW_OFFSET;
+        mSender.format(format);
+
+        mChannel = DatagramChannel.open();
+        mChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        mChannel.socket().setReceiveBufferSize(1 << 20);
+        mSender.addresses(Collections.singletonList((InetSocketAddress) mChannel.getLocalAddress()));
+
+        mLatencies = new long[expectedFrames];
+        mReceiver = new Thread(this::receive, "LoadDevice " + index + " receiver");
+    }
+
+    void start() {
+        mReceiver.start();
+        mSender.start();
+        mSource.start(this);
+    }
+
+    /**
+     * Counts frames whose samples are generated between the two times.
+     */
+    void measure(final long fromNanos, final long untilNanos) {
+        mMeasureUntilNanos = untilNanos;
+        mMeasureFromNanos = fromNanos;
+    }
+
+    /**
+     * Stops generating samples, sends what is queued and waits for it to arrive.
+     */
+    void stop() throws IOException, InterruptedException {
+        mSource.stop();
+        mSender.stop();
+        // Give the loopback socket time to deliver what was sent
+        Thread.sleep(100);
+        mChannel.close();
+        mReceiver.join();
+    }
+
+    long generated() {
+        return mSource.sampleCount();
+    }
+
+    long published() {
+        return mPublished;
+    }
+
+    long received() {
+        return mReceived;
+    }
+
+    long lost() {
+        return mLost;
+    }
+
+    long unmatched() {
+        return mUnmatched;
+    }
+
+    long dropped() {
+        long dropped = 0;
+        for (final OscDestination destination : mSender.destinations()) {
+            dropped += destination.droppedCount();
+        }
+        return dropped;
+    }
+
+    long failed() {
+        long failed = 0;
+        for (final OscDestination destination : mSender.destinations()) {
+            failed += destination.failedCount();
+        }
+        return failed;
+    }
+
+    long[] latencies() {
+        return Arrays.copyOf(mLatencies, mLatencyCount);
+    }
+
+    @Override
+    public void onSensorSample(final int type,
+                               final int deviceTimestamp,
+                               final long receiveNanos,
+                               final float x,
+                               final float y,
+                               final float z,
+                               final float w,
+                               final float accuracy) {
+        mSampleNanos = receiveNanos;
+        mPipeline.onSensorSample(type, deviceTimestamp, receiveNanos, x, y, z, w, accuracy);
+    }
+
+    @Override
+    public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+        mPipeline.onGestureSample(type, deviceTimestamp, receiveNanos);
+    }
+
+    private void log(@NonNull final float[] frame) {
+        final long index = mPublished;
+        final int slot = (int) (index & LOG_MASK);
+        mLogYaw[slot] = Float.floatToIntBits(frame[SensorFrame.YAW]);
+        mLogPitch[slot] = Float.floatToIntBits(frame[SensorFrame.PITCH]);
+        mLogRoll[slot] = Float.floatToIntBits(frame[SensorFrame.ROLL]);
+        mLogNanos[slot] = mSampleNanos;
+        mPublished = index + 1;
+    }
+
+    private void receive() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        while (true) {
+            buffer.clear();
+            try {
+                mChannel.receive(buffer);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+
+            final long now = System.nanoTime();
+            final int offset = buffer.get(0) == '#' ? mBundleYawOffset : MESSAGE_YAW_OFFSET;
+            if (buffer.position() < offset + 12) {
+                continue;
+            }
+            match(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8), now);
+        }
+    }
+
+    private void match(final int yaw, final int pitch, final int roll, final long now) {
+        final long published = mPublished;
+        // Entries older than the log size have been overwritten and count as lost
+        final long first = Math.max(mCursor, published - LOG_SIZE);
+        for (long index = first; index < published; index++) {
+            final int slot = (int) (index & LOG_MASK);
+            if (mLogYaw[slot] == yaw && mLogPitch[slot] == pitch && mLogRoll[slot] == roll) {
+                for (long skipped = first; skipped < index; skipped++) {
+                    if (measured(mLogNanos[(int) (skipped & LOG_MASK)])) {
+                        mLost += 1;
+                    }
+                }
+
+                final long sampleNanos = mLogNanos[slot];
+                if (measured(sampleNanos)) {
+                    mReceived += 1;
+                    if (mLatencyCount < mLatencies.length) {
+                        mLatencies[mLatencyCount] = now - sampleNanos;
+                        mLatencyCount += 1;
+                    }
+                }
+                mCursor = index + 1;
+                return;
+            }
+        }
+        mUnmatched += 1;
+    }
+
+    private boolean measured(final long sampleNanos) {
+        return sampleNanos >= mMeasureFromNanos && sampleNanos < mMeasureUntilNanos;
+    }
+}
@@ -0,0 +1,205 @@
+package com.mach1.ar.sensor_benchmarks.load;
+
+//
+//  LoadHarness.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.osc.OscFormat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the orientation pipeline with synthetic headsets at increasing rates and device counts
+ * and reports sustained throughput, latency percentiles and losses per step.
+ *
+ * Each device runs the full send path: quaternion conversion, frame assembly, throttling,
+ * encoding and a UDP send to a socket on the loopback interface. Latency runs from generating a
+ * sample to receiving its packet.
+ *
+ * <pre>
+ * LoadHarness [--rates 100,250,500,1000] [--devices 1,2,4,8] [--seconds 5] [--warmup 1]
+ *             [--format message|bundle|traced] [--output results.json]
+ * </pre>
+ */
+public final class LoadHarness {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private int[] mRates = { 100, 250, 500, 1000 };
+    private int[] mDevices = { 1, 2, 4, 8 };
+    private double mSeconds = 5;
+    private double mWarmupSeconds = 1;
+    private OscFormat mFormat = OscFormat.MESSAGE;
+    private File mOutput = new File("build/reports/load/results.json");
+
+    private LoadHarness() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final LoadHarness harness = new LoadHarness();
+        harness.parse(args);
+        harness.run();
+    }
+
+    private void parse(@NonNull final String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            final String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            final String value = args[++i];
+            switch (option) {
+                case "--rates":
+                    mRates = parseList(value);
+                    break;
+                case "--devices":
+                    mDevices = parseList(value);
+                    break;
+                case "--seconds":
+                    mSeconds = Double.parseDouble(value);
+                    break;
+                case "--warmup":
+                    mWarmupSeconds = Double.parseDouble(value);
+                    break;
+                case "--format":
+                    mFormat = OscFormat.valueOf(value.toUpperCase(Locale.US));
+                    break;
+                case "--output":
+                    mOutput = new File(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        final List<LoadResult> results = new ArrayList<>();
+        for (final int devices : mDevices) {
+            for (final int rate : mRates) {
+                final LoadResult result = step(devices, rate);
+                System.out.println(result);
+                results.add(result);
+            }
+        }
+        write(results);
+        System.out.println("Results written to " + mOutput.getAbsolutePath());
+    }
+
+    @NonNull
+    private LoadResult step(final int deviceCount, final int rateHz) throws Exception {
+        final int expectedFrames = (int) Math.ceil(rateHz * (mSeconds + mWarmupSeconds) * 1.2) + 1024;
+        final List<LoadDevice> devices = new ArrayList<>(deviceCount);
+        for (int i = 0; i < deviceCount; i++) {
+            devices.add(new LoadDevice(i, rateHz, mFormat, expectedFrames));
+        }
+        for (final LoadDevice device : devices) {
+            device.start();
+        }
+
+        final long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(toMillis(mWarmupSeconds));
+        final long end = start + TimeUnit.MILLISECONDS.toNanos(toMillis(mSeconds));
+        for (final LoadDevice device : devices) {
+            device.measure(start, end);
+        }
+
+        sleepUntil(start);
+        final long[] generatedBefore = new long[deviceCount];
+        final long[] publishedBefore = new long[deviceCount];
+        final long[] droppedBefore = new long[deviceCount];
+        final long[] failedBefore = new long[deviceCount];
+        for (int i = 0; i < deviceCount; i++) {
+            final LoadDevice device = devices.get(i);
+            generatedBefore[i] = device.generated();
+            publishedBefore[i] = device.published();
+            droppedBefore[i] = device.dropped();
+            failedBefore[i] = device.failed();
+        }
+
+        sleepUntil(end);
+        final long[] generatedAfter = new long[deviceCount];
+        final long[] publishedAfter = new long[deviceCount];
+        final long[] droppedAfter = new long[deviceCount];
+        final long[] failedAfter = new long[deviceCount];
+        for (int i = 0; i < deviceCount; i++) {
+            final LoadDevice device = devices.get(i);
+            generatedAfter[i] = device.generated();
+            publishedAfter[i] = device.published();
+            droppedAfter[i] = device.dropped();
+            failedAfter[i] = device.failed();
+        }
+        final double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        for (final LoadDevice device : devices) {
+            device.stop();
+        }
+
+        final LoadResult result = new LoadResult(deviceCount, rateHz, seconds);
+        for (int i = 0; i < deviceCount; i++) {
+            final LoadDevice device = devices.get(i);
+            result.mGenerated += generatedAfter[i] - generatedBefore[i];
+            result.mPublished += publishedAfter[i] - publishedBefore[i];
+            result.mReceived += device.received();
+            result.mDropped += droppedAfter[i] - droppedBefore[i];
+            result.mFailed += failedAfter[i] - failedBefore[i];
+            result.mLost += device.lost();
+            result.mUnmatched += device.unmatched();
+            result.addLatencies(device.latencies());
+        }
+        return result;
+    }
+
+    private void write(@NonNull final List<LoadResult> results) throws IOException {
+        final File directory = mOutput.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(mOutput), UTF_8)) {
+            writer.write(String.format(Locale.US,
+                "{\"java\": \"%s\", \"processors\": %d, \"format\": \"%s\", \"warmupSeconds\": %.3f, \"steps\": [\n",
+                System.getProperty("java.version"), Runtime.getRuntime().availableProcessors(),
+                mFormat, mWarmupSeconds));
+            for (int i = 0; i < results.size(); i++) {
+                writer.write("  ");
+                writer.write(results.get(i).toJson());
+                writer.write(i + 1 < results.size() ? ",\n" : "\n");
+            }
+            writer.write("]}\n");
+        }
+    }
+
+    @NonNull
+    private static int[] parseList(@NonNull final String value) {
+        final String[] parts = value.split(",");
+        final int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static void sleepUntil(final long nanos) throws InterruptedException {
+        long remaining = nanos - System.nanoTime();
+        while (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+            remaining = nanos - System.nanoTime();
+        }
+    }
+
+    private static long toMillis(final double seconds) {
+        return Math.round(seconds * 1000);
+    }
+}
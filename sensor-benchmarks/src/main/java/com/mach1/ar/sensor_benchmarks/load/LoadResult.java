@@ -0,0 +1,103 @@
+package com.mach1.ar.sensor_benchmarks.load;
+
+//
+//  LoadResult.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Outcome of one load step: a number of devices at one sample rate.
+ */
+final class LoadResult {
+    // Fraction of the target rate below which the source is considered to have fallen behind
+    private static final double SUSTAINED_FRACTION = 0.98;
+
+    final int mDevices;
+    final int mRateHz;
+    final double mSeconds;
+    long mGenerated;
+    long mPublished;
+    long mReceived;
+    long mDropped;
+    long mFailed;
+    long mLost;
+    long mUnmatched;
+    private long[] mLatencies = new long[0];
+
+    LoadResult(final int devices, final int rateHz, final double seconds) {
+        mDevices = devices;
+        mRateHz = rateHz;
+        mSeconds = seconds;
+    }
+
+    void addLatencies(@NonNull final long[] latencies) {
+        final int count = mLatencies.length;
+        mLatencies = Arrays.copyOf(mLatencies, count + latencies.length);
+        System.arraycopy(latencies, 0, mLatencies, count, latencies.length);
+    }
+
+    double targetRate() {
+        return (double) mDevices * mRateHz;
+    }
+
+    double generatedRate() {
+        return mGenerated / mSeconds;
+    }
+
+    double throughput() {
+        return mReceived / mSeconds;
+    }
+
+    /**
+     * @return {@code true} if the sources kept their rate and every frame arrived
+     */
+    boolean sustained() {
+        return generatedRate() >= SUSTAINED_FRACTION * targetRate()
+            && mDropped == 0 && mFailed == 0 && mLost == 0;
+    }
+
+    /**
+     * @param quantile between 0 and 1
+     * @return latency in microseconds, or -1 if nothing was received
+     */
+    double latencyMicros(final double quantile) {
+        if (mLatencies.length == 0) {
+            return -1;
+        }
+        Arrays.sort(mLatencies);
+        final int index = (int) Math.min(mLatencies.length - 1, Math.ceil(quantile * mLatencies.length) - 1);
+        return mLatencies[Math.max(index, 0)] / 1000.0;
+    }
+
+    @NonNull
+    String toJson() {
+        return String.format(Locale.US,
+            "{\"devices\": %d, \"rateHz\": %d, \"seconds\": %.3f, \"targetRate\": %.1f, "
+                + "\"generatedRate\": %.1f, \"throughput\": %.1f, "
+                + "\"generated\": %d, \"published\": %d, \"received\": %d, "
+                + "\"dropped\": %d, \"failed\": %d, \"lost\": %d, \"unmatched\": %d, "
+                + "\"latencyMicros\": {\"p50\": %.1f, \"p99\": %.1f, \"p999\": %.1f, \"max\": %.1f}, "
+                + "\"sustained\": %b}",
+            mDevices, mRateHz, mSeconds, targetRate(), generatedRate(), throughput(),
+            mGenerated, mPublished, mReceived, mDropped, mFailed, mLost, mUnmatched,
+            latencyMicros(0.5), latencyMicros(0.99), latencyMicros(0.999), latencyMicros(1),
+            sustained());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+            "%d x %4d Hz: %8.1f/s of %8.1f/s, dropped %d, lost %d, latency p50 %.0f us, p99 %.0f us, p999 %.0f us%s",
+            mDevices, mRateHz, throughput(), targetRate(), mDropped, mLost,
+            latencyMicros(0.5), latencyMicros(0.99), latencyMicros(0.999),
+            sustained() ? "" : "  NOT SUSTAINED");
+    }
+}
@@ -0,0 +1,91 @@
+package com.mach1.ar.sensor_benchmarks.load;
+
+//
+//  OscMonitor.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.LatencyHistogram;
+import com.mach1.ar.sensor_core.osc.OscReceiver;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listens on a loopback port with an {@link OscReceiver} and prints once a second how many
+ * orientations arrived, how many traced frames were lost or reordered and their one-way latency.
+ *
+ * Point the sender at {@code 127.0.0.1} and the port, for example through {@code adb reverse}
+ * from a device, and select the traced format to get losses and latency.
+ *
+ * <pre>
+ * OscMonitor [--port 9898] [--seconds 0]
+ * </pre>
+ */
+public final class OscMonitor {
+    private int mPort = 9898;
+    private double mSeconds = 0;
+
+    private OscMonitor() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final OscMonitor monitor = new OscMonitor();
+        monitor.parse(args);
+        monitor.run();
+    }
+
+    private void parse(@NonNull final String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            final String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            final String value = args[++i];
+            switch (option) {
+                case "--port":
+                    mPort = Integer.parseInt(value);
+                    break;
+                case "--seconds":
+                    mSeconds = Double.parseDouble(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        try (OscReceiver receiver = new OscReceiver(mPort)) {
+            receiver.start();
+            System.out.println("Listening on " + receiver.address());
+
+            final LatencyHistogram.Interval latency = receiver.latency().interval();
+            final long end = mSeconds > 0
+                ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos((long) (mSeconds * 1000))
+                : Long.MAX_VALUE;
+            long orientations = 0;
+            long lost = 0;
+            long reordered = 0;
+            while (System.nanoTime() - end < 0) {
+                Thread.sleep(1000);
+                latency.update();
+                final long orientationCount = receiver.orientationCount();
+                final long lostCount = receiver.lostCount();
+                final long reorderedCount = receiver.reorderedCount();
+                System.out.println(String.format(Locale.US,
+                    "%6d/s  lost %d  reordered %d  latency p50 %.3f ms  p99 %.3f ms  max %.3f ms",
+                    orientationCount - orientations, lostCount - lost, reorderedCount - reordered,
+                    latency.valueAt(0.5) / 1e6, latency.valueAt(0.99) / 1e6, latency.max() / 1e6));
+                orientations = orientationCount;
+                lost = lostCount;
+                reordered = reorderedCount;
+            }
+            System.out.println(receiver);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  Angles.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import java.util.Locale;
+
+/**
+ * Numeric angle conversion and quantization for the orientation hot path.
+ *
+ * {@link #quantize(double, int)} returns exactly what
+ * {@code Float.parseFloat(String.format(Locale.US, "%.3f", value))} returns for the same
+ * number of decimals, without going through a string for all but a vanishing number of inputs.
+ */
+public final class Angles {
+    /**
+     * Largest number of decimals {@link #quantize(double, int)} supports.
+     */
+    public static final int MAX_DECIMALS = 6;
+
+    private static final double[] SCALES = { 1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6 };
+    private static final float[] FLOAT_SCALES = { 1f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f };
+
+    // Quantized values up to this magnitude are exactly representable as float
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+    // Distance from a rounding tie below which String.format might round the other way
+    private static final double TIE_TOLERANCE = 1e-6;
+
+    private Angles() {
+    }
+
+    public static double degrees(final double radians) {
+        return radians * 180 / Math.PI;
+    }
+
+    /**
+     * Rounds {@code value} half-up to {@code decimals} decimal places, like {@code %.Nf} does,
+     * and returns the nearest float to the rounded decimal.
+     */
+    public static float quantize(final double value, final int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return (float) value;
+        }
+
+        final long units = roundedUnits(value, decimals);
+        if (units < 0) {
+            return Float.parseFloat(String.format(Locale.US, "%." + decimals + "f", value));
+        }
+
+        // Both operands are exact floats so the division rounds once, like Float.parseFloat
+        final float magnitude = units / FLOAT_SCALES[decimals];
+        return isNegative(value) ? -magnitude : magnitude;
+    }
+
+    /**
+     * Rounds the magnitude of {@code value} half-up to {@code decimals} decimal places and
+     * returns it as an integer count of 10^-decimals units.
+     *
+     * @return the rounded magnitude, or -1 if the value is too close to a rounding tie or too
+     * large to be rounded exactly without formatting it
+     */
+    static long roundedUnits(final double value, final int decimals) {
+        if (decimals < 0 || decimals > MAX_DECIMALS) {
+            throw new IllegalArgumentException("Unsupported number of decimals: " + decimals);
+        }
+
+        final double scaled = Math.abs(value) * SCALES[decimals];
+        if (!(scaled < MAX_EXACT_FLOAT)) {
+            return -1;
+        }
+
+        final double whole = Math.floor(scaled);
+        final double fraction = scaled - whole;
+        if (Math.abs(fraction - 0.5) < TIE_TOLERANCE) {
+            return -1;
+        }
+
+        return (long) whole + (fraction > 0.5 ? 1 : 0);
+    }
+
+    /**
+     * Matches the sign handling of {@code %f}, which prints negative zero as "-0.000".
+     */
+    static boolean isNegative(final double value) {
+        return Double.compare(value, 0.0) < 0;
+    }
+}
@@ -0,0 +1,142 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  DecimalFormatter.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Formats numbers like {@code String.format(Locale.US, "%.Nf", value)} into a caller owned
+ * {@code char[]}, so that a TextView can be updated with {@code setText(char[], int, int)}
+ * without allocating.
+ *
+ * Each TextView must have its own buffer: TextView keeps a reference to the array rather than
+ * copying it.
+ */
+public final class DecimalFormatter {
+    /**
+     * Enough room for any value {@link Angles#roundedUnits(double, int)} accepts plus a short
+     * suffix.
+     */
+    public static final int BUFFER_SIZE = 32;
+
+    private static final long[] POWERS = { 1, 10, 100, 1000, 10000, 100000, 1000000 };
+
+    private DecimalFormatter() {
+    }
+
+    /**
+     * Writes {@code value} with {@code decimals} decimal places followed by {@code suffix}.
+     *
+     * @return number of characters written to {@code out}
+     */
+    public static int format(final double value,
+                             final int decimals,
+                             @NonNull final String suffix,
+                             @NonNull final char[] out) {
+        final long units = Double.isNaN(value) || Double.isInfinite(value)
+            ? -1
+            : Angles.roundedUnits(value, decimals);
+        if (units < 0) {
+            return copy(String.format(Locale.US, "%." + decimals + "f", value), suffix, out);
+        }
+
+        int length = 0;
+        if (Angles.isNegative(value)) {
+            out[length++] = '-';
+        }
+
+        final long whole = units / POWERS[decimals];
+        long fraction = units % POWERS[decimals];
+
+        length += digitCount(whole);
+        int position = length;
+        long remaining = whole;
+        do {
+            out[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        if (decimals > 0) {
+            out[length++] = '.';
+            for (int i = decimals - 1; i >= 0; i--) {
+                out[length + i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            length += decimals;
+        }
+
+        return append(suffix, out, length);
+    }
+
+    /**
+     * Writes {@code value} followed by {@code suffix}, like {@code String.valueOf(value) + suffix}.
+     *
+     * @return number of characters written to {@code out}
+     */
+    public static int format(final long value,
+                             @NonNull final String suffix,
+                             @NonNull final char[] out) {
+        if (value == Long.MIN_VALUE) {
+            return copy(String.valueOf(value), suffix, out);
+        }
+
+        int length = 0;
+        if (value < 0) {
+            out[length++] = '-';
+        }
+
+        long remaining = Math.abs(value);
+        length += digitCount(remaining);
+        int position = length;
+        do {
+            out[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        return append(suffix, out, length);
+    }
+
+    /**
+     * Allocating variant of {@link #format(double, int, String, char[])} for call sites that
+     * are not on a hot path.
+     */
+    @NonNull
+    public static String toString(final double value,
+                                  final int decimals,
+                                  @NonNull final String suffix) {
+        final char[] out = new char[BUFFER_SIZE];
+        return new String(out, 0, format(value, decimals, suffix, out));
+    }
+
+    private static int digitCount(final long value) {
+        int count = 1;
+        long remaining = value;
+        while (remaining >= 10) {
+            remaining /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    private static int copy(@NonNull final String text,
+                            @NonNull final String suffix,
+                            @NonNull final char[] out) {
+        final int length = Math.min(text.length(), out.length - suffix.length());
+        text.getChars(0, length, out, 0);
+        return append(suffix, out, length);
+    }
+
+    private static int append(@NonNull final String suffix,
+                              @NonNull final char[] out,
+                              final int length) {
+        suffix.getChars(0, suffix.length(), out, length);
+        return length + suffix.length();
+    }
+}
@@ -0,0 +1,348 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  DeviceClock.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Models one device's sample clock against the phone's.
+ *
+ * Device timestamps are milliseconds that wrap at 2^16, about every 65 seconds. They are
+ * unwrapped into a 64-bit timeline; across a silence longer than one wrap, the phone time that
+ * passed decides how many wraps were missed. Steps larger than the sample period count as lost
+ * samples. Unless the period is known, it is the median of the last {@value #PERIOD_STEPS} steps,
+ * so that neither a duplicate timestamp nor a run of losses throws it off.
+ *
+ * A timestamp up to {@value #MAX_REORDER_MILLIS} ms behind the latest one belongs to a sample
+ * that arrived out of order; it counts as a step of 0 and is left out of the model. A timestamp
+ * further behind, or further ahead than the phone time that passed allows, means the device
+ * restarted its clock or another device is feeding this one. The timeline then moves on by the
+ * phone time that passed, nothing counts as lost, and the model starts over.
+ *
+ * The arrival time of each sample is the device time plus a BLE delay that jitters by several
+ * milliseconds, and the two clocks drift apart by tens of parts per million. A least squares
+ * line through the last {@value #DEFAULT_WINDOW} (device time, arrival time) pairs averages the
+ * jitter out and follows the drift, so {@link #receiveNanos(long)} gives an arrival time free of
+ * jitter. Until the window spans {@link #MIN_FIT_SPAN_MILLIS} of device time, which a fit needs
+ * to be trusted, the device clock is assumed to run at the nominal rate from the first sample.
+ *
+ * Not thread safe; feed and query it from the thread that receives the samples.
+ */
+public final class DeviceClock {
+    public static final int TIMESTAMP_PERIOD = 1 << 16;
+    public static final int DEFAULT_WINDOW = 256;
+    public static final long MIN_FIT_SPAN_MILLIS = 1000;
+    public static final int MAX_REORDER_MILLIS = 250;
+    /**
+     * How much further the device timestamps may advance than the phone time that passed.
+     */
+    public static final int MAX_AHEAD_MILLIS = 5000;
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MIN_FIT_POINTS = 8;
+    private static final int PERIOD_STEPS = 15;
+
+    private final int mWindow;
+    // Relative to the anchor, so that the sums keep their precision
+    private final double[] mX;
+    private final double[] mY;
+    private int mSamplePeriodMillis;
+    private final int[] mSteps = new int[PERIOD_STEPS];
+    private final int[] mSortedSteps = new int[PERIOD_STEPS];
+    private int mStepCount;
+
+    private boolean mStarted;
+    private int mLastTimestamp;
+    private long mLastReceiveNanos;
+    private long mDeviceMillis;
+    private int mLastLost;
+    private long mLostCount;
+    private long mRestartCount;
+    private long mFirstDeviceMillis;
+    private long mFirstReceiveNanos;
+
+    private long mAnchorDeviceMillis;
+    private long mAnchorReceiveNanos;
+    private long mCount;
+    private double mSumX;
+    private double mSumY;
+    private double mSumXX;
+    private double mSumXY;
+    private boolean mFitted;
+    private double mSlope;
+    private double mIntercept;
+
+    public DeviceClock() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window number of recent samples the clock model is fitted to
+     */
+    public DeviceClock(final int window) {
+        if (window < MIN_FIT_POINTS) {
+            throw new IllegalArgumentException("Window must hold at least " + MIN_FIT_POINTS
+                + " samples: " + window);
+        }
+
+        mWindow = window;
+        mX = new double[window];
+        mY = new double[window];
+    }
+
+    /**
+     * Sets the period the device was asked to sample at. Until it is set, the median of the
+     * recent steps between timestamps is taken as the period.
+     *
+     * @param millis sample period, or 0 if unknown
+     */
+    public void samplePeriodMillis(final int millis) {
+        mSamplePeriodMillis = millis;
+    }
+
+    /**
+     * Adds a sample.
+     *
+     * @param deviceTimestamp device time in milliseconds, wrapping at {@link #TIMESTAMP_PERIOD}
+     * @param receiveNanos phone time when the sample arrived, for example {@code System.nanoTime()}
+     * @return unwrapped device time of the sample in milliseconds, 0 for the first one; for a
+     * sample that arrived out of order, the time of the latest one
+     */
+    public long update(final int deviceTimestamp, final long receiveNanos) {
+        mLastLost = 0;
+        if (!mStarted) {
+            mStarted = true;
+            restart(receiveNanos);
+        } else {
+            final double elapsedMillis = (receiveNanos - mLastReceiveNanos) / NANOS_PER_MILLI;
+            final long step = unwrappedStep(deviceTimestamp, elapsedMillis);
+            if (step < 0 && step >= -MAX_REORDER_MILLIS) {
+                // Out of order; the timeline stays where the newer sample put it
+                return mDeviceMillis;
+            } else if (step < 0 || step > elapsedMillis + MAX_AHEAD_MILLIS) {
+                mDeviceMillis += Math.max(0, Math.round(elapsedMillis));
+                mRestartCount += 1;
+                restart(receiveNanos);
+            } else {
+                if (step > 0) {
+                    final int period = mSamplePeriodMillis > 0
+                        ? mSamplePeriodMillis
+                        : estimatedPeriod((int) Math.min(Integer.MAX_VALUE, step));
+                    mLastLost = lost(step, period);
+                    mLostCount += mLastLost;
+                }
+                mDeviceMillis += step;
+            }
+        }
+        mLastTimestamp = deviceTimestamp;
+        mLastReceiveNanos = receiveNanos;
+
+        add(mDeviceMillis, receiveNanos);
+        return mDeviceMillis;
+    }
+
+    /**
+     * @return unwrapped device time of the latest sample in milliseconds
+     */
+    public long deviceMillis() {
+        return mDeviceMillis;
+    }
+
+    /**
+     * @return number of samples lost right before the latest one
+     */
+    public int lastLost() {
+        return mLastLost;
+    }
+
+    /**
+     * @return number of samples lost since the first one
+     */
+    public long lostCount() {
+        return mLostCount;
+    }
+
+    /**
+     * @return number of times the device timestamps jumped, see the class comment
+     */
+    public long restartCount() {
+        return mRestartCount;
+    }
+
+    /**
+     * @return whether the clock model is fitted to the arrival times rather than assuming the
+     * nominal rate
+     */
+    public boolean fitted() {
+        return mFitted;
+    }
+
+    /**
+     * @return how much faster the device clock runs than the phone's, in parts per million; 0
+     * until {@link #fitted()}
+     */
+    public double driftPpm() {
+        return mFitted ? (NANOS_PER_MILLI / mSlope - 1) * 1e6 : 0;
+    }
+
+    /**
+     * @param deviceMillis unwrapped device time, as returned by {@link #update(int, long)}
+     * @return phone time at which a sample taken at {@code deviceMillis} arrives on average,
+     * in the clock of the arrival times
+     */
+    public long receiveNanos(final long deviceMillis) {
+        if (mFitted) {
+            return mAnchorReceiveNanos
+                + Math.round(mIntercept + mSlope * (deviceMillis - mAnchorDeviceMillis));
+        }
+        return mFirstReceiveNanos + Math.round(NANOS_PER_MILLI * (deviceMillis - mFirstDeviceMillis));
+    }
+
+    /**
+     * Forgets everything, for example when another device connects.
+     */
+    public void reset() {
+        mStarted = false;
+        mDeviceMillis = 0;
+        mStepCount = 0;
+        mLastLost = 0;
+        mLostCount = 0;
+        mRestartCount = 0;
+        mFitted = false;
+    }
+
+    /**
+     * @return number of samples missing in a step of {@code stepMillis} between timestamps,
+     * rounding to whole periods since device timestamps jitter by a millisecond or so
+     */
+    static int lost(final long stepMillis, final int periodMillis) {
+        if (periodMillis <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, (stepMillis + periodMillis / 2) / periodMillis - 1));
+    }
+
+    /**
+     * @return median of the recent steps, including {@code step}
+     */
+    private int estimatedPeriod(final int step) {
+        mSteps[mStepCount % PERIOD_STEPS] = step;
+        mStepCount += 1;
+
+        final int count = Math.min(mStepCount, PERIOD_STEPS);
+        System.arraycopy(mSteps, 0, mSortedSteps, 0, count);
+        Arrays.sort(mSortedSteps, 0, count);
+        return mSortedSteps[count / 2];
+    }
+
+    /**
+     * @return step from the latest timestamp, by as many wraps as bring it closest to the phone
+     * time that passed; negative if the timestamp is behind
+     */
+    private long unwrappedStep(final int deviceTimestamp, final double elapsedMillis) {
+        final int step = (deviceTimestamp - mLastTimestamp) & (TIMESTAMP_PERIOD - 1);
+        // A silence longer than a wrap hides whole wraps; the phone clock tells how many
+        final long wraps = Math.round((elapsedMillis - step) / TIMESTAMP_PERIOD);
+        return step + wraps * TIMESTAMP_PERIOD;
+    }
+
+    /**
+     * Starts the model over at the current device time.
+     */
+    private void restart(final long receiveNanos) {
+        mFirstDeviceMillis = mDeviceMillis;
+        mFirstReceiveNanos = receiveNanos;
+        mAnchorDeviceMillis = mDeviceMillis;
+        mAnchorReceiveNanos = receiveNanos;
+        mCount = 0;
+        mFitted = false;
+        mSumX = 0;
+        mSumY = 0;
+        mSumXX = 0;
+        mSumXY = 0;
+    }
+
+    private void add(final long deviceMillis, final long receiveNanos) {
+        final int index = (int) (mCount % mWindow);
+        if (mCount >= mWindow) {
+            remove(mX[index], mY[index]);
+        }
+
+        final double x = deviceMillis - mAnchorDeviceMillis;
+        final double y = receiveNanos - mAnchorReceiveNanos;
+        mX[index] = x;
+        mY[index] = y;
+        mSumX += x;
+        mSumY += y;
+        mSumXX += x * x;
+        mSumXY += x * y;
+        mCount += 1;
+
+        // Once per window, move the anchor to the oldest sample and sum again, which keeps the
+        // values small and drops the rounding errors of the running sums
+        if (mCount % mWindow == 0) {
+            reanchor();
+        }
+        fit();
+    }
+
+    private void remove(final double x, final double y) {
+        mSumX -= x;
+        mSumY -= y;
+        mSumXX -= x * x;
+        mSumXY -= x * y;
+    }
+
+    private void reanchor() {
+        final int oldest = (int) (mCount % mWindow);
+        final long shiftX = (long) mX[oldest];
+        final long shiftY = (long) mY[oldest];
+
+        // Keep the current line while re-expressing it against the new anchor
+        if (mFitted) {
+            mIntercept = mIntercept + mSlope * shiftX - shiftY;
+        }
+        mAnchorDeviceMillis += shiftX;
+        mAnchorReceiveNanos += shiftY;
+
+        mSumX = 0;
+        mSumY = 0;
+        mSumXX = 0;
+        mSumXY = 0;
+        for (int i = 0; i < mWindow; i++) {
+            final double x = mX[i] - shiftX;
+            final double y = mY[i] - shiftY;
+            mX[i] = x;
+            mY[i] = y;
+            mSumX += x;
+            mSumY += y;
+            mSumXX += x * x;
+            mSumXY += x * y;
+        }
+    }
+
+    private void fit() {
+        final long n = Math.min(mCount, mWindow);
+        if (n < MIN_FIT_POINTS) {
+            return;
+        }
+
+        final double meanX = mSumX / n;
+        final double varianceX = mSumXX / n - meanX * meanX;
+        // Spread of device times in the window; a line through a short span is mostly jitter
+        if (varianceX * 12 < (double) MIN_FIT_SPAN_MILLIS * MIN_FIT_SPAN_MILLIS) {
+            return;
+        }
+
+        final double meanY = mSumY / n;
+        mSlope = (mSumXY / n - meanX * meanY) / varianceX;
+        mIntercept = meanY - mSlope * meanX;
+        mFitted = true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  EulerAngles.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+/**
+ * Euler angles of a unit quaternion given as {@code x, y, z, w} in the Y-up frame used by
+ * ARCore, where Bose Wearable readings have their Y and Z axis swapped.
+ *
+ * All angles are in radians.
+ */
+public final class EulerAngles {
+    private EulerAngles() {
+    }
+
+    /**
+     * @return rotation around the vertical Y axis, positive when turning to the left
+     */
+    public static double yaw(final double x, final double y, final double z, final double w) {
+        final double siny = 2 * (w * y + x * z);
+        final double cosy = 1 - 2 * (y * y + z * z);
+
+        return -Math.atan2(siny, cosy);
+    }
+
+    /**
+     * @return rotation around the X axis
+     */
+    public static double pitch(final double x, final double y, final double z, final double w) {
+        final double sinp = 2 * (w * x + y * z);
+        final double cosp = 1 - 2 * (x * x + z * z);
+
+        return Math.atan2(sinp, cosp);
+    }
+
+    /**
+     * @return rotation around the Z axis, clamped to ±π/2 at the poles
+     */
+    public static double roll(final double x, final double y, final double z, final double w) {
+        final double sinr = 2 * (w * z - y * x);
+        if (Math.abs(sinr) >= 1) {
+            return -Math.copySign(Math.PI / 2, sinr);
+        } else {
+            return -Math.asin(sinr);
+        }
+    }
+}
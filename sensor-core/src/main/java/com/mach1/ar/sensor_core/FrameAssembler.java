@@ -0,0 +1,193 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  FrameAssembler.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups the orientation and accelerometer samples that share a device timestamp into one
+ * {@link SensorFrame}.
+ *
+ * A frame is emitted as soon as it holds both samples. If the next timestamp arrives first the
+ * incomplete frame is emitted with the most recent acceleration, and the assembler stops
+ * waiting for acceleration until it shows up again, so a disabled accelerometer does not delay
+ * orientation. When not bundling, orientation is emitted immediately.
+ *
+ * The frame time is when the sample would have arrived without BLE jitter, from a
+ * {@link DeviceClock} fed with the rotation samples, in the phone's wall clock. It follows the
+ * device timestamps, so it neither jitters with the arrival times nor drifts away from the phone.
+ *
+ * Each frame also carries the {@code System.nanoTime()} at which its rotation sample arrived and
+ * at which its angles were handed to the assembler, for {@link PipelineLatency}.
+ */
+public final class FrameAssembler {
+    static final int TIMESTAMP_PERIOD = DeviceClock.TIMESTAMP_PERIOD;
+
+    public interface Listener {
+        /**
+         * @param frame {@link SensorFrame#WIDTH} values, only valid during the call
+         * @param frameTimeMillis frame time in milliseconds since the Unix epoch
+         * @param arrivalNanos when the rotation sample arrived
+         * @param convertedNanos when the rotation sample had been converted to angles
+         */
+        void onFrame(@NonNull float[] frame, long frameTimeMillis, long arrivalNanos, long convertedNanos);
+    }
+
+    @NonNull
+    private final Listener mListener;
+    private final float[] mFrame = new float[SensorFrame.WIDTH];
+    private boolean mBundled;
+
+    private boolean mHasOrientation;
+    private boolean mHasAcceleration;
+    private boolean mExpectAcceleration;
+    private int mTimestamp;
+    private long mArrivalNanos;
+    private long mConvertedNanos;
+
+    private final DeviceClock mClock = new DeviceClock();
+    private long mDeviceMillis;
+    private boolean mAnchored;
+    private long mAnchorMillis;
+    private long mAnchorNanos;
+    private long mLastFrameTimeMillis;
+
+    public FrameAssembler(@NonNull final Listener listener) {
+        mListener = listener;
+        mFrame[SensorFrame.ACCURACY] = SensorFrame.UNKNOWN_ACCURACY;
+    }
+
+    /**
+     * @return the clock model of the device, only to be used on the thread feeding the assembler
+     */
+    @NonNull
+    public DeviceClock clock() {
+        return mClock;
+    }
+
+    /**
+     * @param bundled {@code true} to wait for acceleration before emitting a frame
+     */
+    public void bundled(final boolean bundled) {
+        mBundled = bundled;
+    }
+
+    public void orientation(final int deviceTimestamp,
+                            final float yaw,
+                            final float pitch,
+                            final float roll,
+                            final float accuracy) {
+        final long now = System.nanoTime();
+        orientation(deviceTimestamp, yaw, pitch, roll, accuracy, now, now);
+    }
+
+    /**
+     * @param arrivalNanos {@code System.nanoTime()} when the rotation sample arrived
+     * @param convertedNanos {@code System.nanoTime()} when it had been converted to angles
+     */
+    public void orientation(final int deviceTimestamp,
+                            final float yaw,
+                            final float pitch,
+                            final float roll,
+                            final float accuracy,
+                            final long arrivalNanos,
+                            final long convertedNanos) {
+        orientation(deviceTimestamp, mClock.update(deviceTimestamp, arrivalNanos), yaw, pitch, roll, accuracy,
+            arrivalNanos, convertedNanos);
+    }
+
+    /**
+     * For a caller that has already added the sample to {@link #clock()}.
+     *
+     * @param deviceMillis unwrapped device time the clock returned for the sample
+     */
+    void orientation(final int deviceTimestamp,
+                     final long deviceMillis,
+                     final float yaw,
+                     final float pitch,
+                     final float roll,
+                     final float accuracy,
+                     final long arrivalNanos,
+                     final long convertedNanos) {
+        startFrame(deviceTimestamp);
+        mDeviceMillis = deviceMillis;
+
+        mFrame[SensorFrame.YAW] = yaw;
+        mFrame[SensorFrame.PITCH] = pitch;
+        mFrame[SensorFrame.ROLL] = roll;
+        mFrame[SensorFrame.ACCURACY] = accuracy;
+        mArrivalNanos = arrivalNanos;
+        mConvertedNanos = convertedNanos;
+        mHasOrientation = true;
+
+        if (!mBundled || mHasAcceleration || !mExpectAcceleration) {
+            emit();
+        }
+    }
+
+    public void acceleration(final int deviceTimestamp,
+                             final float x,
+                             final float y,
+                             final float z) {
+        startFrame(deviceTimestamp);
+
+        mFrame[SensorFrame.ACCELERATION_X] = x;
+        mFrame[SensorFrame.ACCELERATION_Y] = y;
+        mFrame[SensorFrame.ACCELERATION_Z] = z;
+        mHasAcceleration = true;
+        mExpectAcceleration = true;
+
+        if (mBundled && mHasOrientation) {
+            emit();
+        }
+    }
+
+    private void startFrame(final int deviceTimestamp) {
+        if (deviceTimestamp == mTimestamp && (mHasOrientation || mHasAcceleration)) {
+            return;
+        }
+
+        if (mHasOrientation) {
+            // The previous frame never got its acceleration
+            mExpectAcceleration = false;
+            emit();
+        }
+
+        mTimestamp = deviceTimestamp;
+        mHasOrientation = false;
+        mHasAcceleration = false;
+    }
+
+    private void emit() {
+        mListener.onFrame(mFrame, frameTimeMillis(), mArrivalNanos, mConvertedNanos);
+        mHasOrientation = false;
+        mHasAcceleration = false;
+    }
+
+    private long frameTimeMillis() {
+        if (!mAnchored) {
+            mAnchored = true;
+            mAnchorMillis = System.currentTimeMillis();
+            mAnchorNanos = System.nanoTime();
+        }
+
+        final long nanos = mClock.receiveNanos(mDeviceMillis) - mAnchorNanos;
+        final long nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+        // Rounded down, also before the anchor; Math.floorDiv needs Android API 24
+        long millis = nanos / nanosPerMilli;
+        if (nanos % nanosPerMilli < 0) {
+            millis -= 1;
+        }
+        final long frameTimeMillis = mAnchorMillis + millis;
+        // The fitted line moves a little with every sample; never step back in time
+        mLastFrameTimeMillis = Math.max(mLastFrameTimeMillis, frameTimeMillis);
+        return mLastFrameTimeMillis;
+    }
+}
@@ -0,0 +1,391 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  GestureLog.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A bounded log of gesture events for display.
+ *
+ * The newest events are kept in memory in a fixed-capacity ring. Once it is full, the oldest event
+ * either drops out of the log or, after {@link #spillTo(File, int)}, moves to a fixed-capacity
+ * ring of records in a file, from which it can still be read. Events older than the retention
+ * window are dropped as new ones arrive. Memory use is therefore fixed however long a session
+ * runs, and a {@link Listener} hears about every insertion and removal, so a list only rebinds
+ * the rows that changed. Rows are read a {@link Page} at a time.
+ *
+ * Positions count from the oldest event in the log. Not thread safe.
+ */
+public final class GestureLog implements Closeable {
+    public static final long NO_RETENTION_LIMIT = 0;
+
+    // Gesture type, device timestamp and wall clock time
+    static final int RECORD_SIZE = 4 + 4 + 8;
+
+    private static final Logger LOG = Logger.getLogger(GestureLog.class.getName());
+
+    public interface Listener {
+        void onInserted(int position, int count);
+
+        void onRemoved(int position, int count);
+    }
+
+    private final int mMemoryCapacity;
+    private final long mRetentionMillis;
+    private final int[] mTypes;
+    private final int[] mDeviceTimestamps;
+    private final long[] mTimesMillis;
+    @Nullable
+    private Listener mListener;
+
+    // Events [mFirst, mMemoryFirst) are in the spill file, [mMemoryFirst, mEnd) in memory
+    private long mFirst;
+    private long mMemoryFirst;
+    private long mEnd;
+
+    @Nullable
+    private File mSpillFile;
+    @Nullable
+    private RandomAccessFile mSpill;
+    private int mSpillCapacity;
+    @Nullable
+    private ByteBuffer mRecord;
+
+    /**
+     * @param retentionMillis how long events are kept, or {@link #NO_RETENTION_LIMIT}
+     */
+    public GestureLog(final int memoryCapacity, final long retentionMillis) {
+        if (memoryCapacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + memoryCapacity);
+        }
+
+        mMemoryCapacity = memoryCapacity;
+        mRetentionMillis = retentionMillis;
+        mTypes = new int[memoryCapacity];
+        mDeviceTimestamps = new int[memoryCapacity];
+        mTimesMillis = new long[memoryCapacity];
+    }
+
+    /**
+     * Moves events that no longer fit in memory to {@code file}, which is created or truncated,
+     * instead of dropping them. The file holds up to {@code capacity} events.
+     */
+    public void spillTo(@NonNull final File file, final int capacity) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (mSpill != null) {
+            throw new IllegalStateException("Already spilling to " + mSpillFile);
+        }
+
+        final RandomAccessFile spill = new RandomAccessFile(file, "rw");
+        try {
+            spill.setLength(0);
+        } catch (IOException e) {
+            spill.close();
+            throw e;
+        }
+
+        mSpillFile = file;
+        mSpill = spill;
+        mSpillCapacity = capacity;
+        mRecord = ByteBuffer.allocate(RECORD_SIZE);
+    }
+
+    public boolean spilling() {
+        return mSpill != null;
+    }
+
+    public void listener(@Nullable final Listener listener) {
+        mListener = listener;
+    }
+
+    public int size() {
+        return (int) (mEnd - mFirst);
+    }
+
+    /**
+     * @return number of events added since the log was created, including those that were
+     * dropped or cleared
+     */
+    public long count() {
+        return mEnd;
+    }
+
+    public void add(final int type, final int deviceTimestamp, final long timeMillis) {
+        if (mRetentionMillis != NO_RETENTION_LIMIT) {
+            expire(timeMillis - mRetentionMillis);
+        }
+        if (mEnd - mMemoryFirst == mMemoryCapacity) {
+            evictFromMemory();
+        }
+
+        final int index = (int) (mEnd % mMemoryCapacity);
+        mTypes[index] = type;
+        mDeviceTimestamps[index] = deviceTimestamp;
+        mTimesMillis[index] = timeMillis;
+        mEnd += 1;
+
+        if (mListener != null) {
+            mListener.onInserted(size() - 1, 1);
+        }
+    }
+
+    /**
+     * Drops events from before {@code timeMillis}.
+     */
+    public void expire(final long timeMillis) {
+        final long first = mFirst;
+        while (mFirst < mEnd && timeMillis(mFirst) < timeMillis) {
+            mFirst += 1;
+        }
+        if (mMemoryFirst < mFirst) {
+            mMemoryFirst = mFirst;
+        }
+        removed(first);
+    }
+
+    /**
+     * Drops every event. Keeps spilling, if enabled.
+     */
+    public void clear() {
+        final long first = mFirst;
+        mFirst = mEnd;
+        mMemoryFirst = mEnd;
+        removed(first);
+    }
+
+    /**
+     * Copies up to {@code out.capacity()} events starting at {@code position} into {@code out}.
+     * Events that cannot be read back from the spill file have type -1.
+     *
+     * @return number of events copied
+     */
+    public int read(final int position, @NonNull final Page out) {
+        if (position < 0 || position > size()) {
+            throw new IndexOutOfBoundsException("Position " + position + ", size " + size());
+        }
+
+        final long begin = mFirst + position;
+        final long end = Math.min(mEnd, begin + out.mTypes.length);
+        long sequence = begin;
+        if (sequence < mMemoryFirst) {
+            final long spillEnd = Math.min(end, mMemoryFirst);
+            readSpill(sequence, spillEnd, out);
+            sequence = spillEnd;
+        }
+        for (; sequence < end; sequence++) {
+            final int index = (int) (sequence % mMemoryCapacity);
+            final int slot = (int) (sequence - begin);
+            out.mTypes[slot] = mTypes[index];
+            out.mDeviceTimestamps[slot] = mDeviceTimestamps[index];
+            out.mTimesMillis[slot] = mTimesMillis[index];
+        }
+
+        out.mPosition = position;
+        out.mSize = (int) (end - begin);
+        return out.mSize;
+    }
+
+    @Override
+    public void close() {
+        closeSpill();
+    }
+
+    private void evictFromMemory() {
+        final RandomAccessFile spill = mSpill;
+        if (spill == null) {
+            final long first = mFirst;
+            mFirst += 1;
+            mMemoryFirst += 1;
+            removed(first);
+            return;
+        }
+
+        if (mMemoryFirst - mFirst == mSpillCapacity) {
+            final long first = mFirst;
+            mFirst += 1;
+            removed(first);
+        }
+
+        final int index = (int) (mMemoryFirst % mMemoryCapacity);
+        final ByteBuffer record = mRecord;
+        record.clear();
+        record.putInt(mTypes[index]).putInt(mDeviceTimestamps[index]).putLong(mTimesMillis[index]);
+        try {
+            spill.seek(spillOffset(mMemoryFirst));
+            spill.write(record.array());
+            mMemoryFirst += 1;
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Failed to write " + mSpillFile, e);
+            closeSpill();
+            final long first = mFirst;
+            mMemoryFirst += 1;
+            mFirst = mMemoryFirst;
+            removed(first);
+        }
+    }
+
+    private long timeMillis(final long sequence) {
+        if (sequence >= mMemoryFirst) {
+            return mTimesMillis[(int) (sequence % mMemoryCapacity)];
+        }
+
+        try {
+            final RandomAccessFile spill = mSpill;
+            spill.seek(spillOffset(sequence) + 8);
+            return spill.readLong();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Failed to read " + mSpillFile, e);
+            // Treat it as expired
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private void readSpill(final long begin, final long end, @NonNull final Page out) {
+        final byte[] records = out.records();
+        final RandomAccessFile spill = mSpill;
+        try {
+            // The records may wrap around the end of the file
+            long sequence = begin;
+            int offset = 0;
+            while (sequence < end) {
+                final int index = (int) (sequence % mSpillCapacity);
+                final int count = (int) Math.min(end - sequence, mSpillCapacity - index);
+                spill.seek((long) index * RECORD_SIZE);
+                spill.readFully(records, offset, count * RECORD_SIZE);
+                sequence += count;
+                offset += count * RECORD_SIZE;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.wrap(records);
+            for (int slot = 0; slot < end - begin; slot++) {
+                out.mTypes[slot] = buffer.getInt();
+                out.mDeviceTimestamps[slot] = buffer.getInt();
+                out.mTimesMillis[slot] = buffer.getLong();
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Failed to read " + mSpillFile, e);
+            for (int slot = 0; slot < end - begin; slot++) {
+                out.mTypes[slot] = -1;
+                out.mDeviceTimestamps[slot] = 0;
+                out.mTimesMillis[slot] = 0;
+            }
+        }
+    }
+
+    private long spillOffset(final long sequence) {
+        return (sequence % mSpillCapacity) * RECORD_SIZE;
+    }
+
+    private void removed(final long first) {
+        if (mFirst != first && mListener != null) {
+            mListener.onRemoved(0, (int) (mFirst - first));
+        }
+    }
+
+    private void closeSpill() {
+        final RandomAccessFile spill = mSpill;
+        mSpill = null;
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Failed to close " + mSpillFile, e);
+            }
+        }
+    }
+
+    /**
+     * A reader owned copy of consecutive events.
+     */
+    public static final class Page {
+        private final int[] mTypes;
+        private final int[] mDeviceTimestamps;
+        private final long[] mTimesMillis;
+        @Nullable
+        private byte[] mRecords;
+        private int mPosition;
+        private int mSize;
+
+        public Page(final int capacity) {
+            mTypes = new int[capacity];
+            mDeviceTimestamps = new int[capacity];
+            mTimesMillis = new long[capacity];
+        }
+
+        public int capacity() {
+            return mTypes.length;
+        }
+
+        /**
+         * @return log position of the first event in this page
+         */
+        public int position() {
+            return mPosition;
+        }
+
+        public int size() {
+            return mSize;
+        }
+
+        /**
+         * @return whether this page holds the event at log {@code position}
+         */
+        public boolean contains(final int position) {
+            return position >= mPosition && position < mPosition + mSize;
+        }
+
+        /**
+         * Makes the page hold nothing, for example after the log changed.
+         */
+        public void invalidate() {
+            mSize = 0;
+        }
+
+        /**
+         * @return the gesture type ordinal, or -1 if the event could not be read
+         */
+        public int type(final int position) {
+            return mTypes[slot(position)];
+        }
+
+        public int deviceTimestamp(final int position) {
+            return mDeviceTimestamps[slot(position)];
+        }
+
+        public long timeMillis(final int position) {
+            return mTimesMillis[slot(position)];
+        }
+
+        private int slot(final int position) {
+            if (!contains(position)) {
+                throw new IndexOutOfBoundsException("Position " + position + " not in page at "
+                    + mPosition + " of size " + mSize);
+            }
+            return position - mPosition;
+        }
+
+        @NonNull
+        private byte[] records() {
+            if (mRecords == null) {
+                mRecords = new byte[mTypes.length * RECORD_SIZE];
+            }
+            return mRecords;
+        }
+    }
+}
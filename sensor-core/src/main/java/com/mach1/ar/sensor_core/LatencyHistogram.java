@@ -0,0 +1,140 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  LatencyHistogram.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with log-linear buckets.
+ *
+ * Each power of two is split into {@value #SUB_BUCKETS} buckets, so a bucket is at most about 6%
+ * wide. Any number of threads may record concurrently; recording is one atomic increment and
+ * does not allocate. Readers never reset the counts; an {@link Interval} reports the values
+ * recorded since it last looked.
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Longest duration with its own bucket, about 68 seconds; longer ones go into the last bucket
+    static final int MAX_BITS = 36;
+    static final int BUCKET_COUNT = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * @param nanos duration; negative durations count as zero
+     */
+    public void record(final long nanos) {
+        mCounts.getAndIncrement(bucket(nanos));
+    }
+
+    /**
+     * @return number of durations recorded so far
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += mCounts.get(i);
+        }
+        return count;
+    }
+
+    @NonNull
+    public Interval interval() {
+        return new Interval(this);
+    }
+
+    static int bucket(final long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+
+        final int bits = 64 - Long.numberOfLeadingZeros(nanos);
+        if (bits > MAX_BITS) {
+            return BUCKET_COUNT - 1;
+        }
+        final int shift = Math.max(0, bits - SUB_BUCKET_BITS - 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (nanos >>> shift);
+    }
+
+    /**
+     * @return largest duration that falls into {@code bucket}
+     */
+    static long highestValue(final int bucket) {
+        final int shift = Math.max(0, (bucket >> SUB_BUCKET_BITS) - 1);
+        final long lowest = (long) (bucket - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Durations recorded between two calls to {@link #update()}. Not thread safe; each reader
+     * uses its own interval.
+     */
+    public static final class Interval {
+        @NonNull
+        private final LatencyHistogram mHistogram;
+        private final long[] mSeen = new long[BUCKET_COUNT];
+        private final long[] mCounts = new long[BUCKET_COUNT];
+        private long mCount;
+
+        Interval(@NonNull final LatencyHistogram histogram) {
+            mHistogram = histogram;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                mSeen[i] = histogram.mCounts.get(i);
+            }
+        }
+
+        /**
+         * Starts a new interval holding what was recorded since the previous one.
+         */
+        public void update() {
+            long count = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                final long total = mHistogram.mCounts.get(i);
+                mCounts[i] = total - mSeen[i];
+                mSeen[i] = total;
+                count += mCounts[i];
+            }
+            mCount = count;
+        }
+
+        public long count() {
+            return mCount;
+        }
+
+        /**
+         * @param quantile between 0 and 1
+         * @return upper bound in nanoseconds of the bucket holding the quantile, or 0 if nothing
+         * was recorded
+         */
+        public long valueAt(final double quantile) {
+            if (mCount == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(quantile * mCount));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += mCounts[i];
+                if (seen >= rank) {
+                    return highestValue(i);
+                }
+            }
+            return highestValue(BUCKET_COUNT - 1);
+        }
+
+        /**
+         * @return upper bound in nanoseconds of the highest non-empty bucket
+         */
+        public long max() {
+            return valueAt(1);
+        }
+    }
+}
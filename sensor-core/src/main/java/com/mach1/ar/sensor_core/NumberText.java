@@ -0,0 +1,94 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  NumberText.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * The text of one number on screen, formatted with {@link DecimalFormatter} and compared with
+ * what is already shown, so that a label is only touched when its text actually changes.
+ *
+ * Sensor values often change below the displayed precision, and timestamps and rates repeat.
+ * Setting the same text again still makes a TextView measure and redraw, so skipping it saves
+ * the layout pass as well as the formatting garbage.
+ *
+ * Two buffers are used in turn: the new text is written into the one that is not shown, because
+ * a TextView keeps the array it was given rather than copying it.
+ */
+public final class NumberText {
+    private char[] mText = new char[DecimalFormatter.BUFFER_SIZE];
+    private char[] mScratch = new char[DecimalFormatter.BUFFER_SIZE];
+    // -1 until the first value is formatted
+    private int mLength = -1;
+
+    /**
+     * Formats {@code value} like {@code String.format(Locale.US, "%.Nf", value) + suffix}.
+     *
+     * @return whether the text changed
+     */
+    public boolean decimal(final double value, final int decimals, @NonNull final String suffix) {
+        return changed(DecimalFormatter.format(value, decimals, suffix, mScratch));
+    }
+
+    /**
+     * Formats {@code value} like {@code String.valueOf(value) + suffix}.
+     *
+     * @return whether the text changed
+     */
+    public boolean integer(final long value, @NonNull final String suffix) {
+        return changed(DecimalFormatter.format(value, suffix, mScratch));
+    }
+
+    /**
+     * Makes the next value count as changed, for example after the label was set to other text.
+     */
+    public void invalidate() {
+        mLength = -1;
+    }
+
+    /**
+     * @return the current text, valid up to {@link #length()}. The array is replaced, not
+     * modified, when the text changes.
+     */
+    @NonNull
+    public char[] chars() {
+        return mText;
+    }
+
+    public int length() {
+        return Math.max(mLength, 0);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return new String(mText, 0, length());
+    }
+
+    private boolean changed(final int length) {
+        if (length == mLength && equal(mScratch, mText, length)) {
+            return false;
+        }
+
+        final char[] text = mScratch;
+        mScratch = mText;
+        mText = text;
+        mLength = length;
+        return true;
+    }
+
+    private static boolean equal(@NonNull final char[] a, @NonNull final char[] b, final int length) {
+        // Digits at the end change most often
+        for (int i = length - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  OrientationPipeline.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * Turns rotation and accelerometer samples into {@link SensorFrame}s the way basic-example does:
+ * the rotation is translated into the listener's frame of reference, optionally smoothed by a
+ * {@link QuaternionFilter}, converted to yaw, pitch and roll in degrees, quantized to the OSC
+ * precision and assembled with the acceleration of the same device timestamp.
+ *
+ * Must only be called from one thread at a time. Does not allocate per sample.
+ */
+public final class OrientationPipeline implements SensorSampleListener {
+    /**
+     * Decimals the angles are quantized to before sending.
+     */
+    public static final int OSC_DECIMALS = 3;
+
+    private static final double[] TRANSLATION_Q = { 1, 0, 0, 0 };
+
+    private final int mRotationType;
+    private final int mAccelerationType;
+    @NonNull
+    private final FrameAssembler mFrames;
+    private final double[] mQuaternion = new double[4];
+    private final QuaternionFilter mFilter = new QuaternionFilter();
+    private boolean mSmoothed;
+    private long mLastRotationMillis;
+
+    private volatile boolean mYawEnabled = true;
+    private volatile boolean mPitchEnabled = true;
+    private volatile boolean mRollEnabled = true;
+
+    /**
+     * @param rotationType sensor type of the rotation samples to use
+     * @param accelerationType sensor type of the accelerometer samples to use
+     */
+    public OrientationPipeline(final int rotationType,
+                               final int accelerationType,
+                               @NonNull final FrameAssembler.Listener listener) {
+        mRotationType = rotationType;
+        mAccelerationType = accelerationType;
+        mFrames = new FrameAssembler(listener);
+    }
+
+    /**
+     * @param bundled {@code true} to wait for acceleration before emitting a frame
+     */
+    public void bundled(final boolean bundled) {
+        mFrames.bundled(bundled);
+    }
+
+    /**
+     * @param millis period the device was asked to sample rotation at, or 0 if unknown; see
+     *               {@link DeviceClock#samplePeriodMillis(int)}
+     */
+    public void samplePeriodMillis(final int millis) {
+        mFrames.clock().samplePeriodMillis(millis);
+    }
+
+    /**
+     * @param smoothed {@code true} to smooth the rotation before converting it to angles
+     */
+    public void smoothed(final boolean smoothed) {
+        if (smoothed != mSmoothed) {
+            mSmoothed = smoothed;
+            mFilter.reset();
+        }
+    }
+
+    /**
+     * Starts over with a new device, whose timestamps have nothing to do with the previous
+     * one's: forgets the device clock and the smoothing state.
+     */
+    public void reset() {
+        mFrames.clock().reset();
+        mFilter.reset();
+        mLastRotationMillis = 0;
+    }
+
+    /**
+     * Disabled angles are sent as zero.
+     */
+    public void axes(final boolean yaw, final boolean pitch, final boolean roll) {
+        mYawEnabled = yaw;
+        mPitchEnabled = pitch;
+        mRollEnabled = roll;
+    }
+
+    @Override
+    public void onSensorSample(final int type,
+                               final int deviceTimestamp,
+                               final long receiveNanos,
+                               final float x,
+                               final float y,
+                               final float z,
+                               final float w,
+                               final float accuracy) {
+        if (type == mRotationType) {
+            rotation(deviceTimestamp, receiveNanos, x, y, z, w, accuracy);
+        } else if (type == mAccelerationType) {
+            mFrames.acceleration(deviceTimestamp, x, y, z);
+        }
+    }
+
+    @Override
+    public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+        // Gestures are not part of the orientation stream
+    }
+
+    private void rotation(final int deviceTimestamp,
+                          final long receiveNanos,
+                          final float x,
+                          final float y,
+                          final float z,
+                          final float w,
+                          final float accuracy) {
+        final double[] q = mQuaternion;
+        q[Quaternions.X] = x;
+        q[Quaternions.Y] = y;
+        q[Quaternions.Z] = z;
+        q[Quaternions.W] = w;
+        Quaternions.multiply(q, TRANSLATION_Q, q);
+        // Unwrapped, so that a silence longer than a timestamp wrap still starts the filter over
+        final long deviceMillis = mFrames.clock().update(deviceTimestamp, receiveNanos);
+        if (mSmoothed) {
+            mFilter.filter(q, (deviceMillis - mLastRotationMillis) / 1000.0);
+        }
+        mLastRotationMillis = deviceMillis;
+
+        final float yaw = mYawEnabled ? Angles.quantize(Angles.degrees(-Quaternions.zRotation(q)), OSC_DECIMALS) : 0f;
+        final float pitch = mPitchEnabled ? Angles.quantize(Angles.degrees(Quaternions.xRotation(q)), OSC_DECIMALS) : 0f;
+        final float roll = mRollEnabled ? Angles.quantize(Angles.degrees(Quaternions.yRotation(q)), OSC_DECIMALS) : 0f;
+        final float accuracyDegrees = Float.isNaN(accuracy)
+            ? SensorFrame.UNKNOWN_ACCURACY
+            : (float) Angles.degrees(accuracy);
+
+        mFrames.orientation(deviceTimestamp, deviceMillis, yaw, pitch, roll, accuracyDegrees, receiveNanos,
+            System.nanoTime());
+    }
+}
@@ -0,0 +1,109 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  OrientationSnapshot.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * The latest orientation, shared between one writer thread and any number of readers.
+ *
+ * This is a sequence lock: the writer makes the sequence odd while it updates the values and
+ * even again once they are complete. Readers retry until they see the same even sequence before
+ * and after copying, so they always get a consistent tuple, and the writer never waits.
+ * All fields are volatile because Java offers no cheaper fence on every supported API level.
+ */
+public final class OrientationSnapshot {
+    private volatile long mSequence;
+    private volatile float mYaw;
+    private volatile float mPitch;
+    private volatile float mRoll;
+    private volatile long mTimestampNanos;
+
+    /**
+     * Publishes a new orientation. Must only be called from one thread at a time.
+     */
+    public void write(final float yaw,
+                      final float pitch,
+                      final float roll,
+                      final long timestampNanos) {
+        final long sequence = mSequence;
+        mSequence = sequence + 1;
+        mYaw = yaw;
+        mPitch = pitch;
+        mRoll = roll;
+        mTimestampNanos = timestampNanos;
+        mSequence = sequence + 2;
+    }
+
+    /**
+     * @return sequence number of the latest complete sample, zero if nothing was written yet
+     */
+    public long sequence() {
+        return mSequence & ~1L;
+    }
+
+    /**
+     * Copies the latest complete sample into {@code out}.
+     *
+     * @return sequence number of the copied sample, zero if nothing was written yet
+     */
+    public long read(@NonNull final Sample out) {
+        while (true) {
+            final long before = mSequence;
+            if ((before & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            final float yaw = mYaw;
+            final float pitch = mPitch;
+            final float roll = mRoll;
+            final long timestampNanos = mTimestampNanos;
+
+            if (mSequence == before) {
+                out.mSequence = before;
+                out.mYaw = yaw;
+                out.mPitch = pitch;
+                out.mRoll = roll;
+                out.mTimestampNanos = timestampNanos;
+                return before;
+            }
+        }
+    }
+
+    /**
+     * A reader owned copy of one orientation sample.
+     */
+    public static final class Sample {
+        private long mSequence;
+        private float mYaw;
+        private float mPitch;
+        private float mRoll;
+        private long mTimestampNanos;
+
+        public long sequence() {
+            return mSequence;
+        }
+
+        public float yaw() {
+            return mYaw;
+        }
+
+        public float pitch() {
+            return mPitch;
+        }
+
+        public float roll() {
+            return mRoll;
+        }
+
+        public long timestampNanos() {
+            return mTimestampNanos;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  PipelineLatency.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Latency of each stage between a rotation sample arriving and its frame leaving the device.
+ *
+ * Every frame carries three {@code System.nanoTime()} stamps on its way to a destination:
+ * arrival of its rotation sample in the sensor callback, after conversion to angles and after
+ * queueing for a destination. The send thread adds a fourth once the datagram has been handed to
+ * the network stack. The stages are the differences between consecutive stamps, plus the total.
+ */
+public final class PipelineLatency {
+    /**
+     * Stages in the order of their histograms.
+     */
+    public static final int CONVERSION = 0;
+    public static final int QUEUEING = 1;
+    public static final int SENDING = 2;
+    public static final int TOTAL = 3;
+    public static final int STAGE_COUNT = 4;
+
+    /**
+     * Quantiles a {@link Window} reports for each stage.
+     */
+    public static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
+    private static final String[] STAGE_NAMES = { "convert", "queue", "send", "total" };
+
+    private final LatencyHistogram[] mStages = new LatencyHistogram[STAGE_COUNT];
+
+    public PipelineLatency() {
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            mStages[i] = new LatencyHistogram();
+        }
+    }
+
+    @NonNull
+    public LatencyHistogram stage(final int stage) {
+        return mStages[stage];
+    }
+
+    /**
+     * Records the stages up to queueing. Called once per frame offered to the destinations.
+     */
+    public void queued(final long arrivalNanos, final long convertedNanos, final long queuedNanos) {
+        mStages[CONVERSION].record(convertedNanos - arrivalNanos);
+        mStages[QUEUEING].record(queuedNanos - convertedNanos);
+    }
+
+    /**
+     * Records the stages after queueing. Called once per frame and destination.
+     */
+    public void sent(final long arrivalNanos, final long queuedNanos, final long sentNanos) {
+        mStages[SENDING].record(sentNanos - queuedNanos);
+        mStages[TOTAL].record(sentNanos - arrivalNanos);
+    }
+
+    @NonNull
+    public Window window() {
+        return new Window(this);
+    }
+
+    /**
+     * The quantiles of every stage over the time between two calls to {@link #update()}. Not thread
+     * safe; each reader uses its own window.
+     */
+    public static final class Window {
+        /**
+         * Number of values {@link #write(float[], int)} writes.
+         */
+        public static final int VALUE_COUNT = STAGE_COUNT * 3;
+
+        private final LatencyHistogram.Interval[] mIntervals = new LatencyHistogram.Interval[STAGE_COUNT];
+
+        Window(@NonNull final PipelineLatency latency) {
+            for (int i = 0; i < STAGE_COUNT; i++) {
+                mIntervals[i] = latency.mStages[i].interval();
+            }
+        }
+
+        public void update() {
+            for (final LatencyHistogram.Interval interval : mIntervals) {
+                interval.update();
+            }
+        }
+
+        /**
+         * @return number of frames sent in the window
+         */
+        public long count() {
+            return mIntervals[TOTAL].count();
+        }
+
+        /**
+         * @return latency of {@code stage} at {@code quantile} in nanoseconds
+         */
+        public long valueAt(final int stage, final double quantile) {
+            return mIntervals[stage].valueAt(quantile);
+        }
+
+        /**
+         * Writes the {@link #QUANTILES} of every stage in milliseconds, stage by stage.
+         */
+        public void write(@NonNull final float[] out, final int offset) {
+            int index = offset;
+            for (final LatencyHistogram.Interval interval : mIntervals) {
+                for (final double quantile : QUANTILES) {
+                    out[index++] = interval.valueAt(quantile) / 1e6f;
+                }
+            }
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < STAGE_COUNT; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(String.format(Locale.US, "%s %.2f/%.2f ms", STAGE_NAMES[i],
+                    mIntervals[i].valueAt(0.5) / 1e6, mIntervals[i].valueAt(0.99) / 1e6));
+            }
+            return builder.toString();
+        }
+    }
+}
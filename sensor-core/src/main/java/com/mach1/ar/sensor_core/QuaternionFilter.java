@@ -0,0 +1,160 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  QuaternionFilter.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * Smooths a stream of rotations with a cutoff that rises with angular speed, like the
+ * 1€ filter of Casiez et al.
+ *
+ * At rest the cutoff is low and sensor noise is filtered out; when the head turns the cutoff
+ * rises so that the output keeps up. With the default settings a head turning at 90° per second
+ * is followed within less than one sample at up to 100 Hz.
+ *
+ * The filter works on quaternions, so it has no trouble where Euler angles wrap at ±180° or
+ * lock at ±90°. Each step moves the output towards the new sample along the shorter of the two
+ * arcs, by normalized linear interpolation, which for the small steps of a filter is as good as
+ * spherical interpolation and much cheaper.
+ *
+ * Not thread safe. Does not allocate.
+ */
+public final class QuaternionFilter {
+    public static final double DEFAULT_MIN_CUTOFF_HZ = 1;
+    /**
+     * Hz the cutoff rises by per radian per second of angular speed.
+     */
+    public static final double DEFAULT_BETA = 15;
+    public static final double DEFAULT_SPEED_CUTOFF_HZ = 1;
+    /**
+     * Steps longer than this, in seconds, start the filter over, as do negative ones.
+     */
+    public static final double MAX_STEP_SECONDS = 0.5;
+
+    private final double mMinCutoffHz;
+    private final double mBeta;
+    private final double mSpeedCutoffHz;
+
+    private final double[] mFiltered = new double[4];
+    private final double[] mLast = new double[4];
+    private boolean mStarted;
+    private double mSpeed;
+    private double mCutoffHz;
+
+    public QuaternionFilter() {
+        this(DEFAULT_MIN_CUTOFF_HZ, DEFAULT_BETA, DEFAULT_SPEED_CUTOFF_HZ);
+    }
+
+    /**
+     * @param minCutoffHz cutoff at rest; lower removes more jitter
+     * @param beta Hz the cutoff rises by per radian per second; higher lags less when moving
+     * @param speedCutoffHz cutoff of the angular speed that drives the cutoff
+     */
+    public QuaternionFilter(final double minCutoffHz, final double beta, final double speedCutoffHz) {
+        if (!(minCutoffHz > 0) || !(beta >= 0) || !(speedCutoffHz > 0)) {
+            throw new IllegalArgumentException("Invalid filter settings: min cutoff " + minCutoffHz
+                + " Hz, beta " + beta + ", speed cutoff " + speedCutoffHz + " Hz");
+        }
+
+        mMinCutoffHz = minCutoffHz;
+        mBeta = beta;
+        mSpeedCutoffHz = speedCutoffHz;
+    }
+
+    /**
+     * Filters one rotation in place.
+     *
+     * @param q unit quaternion as {@code x, y, z, w}, replaced by the filtered rotation
+     * @param stepSeconds time since the previous rotation. With 0, as for two rotations with
+     *                    the same device timestamp, the output stays where it is.
+     */
+    public void filter(@NonNull final double[] q, final double stepSeconds) {
+        if (mStarted && stepSeconds == 0) {
+            System.arraycopy(mFiltered, 0, q, 0, 4);
+            return;
+        }
+
+        if (!mStarted || !(stepSeconds > 0) || stepSeconds > MAX_STEP_SECONDS) {
+            mStarted = true;
+            mSpeed = 0;
+            mCutoffHz = mMinCutoffHz;
+            System.arraycopy(q, 0, mFiltered, 0, 4);
+            System.arraycopy(q, 0, mLast, 0, 4);
+            return;
+        }
+
+        final double speed = angle(mLast, q) / stepSeconds;
+        System.arraycopy(q, 0, mLast, 0, 4);
+        mSpeed += alpha(mSpeedCutoffHz, stepSeconds) * (speed - mSpeed);
+        mCutoffHz = mMinCutoffHz + mBeta * mSpeed;
+
+        final double a = alpha(mCutoffHz, stepSeconds);
+        final double[] f = mFiltered;
+        // q and -q are the same rotation; take the one on the side of the output
+        final double sign = dot(f, q) < 0 ? -1 : 1;
+        double norm = 0;
+        for (int i = 0; i < 4; i++) {
+            f[i] += a * (sign * q[i] - f[i]);
+            norm += f[i] * f[i];
+        }
+        norm = Math.sqrt(norm);
+        for (int i = 0; i < 4; i++) {
+            f[i] /= norm;
+            q[i] = f[i];
+        }
+    }
+
+    /**
+     * Starts over; the next rotation passes unchanged.
+     */
+    public void reset() {
+        mStarted = false;
+    }
+
+    /**
+     * @return smoothed angular speed in radians per second
+     */
+    public double speed() {
+        return mSpeed;
+    }
+
+    /**
+     * @return cutoff used for the latest rotation in Hz
+     */
+    public double cutoffHz() {
+        return mCutoffHz;
+    }
+
+    /**
+     * @return angle between two rotations in radians, accurate for small angles too
+     */
+    static double angle(@NonNull final double[] a, @NonNull final double[] b) {
+        // Vector part and scalar part of conjugate(a) * b
+        final double x = a[Quaternions.W] * b[Quaternions.X] - a[Quaternions.X] * b[Quaternions.W]
+            - a[Quaternions.Y] * b[Quaternions.Z] + a[Quaternions.Z] * b[Quaternions.Y];
+        final double y = a[Quaternions.W] * b[Quaternions.Y] + a[Quaternions.X] * b[Quaternions.Z]
+            - a[Quaternions.Y] * b[Quaternions.W] - a[Quaternions.Z] * b[Quaternions.X];
+        final double z = a[Quaternions.W] * b[Quaternions.Z] - a[Quaternions.X] * b[Quaternions.Y]
+            + a[Quaternions.Y] * b[Quaternions.X] - a[Quaternions.Z] * b[Quaternions.W];
+        final double w = dot(a, b);
+        return 2 * Math.atan2(Math.sqrt(x * x + y * y + z * z), Math.abs(w));
+    }
+
+    private static double dot(@NonNull final double[] a, @NonNull final double[] b) {
+        return a[Quaternions.X] * b[Quaternions.X] + a[Quaternions.Y] * b[Quaternions.Y]
+            + a[Quaternions.Z] * b[Quaternions.Z] + a[Quaternions.W] * b[Quaternions.W];
+    }
+
+    /**
+     * @return smoothing factor of a first order low pass with cutoff {@code cutoffHz}
+     */
+    private static double alpha(final double cutoffHz, final double stepSeconds) {
+        final double tau = 1 / (2 * Math.PI * cutoffHz);
+        return 1 / (1 + tau / stepSeconds);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  Quaternions.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * Quaternion arithmetic on {@code double[4]} arrays holding {@code x, y, z, w}, the order
+ * {@code SensorValue.quaternion(float[], int)} uses.
+ */
+public final class Quaternions {
+    public static final int X = 0;
+    public static final int Y = 1;
+    public static final int Z = 2;
+    public static final int W = 3;
+
+    private Quaternions() {
+    }
+
+    /**
+     * Hamilton product {@code a * b}. {@code out} may be the same array as either input.
+     */
+    public static void multiply(@NonNull final double[] a,
+                                @NonNull final double[] b,
+                                @NonNull final double[] out) {
+        final double x = a[W] * b[X] + a[X] * b[W] + a[Y] * b[Z] - a[Z] * b[Y];
+        final double y = a[W] * b[Y] - a[X] * b[Z] + a[Y] * b[W] + a[Z] * b[X];
+        final double z = a[W] * b[Z] + a[X] * b[Y] - a[Y] * b[X] + a[Z] * b[W];
+        final double w = a[W] * b[W] - a[X] * b[X] - a[Y] * b[Y] - a[Z] * b[Z];
+        out[X] = x;
+        out[Y] = y;
+        out[Z] = z;
+        out[W] = w;
+    }
+
+    /**
+     * Builds the rotation of a head turned by {@code yaw} around Z, then tilted by {@code pitch}
+     * around X and {@code roll} around Y, as in the Bose Wearable coordinate system. Angles are
+     * in radians.
+     */
+    public static void fromEuler(final double yaw,
+                                 final double pitch,
+                                 final double roll,
+                                 @NonNull final double[] out) {
+        final double cy = Math.cos(yaw / 2);
+        final double sy = Math.sin(yaw / 2);
+        final double cp = Math.cos(pitch / 2);
+        final double sp = Math.sin(pitch / 2);
+        final double cr = Math.cos(roll / 2);
+        final double sr = Math.sin(roll / 2);
+
+        // (z-rotation * x-rotation) * y-rotation
+        out[X] = cy * sp * cr - sy * cp * sr;
+        out[Y] = cy * cp * sr + sy * sp * cr;
+        out[Z] = sy * cp * cr + cy * sp * sr;
+        out[W] = cy * cp * cr - sy * sp * sr;
+    }
+
+    /**
+     * Rotation around X in radians, as {@code Quaternion.xRotation()} computes it.
+     */
+    public static double xRotation(@NonNull final double[] q) {
+        return Math.atan2(2 * (q[W] * q[X] + q[Y] * q[Z]), 1 - 2 * (q[X] * q[X] + q[Y] * q[Y]));
+    }
+
+    /**
+     * Rotation around Y in radians, as {@code Quaternion.yRotation()} computes it.
+     */
+    public static double yRotation(@NonNull final double[] q) {
+        final double sin = 2 * (q[W] * q[Y] - q[Z] * q[X]);
+        return Math.abs(sin) >= 1 ? Math.copySign(Math.PI / 2, sin) : Math.asin(sin);
+    }
+
+    /**
+     * Rotation around Z in radians, as {@code Quaternion.zRotation()} computes it.
+     */
+    public static double zRotation(@NonNull final double[] q) {
+        return Math.atan2(2 * (q[W] * q[Z] + q[X] * q[Y]), 1 - 2 * (q[Y] * q[Y] + q[Z] * q[Z]));
+    }
+
+    public static void normalize(@NonNull final double[] q) {
+        final double norm = Math.sqrt(q[X] * q[X] + q[Y] * q[Y] + q[Z] * q[Z] + q[W] * q[W]);
+        q[X] /= norm;
+        q[Y] /= norm;
+        q[Z] /= norm;
+        q[W] /= norm;
+    }
+
+    /**
+     * Writes the world's up direction as seen from the rotated frame.
+     */
+    public static void up(@NonNull final double[] q, @NonNull final double[] out) {
+        out[X] = 2 * (q[X] * q[Z] - q[W] * q[Y]);
+        out[Y] = 2 * (q[Y] * q[Z] + q[W] * q[X]);
+        out[Z] = 1 - 2 * (q[X] * q[X] + q[Y] * q[Y]);
+    }
+}
@@ -0,0 +1,181 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SampleQueue.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * A bounded single-producer, single-consumer queue of fixed-width float records, each with a
+ * timestamp, an optional tag and an optional origin time.
+ *
+ * Records live in preallocated primitive arrays, so neither side allocates. The producer never
+ * blocks: when the queue is full {@link #offer} refuses the record and the caller decides what
+ * to count.
+ */
+public final class SampleQueue {
+    private final int mCapacity;
+    private final int mMask;
+    private final int mWidth;
+    private final float[] mValues;
+    private final long[] mTimestamps;
+    private final long[] mTags;
+    private final long[] mOrigins;
+    // Tag and origin of the last polled record, consumer only
+    private long mPolledTag;
+    private long mPolledOrigin;
+
+    // Next slot to read, written by the consumer only
+    private volatile long mHead;
+    // Next slot to write, written by the producer only
+    private volatile long mTail;
+
+    /**
+     * @param capacity number of records, rounded up to a power of two
+     * @param width number of floats in each record
+     */
+    public SampleQueue(final int capacity, final int width) {
+        if (capacity < 1 || width < 1) {
+            throw new IllegalArgumentException("Capacity and width must be positive");
+        }
+
+        mCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mMask = mCapacity - 1;
+        mWidth = width;
+        mValues = new float[mCapacity * width];
+        mTimestamps = new long[mCapacity];
+        mTags = new long[mCapacity];
+        mOrigins = new long[mCapacity];
+    }
+
+    public int capacity() {
+        return mCapacity;
+    }
+
+    public int width() {
+        return mWidth;
+    }
+
+    /**
+     * @return number of records waiting to be polled
+     */
+    public int size() {
+        return (int) (mTail - mHead);
+    }
+
+    /**
+     * Appends a record. Producer thread only.
+     *
+     * @return {@code false} if the queue is full and the record was not added
+     */
+    public boolean offer(@NonNull final float[] values, final int offset, final long timestamp) {
+        return offer(values, offset, timestamp, 0);
+    }
+
+    /**
+     * Appends a record with a tag. Producer thread only.
+     *
+     * @return {@code false} if the queue is full and the record was not added
+     */
+    public boolean offer(@NonNull final float[] values,
+                         final int offset,
+                         final long timestamp,
+                         final long tag) {
+        return offer(values, offset, timestamp, tag, timestamp);
+    }
+
+    /**
+     * Appends a record with a tag and the time the data it holds originated, such as the
+     * arrival of the sensor sample. Producer thread only.
+     *
+     * @return {@code false} if the queue is full and the record was not added
+     */
+    public boolean offer(@NonNull final float[] values,
+                         final int offset,
+                         final long timestamp,
+                         final long tag,
+                         final long origin) {
+        final long tail = mTail;
+        if (tail - mHead >= mCapacity) {
+            return false;
+        }
+
+        final int slot = (int) tail & mMask;
+        System.arraycopy(values, offset, mValues, slot * mWidth, mWidth);
+        mTimestamps[slot] = timestamp;
+        mTags[slot] = tag;
+        mOrigins[slot] = origin;
+        mTail = tail + 1;
+        return true;
+    }
+
+    /**
+     * Appends a three-float record. Producer thread only.
+     *
+     * @return {@code false} if the queue is full and the record was not added
+     */
+    public boolean offer(final float a, final float b, final float c, final long timestamp) {
+        if (mWidth != 3) {
+            throw new IllegalStateException("Queue records have " + mWidth + " values");
+        }
+
+        final long tail = mTail;
+        if (tail - mHead >= mCapacity) {
+            return false;
+        }
+
+        final int slot = (int) tail & mMask;
+        final int index = slot * 3;
+        mValues[index] = a;
+        mValues[index + 1] = b;
+        mValues[index + 2] = c;
+        mTimestamps[slot] = timestamp;
+        mTags[slot] = 0;
+        mOrigins[slot] = timestamp;
+        mTail = tail + 1;
+        return true;
+    }
+
+    /**
+     * Removes the oldest record, copying its values into {@code out}. Consumer thread only.
+     *
+     * @return timestamp of the removed record, or {@code Long.MIN_VALUE} if the queue is empty
+     */
+    public long poll(@NonNull final float[] out, final int offset) {
+        final long head = mHead;
+        if (head == mTail) {
+            return Long.MIN_VALUE;
+        }
+
+        final int slot = (int) head & mMask;
+        System.arraycopy(mValues, slot * mWidth, out, offset, mWidth);
+        final long timestamp = mTimestamps[slot];
+        mPolledTag = mTags[slot];
+        mPolledOrigin = mOrigins[slot];
+        mHead = head + 1;
+        return timestamp;
+    }
+
+    /**
+     * @return tag of the record most recently removed by {@link #poll}. Consumer thread only.
+     */
+    public long polledTag() {
+        return mPolledTag;
+    }
+
+    /**
+     * @return origin time of the record most recently removed by {@link #poll}. Consumer thread
+     * only.
+     */
+    public long polledOrigin() {
+        return mPolledOrigin;
+    }
+
+    public boolean isEmpty() {
+        return mHead == mTail;
+    }
+}
@@ -0,0 +1,63 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SendPolicy.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Decides which sensor frames are worth sending.
+ *
+ * A frame is sent when any angle moved by at least the deadband since the last sent frame, or
+ * when nothing was sent for the maximum idle interval. Independently, the send rate is capped at
+ * the maximum rate on average, see {@link SendThrottle}. With the default values every frame is
+ * sent.
+ */
+public final class SendPolicy {
+    public static final SendPolicy UNTHROTTLED = new SendPolicy(0, 0, 0);
+
+    private final float mDeadbandDegrees;
+    private final long mMaxIdleNanos;
+    private final long mMinIntervalNanos;
+
+    /**
+     * @param deadbandDegrees smallest change of yaw, pitch or roll worth sending, 0 to send all
+     * @param maxIdleMillis longest time without sending before a keep-alive frame goes out,
+     *                      0 for no keep-alive
+     * @param maxRateHz highest send rate, 0 for no cap
+     */
+    public SendPolicy(final float deadbandDegrees, final long maxIdleMillis, final float maxRateHz) {
+        if (deadbandDegrees < 0 || maxIdleMillis < 0 || maxRateHz < 0) {
+            throw new IllegalArgumentException("Policy values can not be negative");
+        }
+
+        mDeadbandDegrees = deadbandDegrees;
+        mMaxIdleNanos = maxIdleMillis * 1_000_000;
+        mMinIntervalNanos = maxRateHz > 0 ? (long) (1e9 / maxRateHz) : 0;
+    }
+
+    public float deadbandDegrees() {
+        return mDeadbandDegrees;
+    }
+
+    public long maxIdleNanos() {
+        return mMaxIdleNanos;
+    }
+
+    public long minIntervalNanos() {
+        return mMinIntervalNanos;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "deadband %.3f°, keep-alive %d ms, min interval %.1f ms",
+            mDeadbandDegrees, mMaxIdleNanos / 1_000_000, mMinIntervalNanos / 1e6);
+    }
+}
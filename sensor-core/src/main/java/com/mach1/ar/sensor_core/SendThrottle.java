@@ -0,0 +1,236 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SendThrottle.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a {@link SendPolicy} to a stream of sensor frames and counts how many it let through.
+ *
+ * The rate cap is a token bucket: sending takes one minimum interval of credit, and credit
+ * builds up with time to at most {@link #MAX_BURST} intervals. BLE delivers a steady stream in
+ * jittered bursts, with frames often closer together than the sample period; those all pass as
+ * long as the average rate stays below the cap.
+ *
+ * Must only be used from one thread; the counters may be read from any thread. Readers that
+ * watch the reduction while streaming look at the frames since their previous look through a
+ * {@link Window}.
+ */
+public final class SendThrottle {
+    /**
+     * Frames that may be sent back to back after a pause, under a rate cap.
+     */
+    public static final int MAX_BURST = 2;
+
+    @NonNull
+    private volatile SendPolicy mPolicy = SendPolicy.UNTHROTTLED;
+
+    private boolean mSentAny;
+    private long mLastSentNanos;
+    private long mLastFrameNanos;
+    private long mCreditNanos;
+    private float mLastYaw;
+    private float mLastPitch;
+    private float mLastRoll;
+
+    private volatile long mStartNanos;
+    private volatile long mInputCount;
+    private volatile long mOutputCount;
+
+    @NonNull
+    public SendPolicy policy() {
+        return mPolicy;
+    }
+
+    public void policy(@NonNull final SendPolicy policy) {
+        mPolicy = policy;
+    }
+
+    /**
+     * @param frame {@link SensorFrame#WIDTH} values
+     * @param nowNanos {@code System.nanoTime()} of the frame
+     * @return {@code true} if the frame should be sent
+     */
+    public boolean accept(@NonNull final float[] frame, final long nowNanos) {
+        if (mInputCount == 0) {
+            mStartNanos = nowNanos;
+        }
+        mInputCount += 1;
+
+        final SendPolicy policy = mPolicy;
+        final long minIntervalNanos = policy.minIntervalNanos();
+        if (mSentAny) {
+            mCreditNanos = Math.min(mCreditNanos + nowNanos - mLastFrameNanos, MAX_BURST * minIntervalNanos);
+            mLastFrameNanos = nowNanos;
+            if (mCreditNanos < minIntervalNanos) {
+                return false;
+            }
+
+            final long sinceSent = nowNanos - mLastSentNanos;
+            final boolean idle = policy.maxIdleNanos() > 0 && sinceSent >= policy.maxIdleNanos();
+            final float deadband = policy.deadbandDegrees();
+            if (!idle && deadband > 0
+                    && angleDistance(frame[SensorFrame.YAW], mLastYaw) < deadband
+                    && angleDistance(frame[SensorFrame.PITCH], mLastPitch) < deadband
+                    && angleDistance(frame[SensorFrame.ROLL], mLastRoll) < deadband) {
+                return false;
+            }
+        }
+
+        if (mSentAny) {
+            mCreditNanos -= minIntervalNanos;
+        } else {
+            // The first frame always goes out, and the credit starts empty
+            mSentAny = true;
+            mCreditNanos = 0;
+            mLastFrameNanos = nowNanos;
+        }
+        mLastSentNanos = nowNanos;
+        mLastYaw = frame[SensorFrame.YAW];
+        mLastPitch = frame[SensorFrame.PITCH];
+        mLastRoll = frame[SensorFrame.ROLL];
+        mOutputCount += 1;
+        return true;
+    }
+
+    public long inputCount() {
+        return mInputCount;
+    }
+
+    public long outputCount() {
+        return mOutputCount;
+    }
+
+    /**
+     * @return fraction of frames that were not sent, between 0 and 1
+     */
+    public double reduction() {
+        final long input = mInputCount;
+        return input > 0 ? 1 - (double) mOutputCount / input : 0;
+    }
+
+    /**
+     * @return average raw sensor frame rate since the first frame, in frames per second
+     */
+    public double inputRate(final long nowNanos) {
+        return rate(mInputCount, nowNanos);
+    }
+
+    /**
+     * @return average rate of frames let through since the first frame, in frames per second
+     */
+    public double outputRate(final long nowNanos) {
+        return rate(mOutputCount, nowNanos);
+    }
+
+    private double rate(final long count, final long nowNanos) {
+        final double seconds = (nowNanos - mStartNanos) / 1e9;
+        return count > 0 && seconds > 0 ? count / seconds : 0;
+    }
+
+    @NonNull
+    public Window window() {
+        return new Window(this);
+    }
+
+    /**
+     * Frame rates and reduction between two calls to {@link #update(long)}. Not thread safe;
+     * each reader uses its own window.
+     */
+    public static final class Window {
+        /**
+         * Number of values {@link #write(float[], int)} writes.
+         */
+        public static final int VALUE_COUNT = 3;
+
+        @NonNull
+        private final SendThrottle mThrottle;
+        private boolean mUpdated;
+        private long mLastUpdateNanos;
+        private long mSeenInput;
+        private long mSeenOutput;
+        private long mInput;
+        private long mOutput;
+        private long mDurationNanos;
+
+        Window(@NonNull final SendThrottle throttle) {
+            mThrottle = throttle;
+            mSeenInput = throttle.mInputCount;
+            mSeenOutput = throttle.mOutputCount;
+        }
+
+        /**
+         * Starts a new window holding the frames since the previous one.
+         *
+         * @param nowNanos {@code System.nanoTime()}
+         */
+        public void update(final long nowNanos) {
+            final long input = mThrottle.mInputCount;
+            final long output = mThrottle.mOutputCount;
+            mInput = input - mSeenInput;
+            mOutput = output - mSeenOutput;
+            mSeenInput = input;
+            mSeenOutput = output;
+            mDurationNanos = mUpdated ? nowNanos - mLastUpdateNanos : 0;
+            mLastUpdateNanos = nowNanos;
+            mUpdated = true;
+        }
+
+        /**
+         * @return raw sensor frames per second in this window, 0 for the first one
+         */
+        public double inputRate() {
+            return rate(mInput);
+        }
+
+        /**
+         * @return frames let through per second in this window, 0 for the first one
+         */
+        public double outputRate() {
+            return rate(mOutput);
+        }
+
+        /**
+         * @return fraction of the frames in this window that were not sent, between 0 and 1
+         */
+        public double reduction() {
+            return mInput > 0 ? 1 - (double) mOutput / mInput : 0;
+        }
+
+        /**
+         * Writes the input rate and output rate in frames per second, then the reduction.
+         */
+        public void write(@NonNull final float[] out, final int offset) {
+            out[offset] = (float) inputRate();
+            out[offset + 1] = (float) outputRate();
+            out[offset + 2] = (float) reduction();
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%.1f of %.1f frames/s (%.0f%% fewer)",
+                outputRate(), inputRate(), reduction() * 100);
+        }
+
+        private double rate(final long count) {
+            return mDurationNanos > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / mDurationNanos : 0;
+        }
+    }
+
+    /**
+     * Distance between two angles in degrees, taking the wrap at ±180° into account.
+     */
+    static float angleDistance(final float a, final float b) {
+        final float distance = Math.abs(a - b) % 360f;
+        return distance > 180f ? 360f - distance : distance;
+    }
+}
@@ -0,0 +1,363 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SensorChannel.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hands values from one producer thread to any number of observers, each on its own executor.
+ *
+ * Every subscription picks its {@link Delivery}: only the latest value, a bounded queue that
+ * drops new values while full, or every value. Publishing never blocks and takes no lock; at
+ * most one delivery task per subscription is queued on its executor at a time, and a
+ * subscription's observer is never called concurrently with itself, even on a thread pool.
+ *
+ * New subscribers receive the latest published value first, like {@code LiveData} observers,
+ * unless a newer one is published while they subscribe.
+ */
+public final class SensorChannel<T> {
+    @SuppressWarnings("rawtypes")
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    public interface Observer<T> {
+        void onValue(@NonNull T value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private volatile Subscription<T>[] mSubscriptions = NO_SUBSCRIPTIONS;
+    @Nullable
+    private volatile T mValue;
+
+    /**
+     * @return the latest published value, or {@code null} if none was published or it was
+     * {@link #clear() cleared}
+     */
+    @Nullable
+    public T value() {
+        return mValue;
+    }
+
+    /**
+     * Hands {@code value} to every subscription. Must only be called from one thread at a time.
+     */
+    public void publish(@NonNull final T value) {
+        mValue = value;
+        for (final Subscription<T> subscription : mSubscriptions) {
+            subscription.offer(value);
+        }
+    }
+
+    /**
+     * Forgets the latest value, so that new subscribers do not receive it.
+     */
+    public void clear() {
+        mValue = null;
+    }
+
+    /**
+     * Delivers values to {@code observer} on {@code executor} until the subscription is
+     * cancelled, starting with the latest value if there is one.
+     */
+    @NonNull
+    public Subscription<T> subscribe(@NonNull final Delivery delivery,
+                                     @NonNull final Executor executor,
+                                     @NonNull final Observer<T> observer) {
+        final Subscription<T> subscription = new Subscription<>(this, delivery, executor, observer);
+        synchronized (this) {
+            final List<Subscription<T>> subscriptions = new ArrayList<>(Arrays.asList(mSubscriptions));
+            subscriptions.add(subscription);
+            mSubscriptions = toArray(subscriptions);
+        }
+
+        // Read only now that the producer sees the subscription, so that a value published in
+        // between is not missed
+        final T value = mValue;
+        if (value != null) {
+            subscription.catchUp(value);
+        }
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return mSubscriptions.length;
+    }
+
+    private synchronized void remove(@NonNull final Subscription<T> subscription) {
+        final List<Subscription<T>> subscriptions = new ArrayList<>(Arrays.asList(mSubscriptions));
+        if (subscriptions.remove(subscription)) {
+            mSubscriptions = toArray(subscriptions);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private static <T> Subscription<T>[] toArray(@NonNull final List<Subscription<T>> subscriptions) {
+        return subscriptions.toArray((Subscription<T>[]) NO_SUBSCRIPTIONS);
+    }
+
+    /**
+     * How values reach one subscriber.
+     */
+    public static final class Delivery {
+        /**
+         * Only the latest value; values published while one is pending replace it.
+         */
+        public static final Delivery LATEST = new Delivery(0);
+        /**
+         * Every value, in order, queued without bound.
+         */
+        public static final Delivery EVERY_SAMPLE = new Delivery(-1);
+
+        private final int mCapacity;
+
+        private Delivery(final int capacity) {
+            mCapacity = capacity;
+        }
+
+        /**
+         * Every value, in order, as long as no more than {@code capacity} are waiting; values
+         * published while the queue is full are dropped and counted.
+         */
+        @NonNull
+        public static Delivery bounded(final int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+            }
+            return new Delivery(capacity);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            if (mCapacity == 0) {
+                return "LATEST";
+            } else if (mCapacity < 0) {
+                return "EVERY_SAMPLE";
+            }
+            return "bounded(" + mCapacity + ")";
+        }
+    }
+
+    /**
+     * One observer's view of the channel.
+     */
+    public static final class Subscription<T> implements Runnable {
+        @NonNull
+        private final SensorChannel<T> mChannel;
+        @NonNull
+        private final Executor mExecutor;
+        @NonNull
+        private final Observer<T> mObserver;
+        private final AtomicBoolean mScheduled = new AtomicBoolean();
+        private final AtomicLong mDroppedCount = new AtomicLong();
+        private volatile boolean mCancelled;
+
+        // Serializes the producer's offers with the catch-up offer of subscribe(), so that the
+        // queues below only ever have one thread offering to them. The producer never waits: it
+        // leaves its value in the handover queue for the thread already offering.
+        private final AtomicInteger mOffering = new AtomicInteger();
+        private final ConcurrentLinkedQueue<T> mHandover = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<T> mCatchUp = new AtomicReference<>();
+        // Only used by the thread offering
+        private boolean mProducerOffered;
+        @Nullable
+        private T mCaughtUp;
+
+        // LATEST
+        @Nullable
+        private final AtomicReference<T> mLatest;
+        // bounded: single producer, single consumer ring
+        @Nullable
+        private final AtomicReferenceArray<T> mRing;
+        private final AtomicLong mHead = new AtomicLong();
+        private final AtomicLong mTail = new AtomicLong();
+        // EVERY_SAMPLE
+        @Nullable
+        private final ConcurrentLinkedQueue<T> mQueue;
+
+        Subscription(@NonNull final SensorChannel<T> channel,
+                     @NonNull final Delivery delivery,
+                     @NonNull final Executor executor,
+                     @NonNull final Observer<T> observer) {
+            mChannel = channel;
+            mExecutor = executor;
+            mObserver = observer;
+            mLatest = delivery.mCapacity == 0 ? new AtomicReference<>() : null;
+            mRing = delivery.mCapacity > 0 ? new AtomicReferenceArray<>(delivery.mCapacity) : null;
+            mQueue = delivery.mCapacity < 0 ? new ConcurrentLinkedQueue<>() : null;
+        }
+
+        /**
+         * Stops deliveries. A delivery already running finishes; none start afterwards.
+         */
+        public void cancel() {
+            mCancelled = true;
+            mChannel.remove(this);
+        }
+
+        public boolean cancelled() {
+            return mCancelled;
+        }
+
+        /**
+         * @return number of values dropped because the bounded queue was full. Values replaced
+         * under {@link Delivery#LATEST} are not counted.
+         */
+        public long droppedCount() {
+            return mDroppedCount.get();
+        }
+
+        /**
+         * Offers a value from the producer.
+         */
+        void offer(@NonNull final T value) {
+            if (mOffering.compareAndSet(0, 1)) {
+                offered(value);
+                final int missed = mOffering.decrementAndGet();
+                if (missed != 0) {
+                    drain(missed);
+                }
+            } else {
+                mHandover.offer(value);
+                if (mOffering.getAndIncrement() == 0) {
+                    drain(1);
+                }
+            }
+        }
+
+        /**
+         * Offers the value that was latest when the producer started seeing the subscription,
+         * unless the producer has offered one since, which is at least as new.
+         */
+        void catchUp(@NonNull final T value) {
+            mCatchUp.set(value);
+            if (mOffering.getAndIncrement() == 0) {
+                drain(1);
+            }
+        }
+
+        private void drain(final int count) {
+            int missed = count;
+            while (true) {
+                final T catchUp = mCatchUp.getAndSet(null);
+                if (catchUp != null && !mProducerOffered) {
+                    mCaughtUp = catchUp;
+                    enqueue(catchUp);
+                }
+
+                T value;
+                while ((value = mHandover.poll()) != null) {
+                    offered(value);
+                }
+
+                missed = mOffering.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void offered(@NonNull final T value) {
+            // The producer may still have been offering the value subscribe() caught up with
+            final boolean caughtUp = value == mCaughtUp;
+            mCaughtUp = null;
+            mProducerOffered = true;
+            if (!caughtUp) {
+                enqueue(value);
+            }
+        }
+
+        private void enqueue(@NonNull final T value) {
+            if (mCancelled) {
+                return;
+            }
+
+            if (mLatest != null) {
+                mLatest.set(value);
+            } else if (mRing != null) {
+                final long tail = mTail.get();
+                if (tail - mHead.get() >= mRing.length()) {
+                    mDroppedCount.incrementAndGet();
+                    return;
+                }
+                mRing.set((int) (tail % mRing.length()), value);
+                mTail.set(tail + 1);
+            } else {
+                mQueue.offer(value);
+            }
+
+            if (mScheduled.compareAndSet(false, true)) {
+                mExecutor.execute(this);
+            }
+        }
+
+        /**
+         * Delivers what is pending. Runs on the subscriber's executor.
+         */
+        @Override
+        public void run() {
+            while (true) {
+                final T value = poll();
+                if (value == null) {
+                    mScheduled.set(false);
+                    // A value may have arrived after the poll but before the flag was cleared
+                    if (!pending() || !mScheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+
+                if (!mCancelled) {
+                    mObserver.onValue(value);
+                }
+            }
+        }
+
+        @Nullable
+        private T poll() {
+            if (mLatest != null) {
+                return mLatest.getAndSet(null);
+            } else if (mRing != null) {
+                final long head = mHead.get();
+                if (head == mTail.get()) {
+                    return null;
+                }
+                final int index = (int) (head % mRing.length());
+                final T value = mRing.get(index);
+                mRing.set(index, null);
+                mHead.set(head + 1);
+                return value;
+            } else {
+                return mQueue.poll();
+            }
+        }
+
+        private boolean pending() {
+            if (mLatest != null) {
+                return mLatest.get() != null;
+            } else if (mRing != null) {
+                return mHead.get() != mTail.get();
+            } else {
+                return !mQueue.isEmpty();
+            }
+        }
+    }
+}
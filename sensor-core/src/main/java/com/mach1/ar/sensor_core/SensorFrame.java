@@ -0,0 +1,33 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SensorFrame.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+/**
+ * Layout of the float record that carries one sensor frame through the output pipeline.
+ *
+ * The order matches the argument order of the OSC frame bundle:
+ * {@code /orientation yaw pitch roll}, {@code /acceleration x y z}, {@code /accuracy degrees}.
+ */
+public final class SensorFrame {
+    public static final int YAW = 0;
+    public static final int PITCH = 1;
+    public static final int ROLL = 2;
+    public static final int ACCELERATION_X = 3;
+    public static final int ACCELERATION_Y = 4;
+    public static final int ACCELERATION_Z = 5;
+    public static final int ACCURACY = 6;
+    public static final int WIDTH = 7;
+
+    /**
+     * Accuracy value sent when the device did not report one.
+     */
+    public static final float UNKNOWN_ACCURACY = -1f;
+
+    private SensorFrame() {
+    }
+}
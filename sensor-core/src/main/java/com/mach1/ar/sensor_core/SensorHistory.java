@@ -0,0 +1,273 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SensorHistory.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The most recent samples of one sensor, kept for plotting and statistics.
+ *
+ * Samples live in a fixed-capacity ring with one primitive array per field, so adding a sample
+ * allocates nothing and a reader copies each field with at most two {@code System.arraycopy}
+ * calls. There is one writer and any number of readers; neither ever waits for the other.
+ *
+ * The writer announces each slot it is about to overwrite before touching it. A reader copies
+ * what was complete when it started, then drops any of those samples that the writer may have
+ * overwritten in the meantime, so a snapshot never holds a torn sample.
+ */
+public final class SensorHistory {
+    private final int mCapacity;
+    private final int[] mDeviceTimestamps;
+    private final long[] mReceiveNanos;
+    private final float[] mX;
+    private final float[] mY;
+    private final float[] mZ;
+    private final float[] mW;
+    private final float[] mAccuracy;
+
+    // Number of samples whose write has started, and number that are complete
+    private volatile long mStarted;
+    private volatile long mWritten;
+    // Always zero; only accessed to order the plain array accesses against the counters above
+    private volatile int mFence;
+
+    public SensorHistory(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        mCapacity = capacity;
+        mDeviceTimestamps = new int[capacity];
+        mReceiveNanos = new long[capacity];
+        mX = new float[capacity];
+        mY = new float[capacity];
+        mZ = new float[capacity];
+        mW = new float[capacity];
+        mAccuracy = new float[capacity];
+    }
+
+    /**
+     * @return a history that holds at least {@code seconds} of samples arriving at up to
+     * {@code maxRateHz}
+     */
+    @NonNull
+    public static SensorHistory forDuration(final int seconds, final int maxRateHz) {
+        return new SensorHistory(seconds * maxRateHz);
+    }
+
+    public int capacity() {
+        return mCapacity;
+    }
+
+    /**
+     * @return number of samples added so far, including those that no longer fit
+     */
+    public long count() {
+        return mWritten;
+    }
+
+    /**
+     * Adds a sample, replacing the oldest one once the history is full. Must only be called from
+     * one thread at a time.
+     *
+     * @param w {@code Float.NaN} for vector sensors
+     */
+    public void add(final int deviceTimestamp,
+                    final long receiveNanos,
+                    final float x,
+                    final float y,
+                    final float z,
+                    final float w,
+                    final float accuracy) {
+        final long sequence = mWritten;
+        mStarted = sequence + 1;
+        // A volatile read after the volatile write keeps the array writes below from being
+        // reordered before the announcement
+        final int index = (int) (sequence % mCapacity) + mFence;
+        mDeviceTimestamps[index] = deviceTimestamp;
+        mReceiveNanos[index] = receiveNanos;
+        mX[index] = x;
+        mY[index] = y;
+        mZ[index] = z;
+        mW[index] = w;
+        mAccuracy[index] = accuracy;
+
+        mWritten = sequence + 1;
+    }
+
+    /**
+     * @return a snapshot large enough to hold this whole history
+     */
+    @NonNull
+    public Snapshot newSnapshot() {
+        return new Snapshot(mCapacity);
+    }
+
+    /**
+     * Copies the samples in this history into {@code out}, oldest first, replacing its contents.
+     * Allocates nothing; reuse {@code out} between calls.
+     *
+     * @return number of samples copied
+     */
+    public int snapshot(@NonNull final Snapshot out) {
+        if (out.mCapacity < mCapacity) {
+            throw new IllegalArgumentException("Snapshot holds " + out.mCapacity
+                + " samples, history holds " + mCapacity);
+        }
+
+        final long end = mWritten;
+        final long begin = Math.max(0, end - mCapacity);
+        copy(begin, end, out);
+
+        // A volatile write before the volatile read keeps the array reads above from being
+        // reordered after the check
+        mFence = 0;
+        final long started = mStarted;
+        // Slots of samples before this one may have been overwritten while copying
+        final long firstIntact = Math.max(begin, started - mCapacity);
+        final int skipped = (int) Math.min(end - begin, firstIntact - begin);
+        out.trimStart(skipped);
+        out.mFirstSequence = begin + skipped;
+        return out.mSize;
+    }
+
+    private void copy(final long begin, final long end, @NonNull final Snapshot out) {
+        final int size = (int) (end - begin);
+        final int start = (int) (begin % mCapacity);
+        final int first = Math.min(size, mCapacity - start);
+        final int second = size - first;
+
+        copy(mDeviceTimestamps, out.mDeviceTimestamps, start, first, second);
+        copy(mReceiveNanos, out.mReceiveNanos, start, first, second);
+        copy(mX, out.mX, start, first, second);
+        copy(mY, out.mY, start, first, second);
+        copy(mZ, out.mZ, start, first, second);
+        copy(mW, out.mW, start, first, second);
+        copy(mAccuracy, out.mAccuracy, start, first, second);
+        out.mOffset = 0;
+        out.mSize = size;
+    }
+
+    private static void copy(@NonNull final Object from,
+                             @NonNull final Object to,
+                             final int start,
+                             final int first,
+                             final int second) {
+        System.arraycopy(from, start, to, 0, first);
+        System.arraycopy(from, 0, to, first, second);
+    }
+
+    /**
+     * A reader owned copy of a history, oldest sample at index 0.
+     */
+    public static final class Snapshot {
+        private final int mCapacity;
+        private final int[] mDeviceTimestamps;
+        private final long[] mReceiveNanos;
+        private final float[] mX;
+        private final float[] mY;
+        private final float[] mZ;
+        private final float[] mW;
+        private final float[] mAccuracy;
+        private int mOffset;
+        private int mSize;
+        private long mFirstSequence;
+
+        public Snapshot(final int capacity) {
+            mCapacity = capacity;
+            mDeviceTimestamps = new int[capacity];
+            mReceiveNanos = new long[capacity];
+            mX = new float[capacity];
+            mY = new float[capacity];
+            mZ = new float[capacity];
+            mW = new float[capacity];
+            mAccuracy = new float[capacity];
+        }
+
+        public int size() {
+            return mSize;
+        }
+
+        /**
+         * @return position of the sample at index 0 among all samples ever added to the history
+         */
+        public long firstSequence() {
+            return mFirstSequence;
+        }
+
+        public int deviceTimestamp(final int index) {
+            return mDeviceTimestamps[slot(index)];
+        }
+
+        public long receiveNanos(final int index) {
+            return mReceiveNanos[slot(index)];
+        }
+
+        public float x(final int index) {
+            return mX[slot(index)];
+        }
+
+        public float y(final int index) {
+            return mY[slot(index)];
+        }
+
+        public float z(final int index) {
+            return mZ[slot(index)];
+        }
+
+        public float w(final int index) {
+            return mW[slot(index)];
+        }
+
+        public float accuracy(final int index) {
+            return mAccuracy[slot(index)];
+        }
+
+        /**
+         * @return index of the first sample received at or after {@code receiveNanos}, or
+         * {@link #size()} if there is none
+         */
+        public int indexAtOrAfter(final long receiveNanos) {
+            int low = 0;
+            int high = mSize;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (receiveNanos(middle) - receiveNanos < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return index of the first sample received within {@code duration} of the newest one
+         */
+        public int indexOfLast(final long duration, @NonNull final TimeUnit unit) {
+            if (mSize == 0) {
+                return 0;
+            }
+            return indexAtOrAfter(receiveNanos(mSize - 1) - unit.toNanos(duration));
+        }
+
+        private int slot(final int index) {
+            if (index < 0 || index >= mSize) {
+                throw new IndexOutOfBoundsException("Index " + index + ", size " + mSize);
+            }
+            return mOffset + index;
+        }
+
+        void trimStart(final int count) {
+            mOffset += count;
+            mSize -= count;
+        }
+    }
+}
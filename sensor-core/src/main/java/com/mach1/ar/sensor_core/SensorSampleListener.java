@@ -0,0 +1,32 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SensorSampleListener.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+/**
+ * Receives sensor and gesture samples as primitives, independent of where they come from.
+ *
+ * Types are the ordinals of the SDK's {@code SensorType} and {@code GestureType}. Receive times
+ * are {@code System.nanoTime()} when the sample reached the app.
+ */
+public interface SensorSampleListener {
+    /**
+     * @param w {@code Float.NaN} for vector sensors
+     * @param accuracy estimated accuracy in radians for rotation sensors, the ordinal of the
+     *                 SDK's {@code VectorAccuracy} for vector sensors, or {@code Float.NaN}
+     */
+    void onSensorSample(int type,
+                        int deviceTimestamp,
+                        long receiveNanos,
+                        float x,
+                        float y,
+                        float z,
+                        float w,
+                        float accuracy);
+
+    void onGestureSample(int type, int deviceTimestamp, long receiveNanos);
+}
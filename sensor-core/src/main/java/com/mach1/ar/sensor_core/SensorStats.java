@@ -0,0 +1,177 @@
+package com.mach1.ar.sensor_core;
+
+//
+//  SensorStats.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arrival statistics for one sensor: rate, inter-arrival jitter, gaps and lost samples.
+ *
+ * Counting updates per second hides what breaks head tracking over BLE: samples arriving in
+ * bursts, stalls, and samples that never arrive. Here every arrival records the time since the
+ * previous one in a {@link LatencyHistogram}, and the device timestamps, which advance by the
+ * sample period, reveal samples that were lost on the way. Recording takes no lock and does not
+ * allocate. Readers look at the samples since their previous look through a {@link Window}.
+ */
+public final class SensorStats {
+    // Written by the recording thread only
+    private final LatencyHistogram mIntervals = new LatencyHistogram();
+    private final DeviceClock mClock = new DeviceClock();
+    private boolean mHasLast;
+    private long mLostBefore;
+    private volatile long mCount;
+    private volatile long mLostCount;
+    private volatile long mLastReceiveNanos;
+
+    private volatile int mSamplePeriodMillis;
+
+    /**
+     * Sets the period the device was asked to sample at, which tells lost samples apart from
+     * late ones. Until it is set, it is estimated from the device timestamps, see
+     * {@link DeviceClock#samplePeriodMillis(int)}.
+     *
+     * @param millis sample period, or 0 if unknown
+     */
+    public void samplePeriodMillis(final int millis) {
+        mSamplePeriodMillis = millis;
+    }
+
+    /**
+     * Records the arrival of one sample. Must only be called from one thread at a time.
+     *
+     * @param deviceTimestamp device time in milliseconds, wrapping at 2^16
+     * @param receiveNanos {@code System.nanoTime()} when the sample arrived
+     */
+    public void record(final int deviceTimestamp, final long receiveNanos) {
+        if (mHasLast) {
+            mIntervals.record(receiveNanos - mLastReceiveNanos);
+        }
+
+        mClock.samplePeriodMillis(mSamplePeriodMillis);
+        mClock.update(deviceTimestamp, receiveNanos);
+        mLostCount = mLostBefore + mClock.lostCount();
+        mLastReceiveNanos = receiveNanos;
+        mHasLast = true;
+        mCount += 1;
+    }
+
+    /**
+     * Starts over with a new device, whose timestamps have nothing to do with the previous
+     * one's. The counts carry on. Must be called from the recording thread.
+     */
+    public void reset() {
+        mLostBefore = mLostCount;
+        mClock.reset();
+        mHasLast = false;
+    }
+
+    /**
+     * @return number of samples recorded
+     */
+    public long count() {
+        return mCount;
+    }
+
+    /**
+     * @return number of samples the device timestamps show were sent but never arrived
+     */
+    public long lostCount() {
+        return mLostCount;
+    }
+
+    @NonNull
+    public Window window() {
+        return new Window(this);
+    }
+
+    /**
+     * Statistics of the samples recorded between two calls to {@link #update(long)}. Not thread
+     * safe; each reader uses its own window.
+     */
+    public static final class Window {
+        @NonNull
+        private final SensorStats mStats;
+        @NonNull
+        private final LatencyHistogram.Interval mIntervals;
+        private long mLastUpdateNanos;
+        private long mSeenCount;
+        private long mSeenLost;
+        private long mCount;
+        private long mLost;
+        private long mDurationNanos;
+        private long mSinceLastNanos;
+
+        Window(@NonNull final SensorStats stats) {
+            mStats = stats;
+            mIntervals = stats.mIntervals.interval();
+            mSeenCount = stats.mCount;
+            mSeenLost = stats.mLostCount;
+        }
+
+        /**
+         * Starts a new window holding what was recorded since the previous one.
+         *
+         * @param nowNanos {@code System.nanoTime()}
+         */
+        public void update(final long nowNanos) {
+            // Read the counters first; anything recorded after that lands in the next window
+            final long count = mStats.mCount;
+            final long lost = mStats.mLostCount;
+            final long lastReceiveNanos = mStats.mLastReceiveNanos;
+            mIntervals.update();
+
+            mCount = count - mSeenCount;
+            mLost = lost - mSeenLost;
+            mSeenCount = count;
+            mSeenLost = lost;
+            mDurationNanos = mLastUpdateNanos != 0 ? nowNanos - mLastUpdateNanos : 0;
+            mLastUpdateNanos = nowNanos;
+            mSinceLastNanos = count != 0 ? nowNanos - lastReceiveNanos : 0;
+        }
+
+        /**
+         * @return number of samples that arrived in this window
+         */
+        public long count() {
+            return mCount;
+        }
+
+        /**
+         * @return samples per second in this window, 0 for the first one
+         */
+        public double rateHz() {
+            return mDurationNanos > 0 ? mCount * (double) TimeUnit.SECONDS.toNanos(1) / mDurationNanos : 0;
+        }
+
+        /**
+         * @param quantile between 0 and 1
+         * @return time between arrivals at this quantile, within about 6%, or 0 if fewer than
+         * two samples arrived
+         */
+        public long intervalNanos(final double quantile) {
+            return mIntervals.valueAt(quantile);
+        }
+
+        /**
+         * @return longest time without a sample, including the time since the last one when
+         * the window ended, so that a stalled sensor shows up before its next sample
+         */
+        public long maxGapNanos() {
+            return Math.max(mIntervals.max(), mSinceLastNanos);
+        }
+
+        /**
+         * @return number of samples lost in this window
+         */
+        public long lostCount() {
+            return mLost;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  DestinationResolver.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and resolves OSC destination lists on a background thread.
+ *
+ * Requests are debounced: while the user is still typing each new request replaces the
+ * pending one, and only the last request of a burst is resolved. Results of a request that
+ * was superseded while it was resolving are discarded.
+ */
+public class DestinationResolver {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+
+    public interface Listener {
+        @WorkerThread
+        void onResolved(@NonNull List<InetSocketAddress> addresses);
+
+        @WorkerThread
+        void onResolveFailed(@NonNull String hosts, @NonNull Exception error);
+    }
+
+    @NonNull
+    private final Listener mListener;
+    private final long mDebounceMillis;
+    private final ScheduledExecutorService mExecutor =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, DestinationResolver.class.getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    private ScheduledFuture<?> mPending;
+    private volatile long mGeneration;
+
+    public DestinationResolver(@NonNull final Listener listener) {
+        this(listener, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public DestinationResolver(@NonNull final Listener listener, final long debounceMillis) {
+        mListener = listener;
+        mDebounceMillis = debounceMillis;
+    }
+
+    /**
+     * Parses a comma or whitespace separated list of {@code host} or {@code host:port} entries.
+     * IPv6 literals with a port must be bracketed, as in {@code [::1]:9000}.
+     *
+     * Host names are resolved, which may block.
+     *
+     * @throws IllegalArgumentException if an entry is malformed
+     */
+    @NonNull
+    public static List<InetSocketAddress> parseAddresses(@NonNull final String text,
+                                                         final int defaultPort) {
+        final List<InetSocketAddress> addresses = new ArrayList<>();
+        for (final String entry : text.trim().split("[,\\s]+")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+
+            String host = entry;
+            int port = defaultPort;
+            final int bracket = entry.lastIndexOf(']');
+            final int colon = entry.lastIndexOf(':');
+            if (entry.startsWith("[") && bracket > 0) {
+                host = entry.substring(1, bracket);
+                if (colon > bracket) {
+                    port = Integer.parseInt(entry.substring(colon + 1));
+                }
+            } else if (colon > 0 && colon == entry.indexOf(':')) {
+                host = entry.substring(0, colon);
+                port = Integer.parseInt(entry.substring(colon + 1));
+            }
+
+            addresses.add(new InetSocketAddress(host, port));
+        }
+        return addresses;
+    }
+
+    /**
+     * Schedules resolving of {@code hosts}, replacing any request that has not started yet.
+     *
+     * @param hosts destination list as accepted by {@link #parseAddresses(String, int)}
+     * @param port default port for entries without one
+     */
+    public synchronized void request(@NonNull final String hosts, @NonNull final String port) {
+        if (mPending != null) {
+            mPending.cancel(false);
+        }
+
+        final long generation = ++mGeneration;
+        mPending = mExecutor.schedule(() -> resolve(generation, hosts, port),
+            mDebounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops pending requests and stops the resolver thread.
+     */
+    public synchronized void shutdown() {
+        mGeneration++;
+        mExecutor.shutdownNow();
+    }
+
+    private void resolve(final long generation,
+                         @NonNull final String hosts,
+                         @NonNull final String port) {
+        final List<InetSocketAddress> addresses;
+        try {
+            addresses = parseAddresses(hosts, Integer.parseInt(port.trim()));
+            for (final InetSocketAddress address : addresses) {
+                if (address.isUnresolved()) {
+                    throw new IllegalArgumentException("Unknown host " + address.getHostString());
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            if (generation == mGeneration) {
+                mListener.onResolveFailed(hosts, e);
+            }
+            return;
+        }
+
+        if (generation == mGeneration) {
+            mListener.onResolved(addresses);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OrientationSender.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.OrientationSnapshot;
+import com.mach1.ar.sensor_core.PipelineLatency;
+import com.mach1.ar.sensor_core.SendPolicy;
+import com.mach1.ar.sensor_core.SendThrottle;
+import com.mach1.ar.sensor_core.SensorFrame;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fans published sensor frames out to any number of OSC destinations.
+ *
+ * Publishing writes the orientation to the shared {@link OrientationSnapshot}. If the
+ * {@link SendPolicy} lets the frame through it is then offered to every destination's queue
+ * without blocking; frames the policy rejects are never encoded. Each {@link OscDestination} sends from its own
+ * thread, so one slow receiver does not delay the others.
+ *
+ * All destinations record into one {@link PipelineLatency}.
+ */
+public class OrientationSender {
+    private static final Logger LOG = Logger.getLogger(OrientationSender.class.getName());
+    private static final OscDestination[] NO_DESTINATIONS = new OscDestination[0];
+
+    @NonNull
+    private final ThreadFactory mThreadFactory;
+    private final OrientationSnapshot mSnapshot = new OrientationSnapshot();
+    private final SendThrottle mThrottle = new SendThrottle();
+    private final PipelineLatency mLatency = new PipelineLatency();
+    @NonNull
+    private volatile OscDestination[] mDestinations = NO_DESTINATIONS;
+    @NonNull
+    private OscFormat mFormat = OscFormat.MESSAGE;
+    private long mStatsIntervalMillis;
+    private boolean mStarted;
+
+    public OrientationSender() {
+        this(Thread::new);
+    }
+
+    /**
+     * @param threadFactory creates the send thread of each destination
+     */
+    public OrientationSender(@NonNull final ThreadFactory threadFactory) {
+        mThreadFactory = threadFactory;
+    }
+
+    @NonNull
+    public OrientationSnapshot snapshot() {
+        return mSnapshot;
+    }
+
+    /**
+     * @return the throttle applied to published frames, including its counters
+     */
+    @NonNull
+    public SendThrottle throttle() {
+        return mThrottle;
+    }
+
+    @NonNull
+    public PipelineLatency latency() {
+        return mLatency;
+    }
+
+    public void policy(@NonNull final SendPolicy policy) {
+        mThrottle.policy(policy);
+    }
+
+    @NonNull
+    public List<OscDestination> destinations() {
+        return Collections.unmodifiableList(Arrays.asList(mDestinations));
+    }
+
+    /**
+     * Updates the set of destinations to {@code addresses}.
+     *
+     * Destinations whose address is unchanged are kept as they are. Destinations that are no
+     * longer wanted are reused for new addresses, keeping their socket and queued frames, and
+     * only the surplus is stopped after sending what it still has queued.
+     */
+    public synchronized void addresses(@NonNull final List<InetSocketAddress> addresses) {
+        final List<InetSocketAddress> added = new ArrayList<>();
+        final List<OscDestination> kept = new ArrayList<>();
+        final List<OscDestination> unused = new ArrayList<>(Arrays.asList(mDestinations));
+        for (final InetSocketAddress address : addresses) {
+            final OscDestination existing = find(unused, address);
+            if (existing != null) {
+                unused.remove(existing);
+                kept.add(existing);
+            } else if (!added.contains(address)) {
+                added.add(address);
+            }
+        }
+
+        for (final InetSocketAddress address : added) {
+            if (!unused.isEmpty()) {
+                final OscDestination reused = unused.remove(0);
+                reused.address(address);
+                kept.add(reused);
+                continue;
+            }
+
+            try {
+                final OscDestination destination = new OscDestination(
+                    new OscOutput(address), OscDestination.DEFAULT_QUEUE_CAPACITY, mThreadFactory);
+                destination.format(mFormat);
+                destination.latency(mLatency);
+                destination.throttle(mThrottle);
+                destination.stats(mStatsIntervalMillis);
+                if (mStarted) {
+                    destination.start();
+                }
+                kept.add(destination);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Failed to open " + address, e);
+            }
+        }
+
+        mDestinations = kept.toArray(NO_DESTINATIONS);
+        for (final OscDestination destination : unused) {
+            destination.stop();
+        }
+    }
+
+    public synchronized void format(@NonNull final OscFormat format) {
+        mFormat = format;
+        for (final OscDestination destination : mDestinations) {
+            destination.format(format);
+        }
+    }
+
+    /**
+     * @param intervalMillis how often each destination sends a {@code /stats} message, or 0 not
+     *                       to send any
+     */
+    public synchronized void stats(final long intervalMillis) {
+        mStatsIntervalMillis = intervalMillis;
+        for (final OscDestination destination : mDestinations) {
+            destination.stats(intervalMillis);
+        }
+    }
+
+    public synchronized void start() {
+        if (mStarted) {
+            return;
+        }
+
+        mStarted = true;
+        for (final OscDestination destination : mDestinations) {
+            destination.start();
+        }
+    }
+
+    /**
+     * Stops all destinations after sending what they have queued and closes their outputs.
+     */
+    public synchronized void stop() {
+        mStarted = false;
+
+        final OscDestination[] previous = mDestinations;
+        mDestinations = NO_DESTINATIONS;
+        for (final OscDestination destination : previous) {
+            destination.stop();
+        }
+    }
+
+    /**
+     * Publishes a sensor frame to the snapshot and all destinations. Must only be called from one
+     * thread at a time.
+     *
+     * @param frame {@link SensorFrame#WIDTH} values
+     * @param frameTimeMillis frame time in milliseconds since the Unix epoch
+     */
+    public void publish(@NonNull final float[] frame, final long frameTimeMillis) {
+        final long now = System.nanoTime();
+        publish(frame, frameTimeMillis, now, now);
+    }
+
+    /**
+     * Publishes a sensor frame with the stamps {@link PipelineLatency} needs. Fits
+     * {@link com.mach1.ar.sensor_core.FrameAssembler.Listener}.
+     *
+     * @param arrivalNanos {@code System.nanoTime()} when the rotation sample arrived
+     * @param convertedNanos {@code System.nanoTime()} when it had been converted to angles
+     */
+    public void publish(@NonNull final float[] frame,
+                        final long frameTimeMillis,
+                        final long arrivalNanos,
+                        final long convertedNanos) {
+        final long now = System.nanoTime();
+        mSnapshot.write(frame[SensorFrame.YAW], frame[SensorFrame.PITCH], frame[SensorFrame.ROLL], now);
+        if (!mThrottle.accept(frame, now)) {
+            return;
+        }
+
+        mLatency.queued(arrivalNanos, convertedNanos, now);
+        final long timetag = OscTimetag.fromMillis(frameTimeMillis);
+        for (final OscDestination destination : mDestinations) {
+            destination.offer(frame, now, timetag, arrivalNanos);
+        }
+    }
+
+    @Nullable
+    private static OscDestination find(@NonNull final List<OscDestination> destinations,
+                                       @NonNull final InetSocketAddress address) {
+        for (final OscDestination destination : destinations) {
+            if (destination.address().equals(address)) {
+                return destination;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscBundleEncoder.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encodes an OSC bundle holding a fixed sequence of messages.
+ *
+ * Like {@link OscMessageEncoder}, the layout is built once and encoding only patches the time
+ * tag and the arguments in place. Float arguments are taken in message order, so a bundle of
+ * {@code /orientation fff} and {@code /accuracy f} reads four floats; 64-bit arguments are
+ * numbered the same way and set with {@link #longArgument(int, long)}.
+ */
+public class OscBundleEncoder {
+    private static final byte[] BUNDLE_TAG = { '#', 'b', 'u', 'n', 'd', 'l', 'e', 0 };
+    private static final int TIMETAG_OFFSET = BUNDLE_TAG.length;
+
+    private final ByteBuffer mBuffer;
+    private final int[] mArgumentOffsets;
+    private final int[] mLongArgumentOffsets;
+
+    public OscBundleEncoder(@NonNull final OscMessageEncoder... messages) {
+        int size = BUNDLE_TAG.length + 8;
+        int argumentCount = 0;
+        int longArgumentCount = 0;
+        for (final OscMessageEncoder message : messages) {
+            size += 4 + message.size();
+            argumentCount += message.argumentCount();
+            longArgumentCount += message.longArgumentCount();
+        }
+
+        mBuffer = ByteBuffer.allocateDirect(size)
+            .order(ByteOrder.BIG_ENDIAN);
+        mArgumentOffsets = new int[argumentCount];
+        mLongArgumentOffsets = new int[longArgumentCount];
+
+        mBuffer.put(BUNDLE_TAG);
+        mBuffer.putLong(OscTimetag.IMMEDIATELY);
+        int argument = 0;
+        int longArgument = 0;
+        for (final OscMessageEncoder message : messages) {
+            mBuffer.putInt(message.size());
+            final int messageOffset = mBuffer.position();
+            message.copyTemplate(mBuffer);
+            for (int i = 0; i < message.argumentCount(); i++) {
+                mArgumentOffsets[argument++] = messageOffset + message.argumentOffset(i);
+            }
+            for (int i = 0; i < message.longArgumentCount(); i++) {
+                mLongArgumentOffsets[longArgument++] = messageOffset + message.longArgumentOffset(i);
+            }
+        }
+        mBuffer.clear();
+    }
+
+    /**
+     * Creates an encoder for a whole {@link com.mach1.ar.sensor_core.SensorFrame}.
+     */
+    @NonNull
+    public static OscBundleEncoder sensorFrame() {
+        return new OscBundleEncoder(
+            OscMessageEncoder.orientation(),
+            new OscMessageEncoder(OscMessageEncoder.ACCELERATION_ADDRESS, 3),
+            new OscMessageEncoder(OscMessageEncoder.ACCURACY_ADDRESS, 1));
+    }
+
+    /**
+     * Creates an encoder for a whole {@link com.mach1.ar.sensor_core.SensorFrame} preceded by a
+     * {@code /trace} message with a sequence number and the send time, see
+     * {@link OscFormat#TRACED}. The sequence number is 64-bit argument 0 and the send time
+     * argument 1.
+     */
+    @NonNull
+    public static OscBundleEncoder tracedSensorFrame() {
+        return new OscBundleEncoder(
+            new OscMessageEncoder(OscMessageEncoder.TRACE_ADDRESS, "ht"),
+            OscMessageEncoder.orientation(),
+            new OscMessageEncoder(OscMessageEncoder.ACCELERATION_ADDRESS, 3),
+            new OscMessageEncoder(OscMessageEncoder.ACCURACY_ADDRESS, 1));
+    }
+
+    /**
+     * @return number of float arguments
+     */
+    public int argumentCount() {
+        return mArgumentOffsets.length;
+    }
+
+    /**
+     * @return number of 64-bit arguments
+     */
+    public int longArgumentCount() {
+        return mLongArgumentOffsets.length;
+    }
+
+    /**
+     * Sets 64-bit argument {@code index} for the following calls to {@code encode}.
+     */
+    public void longArgument(final int index, final long value) {
+        mBuffer.putLong(mLongArgumentOffsets[index], value);
+    }
+
+    /**
+     * @return encoded size of a bundle in bytes
+     */
+    public int size() {
+        return mBuffer.capacity();
+    }
+
+    /**
+     * @param timetag NTP time tag, see {@link OscTimetag}
+     * @param arguments {@link #argumentCount()} floats starting at {@code offset}
+     */
+    @NonNull
+    public ByteBuffer encode(final long timetag,
+                             @NonNull final float[] arguments,
+                             final int offset) {
+        mBuffer.putLong(TIMETAG_OFFSET, timetag);
+        for (int i = 0; i < mArgumentOffsets.length; i++) {
+            mBuffer.putFloat(mArgumentOffsets[i], arguments[offset + i]);
+        }
+        mBuffer.clear();
+        return mBuffer;
+    }
+}
@@ -0,0 +1,477 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscDestination.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.PipelineLatency;
+import com.mach1.ar.sensor_core.SampleQueue;
+import com.mach1.ar.sensor_core.SendThrottle;
+import com.mach1.ar.sensor_core.SensorFrame;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.NotYetConnectedException;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One OSC receiver with its own queue and send thread.
+ *
+ * Sensor frames are offered without blocking; when the queue is full the sample is
+ * dropped for this destination only, so a slow or unreachable receiver cannot hold back the
+ * others.
+ *
+ * The send thread owns the socket: address changes are handed to it and applied between two
+ * packets, so frames already queued go to the new address instead of being lost, and stopping
+ * sends what is queued before the socket is closed. If connecting fails, for example while the
+ * network is down, the thread retries with a growing delay and counts the frames it cannot send
+ * as failed.
+ *
+ * With a {@link PipelineLatency} attached, the send thread records how long each frame took from
+ * queueing and from sample arrival to being sent, and can periodically send a {@code /stats}
+ * message with the latency quantiles of every stage in milliseconds, see
+ * {@link PipelineLatency.Window#write(float[], int)}, followed by the input rate, output rate and
+ * reduction of the attached {@link SendThrottle} over the same interval, see
+ * {@link SendThrottle.Window#write(float[], int)}. Those are 0 without a throttle.
+ */
+public class OscDestination {
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private static final String TAG = OscDestination.class.getSimpleName();
+    private static final Logger LOG = Logger.getLogger(OscDestination.class.getName());
+    private static final long DRAIN_TIMEOUT_MILLIS = 500;
+    private static final long MIN_RECONNECT_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_RECONNECT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int STATS_VALUE_COUNT =
+        PipelineLatency.Window.VALUE_COUNT + SendThrottle.Window.VALUE_COUNT;
+
+    @NonNull
+    private final OscOutput mOutput;
+    @NonNull
+    private final ThreadFactory mThreadFactory;
+    @NonNull
+    private final SampleQueue mQueue;
+    private final OscMessageEncoder mMessageEncoder = OscMessageEncoder.orientation();
+    private final OscBundleEncoder mBundleEncoder = OscBundleEncoder.sensorFrame();
+    private final OscBundleEncoder mTracedEncoder = OscBundleEncoder.tracedSensorFrame();
+    private final OscMessageEncoder mStatsEncoder =
+        new OscMessageEncoder(OscMessageEncoder.STATS_ADDRESS, STATS_VALUE_COUNT);
+    @NonNull
+    private volatile OscFormat mFormat = OscFormat.MESSAGE;
+    @NonNull
+    private volatile InetSocketAddress mAddress;
+    @Nullable
+    private volatile Thread mThread;
+    private volatile boolean mStopping;
+    @Nullable
+    private volatile PipelineLatency mLatency;
+    @Nullable
+    private volatile SendThrottle mThrottle;
+    private volatile long mStatsIntervalNanos;
+
+    // Written by the producer thread only
+    private volatile long mDroppedCount;
+
+    // Written by the send thread only
+    private volatile long mSentCount;
+    private volatile long mFailedCount;
+    private volatile long mLastWaitNanos;
+    private volatile long mMaxWaitNanos;
+    private volatile long mTotalWaitNanos;
+    private boolean mFailing;
+    @Nullable
+    private PipelineLatency.Window mStatsWindow;
+    @Nullable
+    private SendThrottle.Window mThrottleWindow;
+    @Nullable
+    private SendThrottle mThrottleWindowSource;
+    private final float[] mStatsValues = new float[STATS_VALUE_COUNT];
+    private long mStatsDueNanos;
+    private long mTraceSequence;
+    // Address of the last failed connect and when to try again; null while connected
+    @Nullable
+    private InetSocketAddress mReconnectAddress;
+    private long mReconnectDelayNanos;
+    private long mReconnectDueNanos;
+
+    public OscDestination(@NonNull final OscOutput output) {
+        this(output, DEFAULT_QUEUE_CAPACITY, Thread::new);
+    }
+
+    /**
+     * @param threadFactory creates the send thread, for example to raise its priority
+     */
+    public OscDestination(@NonNull final OscOutput output,
+                          final int queueCapacity,
+                          @NonNull final ThreadFactory threadFactory) {
+        mOutput = output;
+        mThreadFactory = threadFactory;
+        mAddress = output.destination();
+        mQueue = new SampleQueue(queueCapacity, SensorFrame.WIDTH);
+    }
+
+    @NonNull
+    public InetSocketAddress address() {
+        return mAddress;
+    }
+
+    /**
+     * Points this destination at a new address, reusing its socket and queue.
+     */
+    public synchronized void address(@NonNull final InetSocketAddress address) {
+        if (address.equals(mAddress)) {
+            return;
+        }
+
+        mAddress = address;
+        final Thread thread = mThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        } else {
+            maybeConnect();
+        }
+    }
+
+    @NonNull
+    public OscFormat format() {
+        return mFormat;
+    }
+
+    public void format(@NonNull final OscFormat format) {
+        mFormat = format;
+    }
+
+    /**
+     * @param latency where to record send latency, or {@code null} not to record it
+     */
+    public void latency(@Nullable final PipelineLatency latency) {
+        mLatency = latency;
+    }
+
+    /**
+     * @param throttle whose rates to report in {@code /stats} messages, or {@code null} not to
+     *                 report any
+     */
+    public void throttle(@Nullable final SendThrottle throttle) {
+        mThrottle = throttle;
+    }
+
+    /**
+     * @param intervalMillis how often to send a {@code /stats} message, or 0 not to send any.
+     *                       Requires a {@link #latency(PipelineLatency)}.
+     */
+    public void stats(final long intervalMillis) {
+        mStatsIntervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        final Thread thread = mThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public synchronized void start() {
+        if (mThread != null) {
+            return;
+        }
+
+        mStopping = false;
+        final Thread thread = mThreadFactory.newThread(this::run);
+        thread.setName(TAG + " " + mAddress);
+        mThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Sends whatever is still queued, stops the send thread and closes the output.
+     */
+    public synchronized void stop() {
+        final Thread thread = mThread;
+        mThread = null;
+        if (thread != null) {
+            mStopping = true;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(DRAIN_TIMEOUT_MILLIS);
+                if (thread.isAlive()) {
+                    thread.interrupt();
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            mOutput.close();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Failed to close " + mAddress, e);
+        }
+    }
+
+    /**
+     * Queues a sensor frame for sending. Must only be called from one thread at a time.
+     *
+     * @param frame {@link SensorFrame#WIDTH} values
+     * @param timestampNanos {@code System.nanoTime()} when the frame was published
+     * @param timetag NTP time tag of the frame, see {@link OscTimetag}
+     * @return {@code false} if the queue was full and the frame was dropped
+     */
+    public boolean offer(@NonNull final float[] frame,
+                         final long timestampNanos,
+                         final long timetag) {
+        return offer(frame, timestampNanos, timetag, timestampNanos);
+    }
+
+    /**
+     * Queues a sensor frame for sending. Must only be called from one thread at a time.
+     *
+     * @param frame {@link SensorFrame#WIDTH} values
+     * @param timestampNanos {@code System.nanoTime()} when the frame was published
+     * @param timetag NTP time tag of the frame, see {@link OscTimetag}
+     * @param arrivalNanos {@code System.nanoTime()} when the frame's sensor sample arrived
+     * @return {@code false} if the queue was full and the frame was dropped
+     */
+    public boolean offer(@NonNull final float[] frame,
+                         final long timestampNanos,
+                         final long timetag,
+                         final long arrivalNanos) {
+        if (!mQueue.offer(frame, 0, timestampNanos, timetag, arrivalNanos)) {
+            mDroppedCount += 1;
+            return false;
+        }
+
+        final Thread thread = mThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    public long sentCount() {
+        return mSentCount;
+    }
+
+    /**
+     * @return number of samples dropped because the queue was full
+     */
+    public long droppedCount() {
+        return mDroppedCount;
+    }
+
+    /**
+     * @return number of samples the network stack refused to send
+     */
+    public long failedCount() {
+        return mFailedCount;
+    }
+
+    public int queueDepth() {
+        return mQueue.size();
+    }
+
+    /**
+     * @return time between publishing and sending of the most recent sample, in nanoseconds
+     */
+    public long lastWaitNanos() {
+        return mLastWaitNanos;
+    }
+
+    /**
+     * @return longest time any sample waited between publishing and sending, in nanoseconds
+     */
+    public long maxWaitNanos() {
+        return mMaxWaitNanos;
+    }
+
+    /**
+     * @return average time samples waited between publishing and sending, in nanoseconds
+     */
+    public long meanWaitNanos() {
+        final long count = mSentCount;
+        return count > 0 ? mTotalWaitNanos / count : 0;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%s sent %d, dropped %d, failed %d, queued %d, wait mean %d us, max %d us",
+            mAddress, mSentCount, mDroppedCount, mFailedCount, queueDepth(),
+            meanWaitNanos() / 1000, mMaxWaitNanos / 1000);
+    }
+
+    private void run() {
+        final Thread self = Thread.currentThread();
+        final float[] values = new float[SensorFrame.WIDTH];
+        while (!self.isInterrupted()) {
+            final long connectWaitNanos = maybeConnect();
+            final long statsWaitNanos = maybeSendStats();
+            final long timestampNanos = mQueue.poll(values, 0);
+            if (timestampNanos == Long.MIN_VALUE) {
+                if (mStopping) {
+                    break;
+                }
+                final long waitNanos = earliest(connectWaitNanos, statsWaitNanos);
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(this, waitNanos);
+                } else {
+                    LockSupport.park(this);
+                }
+                continue;
+            }
+
+            if (send(values)) {
+                final long sentNanos = System.nanoTime();
+                mFailing = false;
+                recordWait(sentNanos - timestampNanos);
+                final PipelineLatency latency = mLatency;
+                if (latency != null) {
+                    latency.sent(mQueue.polledOrigin(), timestampNanos, sentNanos);
+                }
+            } else {
+                mFailing = true;
+                mFailedCount += 1;
+            }
+        }
+    }
+
+    /**
+     * Sends a {@code /stats} message if one is due.
+     *
+     * @return nanoseconds until the next one is due, or 0 if none are sent
+     */
+    private long maybeSendStats() {
+        final long intervalNanos = mStatsIntervalNanos;
+        final PipelineLatency latency = mLatency;
+        if (intervalNanos <= 0 || latency == null) {
+            mStatsWindow = null;
+            mThrottleWindow = null;
+            mThrottleWindowSource = null;
+            return 0;
+        }
+
+        final long now = System.nanoTime();
+        PipelineLatency.Window window = mStatsWindow;
+        if (window == null) {
+            window = latency.window();
+            mStatsWindow = window;
+            mStatsDueNanos = now + intervalNanos;
+        }
+        final SendThrottle throttle = mThrottle;
+        if (throttle != mThrottleWindowSource) {
+            mThrottleWindowSource = throttle;
+            mThrottleWindow = throttle != null ? throttle.window() : null;
+            if (mThrottleWindow != null) {
+                mThrottleWindow.update(now);
+            }
+        }
+
+        if (now - mStatsDueNanos >= 0) {
+            window.update();
+            window.write(mStatsValues, 0);
+            final SendThrottle.Window throttleWindow = mThrottleWindow;
+            if (throttleWindow != null) {
+                throttleWindow.update(now);
+                throttleWindow.write(mStatsValues, PipelineLatency.Window.VALUE_COUNT);
+            } else {
+                Arrays.fill(mStatsValues, PipelineLatency.Window.VALUE_COUNT, STATS_VALUE_COUNT, 0);
+            }
+            try {
+                mOutput.send(mStatsEncoder.encode(mStatsValues, 0));
+            } catch (IOException | NotYetConnectedException e) {
+                // Reported by the next frame that fails the same way
+            }
+            mStatsDueNanos = now + intervalNanos;
+        }
+        return Math.max(1, mStatsDueNanos - now);
+    }
+
+    /**
+     * Connects the socket to the current address unless it already is, or a failed attempt to
+     * connect to the same address is too recent.
+     *
+     * @return nanoseconds until the next attempt, or 0 if connected
+     */
+    private long maybeConnect() {
+        final InetSocketAddress address = mAddress;
+        if (address.equals(mOutput.destination()) && mOutput.isConnected()) {
+            return 0;
+        }
+
+        final long now = System.nanoTime();
+        final boolean retry = address.equals(mReconnectAddress);
+        if (retry && now - mReconnectDueNanos < 0) {
+            return mReconnectDueNanos - now;
+        }
+
+        try {
+            mOutput.connect(address);
+            mReconnectAddress = null;
+            return 0;
+        } catch (IOException | UnresolvedAddressException e) {
+            // Only log the first failure for each address
+            if (!retry) {
+                LOG.log(Level.WARNING, "Failed to connect to " + address, e);
+            }
+        }
+
+        mReconnectDelayNanos = retry
+            ? Math.min(mReconnectDelayNanos * 2, MAX_RECONNECT_DELAY_NANOS)
+            : MIN_RECONNECT_DELAY_NANOS;
+        mReconnectAddress = address;
+        mReconnectDueNanos = now + mReconnectDelayNanos;
+        return mReconnectDelayNanos;
+    }
+
+    private static long earliest(final long aNanos, final long bNanos) {
+        if (aNanos <= 0) {
+            return bNanos;
+        }
+        return bNanos <= 0 ? aNanos : Math.min(aNanos, bNanos);
+    }
+
+    private boolean send(@NonNull final float[] values) {
+        try {
+            final OscFormat format = mFormat;
+            if (format == OscFormat.BUNDLE) {
+                return mOutput.send(mBundleEncoder.encode(mQueue.polledTag(), values, 0));
+            } else if (format == OscFormat.TRACED) {
+                mTracedEncoder.longArgument(0, mTraceSequence++);
+                mTracedEncoder.longArgument(1, OscTimetag.now());
+                return mOutput.send(mTracedEncoder.encode(mQueue.polledTag(), values, 0));
+            } else {
+                return mOutput.send(mMessageEncoder.encode(values, SensorFrame.YAW));
+            }
+        } catch (IOException e) {
+            // Typically ICMP port unreachable from a previous packet; keep going and only
+            // log the first failure in a row
+            if (!mFailing) {
+                LOG.warning("Failed to send to " + mAddress + ": " + e.getMessage());
+            }
+            return false;
+        } catch (NotYetConnectedException | UnresolvedAddressException e) {
+            // Connecting failed; it is retried and reported in maybeConnect()
+            return false;
+        }
+    }
+
+    private void recordWait(final long waitNanos) {
+        mLastWaitNanos = waitNanos;
+        if (waitNanos > mMaxWaitNanos) {
+            mMaxWaitNanos = waitNanos;
+        }
+        mTotalWaitNanos += waitNanos;
+        mSentCount += 1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscFormat.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+/**
+ * How a sensor frame is put on the wire.
+ */
+public enum OscFormat {
+    /**
+     * A single {@code /orientation yaw pitch roll} message per frame.
+     */
+    MESSAGE,
+    /**
+     * One bundle per frame, time tagged with the frame time, holding {@code /orientation},
+     * {@code /acceleration} and {@code /accuracy} messages.
+     */
+    BUNDLE,
+    /**
+     * Like {@link #BUNDLE}, with a leading {@code /trace sequence sendTime} message: a 64-bit
+     * sequence number that goes up by one for every frame the destination tries to send, and
+     * the time tag taken just before sending. Lets a receiver such as {@link OscReceiver} count
+     * lost and reordered frames and measure one-way latency.
+     */
+    TRACED,
+}
@@ -0,0 +1,197 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscMessageEncoder.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * Encodes OSC messages with a fixed address and fixed argument types.
+ *
+ * The address and type tag are written once when the encoder is created; encoding a message
+ * only patches the payload in place, so it does not allocate. The returned buffer is owned by
+ * the encoder and is overwritten by the next call.
+ *
+ * Arguments are floats ({@code f}) or 64-bit values, either integers ({@code h}) or time tags
+ * ({@code t}). Floats and 64-bit arguments are numbered separately, each in message order.
+ */
+public class OscMessageEncoder {
+    public static final String ORIENTATION_ADDRESS = "/orientation";
+    public static final String ACCELERATION_ADDRESS = "/acceleration";
+    public static final String ACCURACY_ADDRESS = "/accuracy";
+    public static final String STATS_ADDRESS = "/stats";
+    public static final String TRACE_ADDRESS = "/trace";
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+
+    private final ByteBuffer mBuffer;
+    private final int[] mArgumentOffsets;
+    private final int[] mLongArgumentOffsets;
+    private final int mArgumentCount;
+
+    /**
+     * Creates an encoder for {@code argumentCount} float arguments.
+     */
+    public OscMessageEncoder(@NonNull final String address, final int argumentCount) {
+        this(address, floatTypeTags(argumentCount));
+    }
+
+    /**
+     * @param typeTags one of {@code f}, {@code h} or {@code t} per argument, without the
+     *                 leading comma
+     */
+    public OscMessageEncoder(@NonNull final String address, @NonNull final String typeTags) {
+        if (typeTags.isEmpty()) {
+            throw new IllegalArgumentException("At least one argument is required");
+        }
+
+        final byte[] addressBytes = address.getBytes(ASCII);
+        final int addressSize = paddedSize(addressBytes.length);
+        final int typeTagSize = paddedSize(typeTags.length() + 1);
+
+        int floatCount = 0;
+        int size = addressSize + typeTagSize;
+        for (int i = 0; i < typeTags.length(); i++) {
+            switch (typeTags.charAt(i)) {
+                case 'f':
+                    floatCount += 1;
+                    size += 4;
+                    break;
+                case 'h':
+                case 't':
+                    size += 8;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported type tag: " + typeTags.charAt(i));
+            }
+        }
+
+        mArgumentCount = floatCount;
+        mArgumentOffsets = new int[floatCount];
+        mLongArgumentOffsets = new int[typeTags.length() - floatCount];
+        mBuffer = ByteBuffer.allocateDirect(size)
+            .order(ByteOrder.BIG_ENDIAN);
+
+        mBuffer.put(addressBytes);
+        mBuffer.position(addressSize);
+        mBuffer.put((byte) ',');
+        mBuffer.put(typeTags.getBytes(ASCII));
+
+        int offset = addressSize + typeTagSize;
+        int floats = 0;
+        int longs = 0;
+        for (int i = 0; i < typeTags.length(); i++) {
+            if (typeTags.charAt(i) == 'f') {
+                mArgumentOffsets[floats++] = offset;
+                offset += 4;
+            } else {
+                mLongArgumentOffsets[longs++] = offset;
+                offset += 8;
+            }
+        }
+        mBuffer.clear();
+    }
+
+    /**
+     * Creates an encoder for the three-float {@code /orientation} message (yaw, pitch, roll).
+     */
+    @NonNull
+    public static OscMessageEncoder orientation() {
+        return new OscMessageEncoder(ORIENTATION_ADDRESS, 3);
+    }
+
+    /**
+     * @return number of float arguments
+     */
+    public int argumentCount() {
+        return mArgumentCount;
+    }
+
+    /**
+     * @return number of 64-bit arguments
+     */
+    public int longArgumentCount() {
+        return mLongArgumentOffsets.length;
+    }
+
+    /**
+     * @return encoded size of a message in bytes
+     */
+    public int size() {
+        return mBuffer.capacity();
+    }
+
+    @NonNull
+    public ByteBuffer encode(final float a, final float b, final float c) {
+        if (mArgumentCount != 3) {
+            throw new IllegalStateException("Encoder expects " + mArgumentCount + " arguments");
+        }
+
+        mBuffer.putFloat(mArgumentOffsets[0], a);
+        mBuffer.putFloat(mArgumentOffsets[1], b);
+        mBuffer.putFloat(mArgumentOffsets[2], c);
+        mBuffer.clear();
+        return mBuffer;
+    }
+
+    @NonNull
+    public ByteBuffer encode(@NonNull final float[] arguments, final int offset) {
+        for (int i = 0; i < mArgumentCount; i++) {
+            mBuffer.putFloat(mArgumentOffsets[i], arguments[offset + i]);
+        }
+        mBuffer.clear();
+        return mBuffer;
+    }
+
+    /**
+     * Sets 64-bit argument {@code index} for the following calls to {@code encode}.
+     */
+    public void longArgument(final int index, final long value) {
+        mBuffer.putLong(mLongArgumentOffsets[index], value);
+    }
+
+    /**
+     * Writes the message with its current arguments at the position of {@code destination}.
+     */
+    void copyTemplate(@NonNull final ByteBuffer destination) {
+        destination.put(mBuffer.duplicate());
+    }
+
+    /**
+     * @return offset of float argument {@code index} from the start of the message
+     */
+    int argumentOffset(final int index) {
+        return mArgumentOffsets[index];
+    }
+
+    /**
+     * @return offset of 64-bit argument {@code index} from the start of the message
+     */
+    int longArgumentOffset(final int index) {
+        return mLongArgumentOffsets[index];
+    }
+
+    @NonNull
+    private static String floatTypeTags(final int argumentCount) {
+        final StringBuilder tags = new StringBuilder(Math.max(argumentCount, 0));
+        for (int i = 0; i < argumentCount; i++) {
+            tags.append('f');
+        }
+        return tags.toString();
+    }
+
+    /**
+     * OSC strings are null terminated and padded to a multiple of four bytes.
+     */
+    static int paddedSize(final int length) {
+        return (length + 4) & ~3;
+    }
+}
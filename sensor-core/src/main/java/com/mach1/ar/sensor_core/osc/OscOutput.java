@@ -0,0 +1,87 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscOutput.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * A UDP destination for encoded OSC packets.
+ *
+ * The underlying channel is connected to the destination so that sending does not have to
+ * look up or allocate a target address per packet. The same socket can be pointed at a new
+ * destination with {@link #connect(InetSocketAddress)}.
+ */
+public class OscOutput implements Closeable {
+    @NonNull
+    private volatile InetSocketAddress mDestination;
+    @NonNull
+    private final DatagramChannel mChannel;
+
+    public OscOutput(@NonNull final InetSocketAddress destination) throws IOException {
+        mDestination = destination;
+        mChannel = DatagramChannel.open();
+        try {
+            mChannel.connect(destination);
+        } catch (IOException e) {
+            mChannel.close();
+            throw e;
+        }
+    }
+
+    @NonNull
+    public InetSocketAddress destination() {
+        return mDestination;
+    }
+
+    /**
+     * Points the socket at a new destination. Must not be called concurrently with
+     * {@link #send(ByteBuffer)}.
+     *
+     * If connecting fails the socket is left disconnected, {@link #destination()} still returns
+     * the previous destination and sending fails until a later call succeeds.
+     *
+     * @throws java.nio.channels.UnresolvedAddressException if the address was not resolved
+     */
+    public void connect(@NonNull final InetSocketAddress destination) throws IOException {
+        if (mChannel.isConnected()) {
+            mChannel.disconnect();
+        }
+        mChannel.connect(destination);
+        mDestination = destination;
+    }
+
+    public boolean isConnected() {
+        return mChannel.isConnected();
+    }
+
+    /**
+     * Sends the remaining bytes of {@code packet} as a single datagram.
+     *
+     * @return {@code true} if the whole packet was handed to the network stack
+     * @throws java.nio.channels.NotYetConnectedException if the last {@link #connect} failed
+     */
+    public boolean send(@NonNull final ByteBuffer packet) throws IOException {
+        final int size = packet.remaining();
+        return mChannel.write(packet) == size;
+    }
+
+    public boolean isOpen() {
+        return mChannel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        mChannel.close();
+    }
+}
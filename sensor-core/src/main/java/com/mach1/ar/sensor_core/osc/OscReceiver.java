@@ -0,0 +1,351 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscReceiver.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.LatencyHistogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Receives what an {@link OscDestination} sends, on a loopback socket, and checks it.
+ *
+ * Messages and bundles are parsed, including nested bundles. Every {@code /orientation} message
+ * is counted and handed to the {@link Listener}. A {@code /trace sequence sendTime} message, see
+ * {@link OscFormat#TRACED}, is checked against the previous one: a jump in the sequence counts
+ * the skipped frames as lost, a sequence number at or below the last one counts as reordered,
+ * and the difference between the send time and now is recorded as one-way latency. A frame that
+ * arrives late is therefore counted once as lost and once as reordered.
+ *
+ * Latency is only meaningful when both clocks agree, in practice when the sender runs in the
+ * same process and takes its time tags from {@link OscTimetag#now()}.
+ *
+ * Apart from the listener, all state is written by the receive thread only.
+ */
+public class OscReceiver implements Closeable {
+    private static final String TAG = OscReceiver.class.getSimpleName();
+    private static final Logger LOG = Logger.getLogger(OscReceiver.class.getName());
+    private static final int MAX_PACKET_SIZE = 1536;
+
+    public interface Listener {
+        void onOrientation(float yaw, float pitch, float roll);
+    }
+
+    @NonNull
+    private final DatagramChannel mChannel;
+    @NonNull
+    private final InetSocketAddress mAddress;
+    private final LatencyHistogram mLatency = new LatencyHistogram();
+    @Nullable
+    private volatile Listener mListener;
+    @Nullable
+    private Thread mThread;
+
+    // Written by the receive thread only
+    private volatile long mPacketCount;
+    private volatile long mMalformedCount;
+    private volatile long mOrientationCount;
+    private volatile long mTraceCount;
+    private volatile long mLostCount;
+    private volatile long mReorderedCount;
+    private volatile long mLastSequence = -1;
+    private volatile float mLastYaw;
+    private volatile float mLastPitch;
+    private volatile float mLastRoll;
+
+    /**
+     * Binds to any free port on the loopback interface.
+     */
+    public OscReceiver() throws IOException {
+        this(0);
+    }
+
+    public OscReceiver(final int port) throws IOException {
+        mChannel = DatagramChannel.open();
+        try {
+            mChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            mChannel.socket().setReceiveBufferSize(1 << 20);
+            mAddress = (InetSocketAddress) mChannel.getLocalAddress();
+        } catch (IOException e) {
+            mChannel.close();
+            throw e;
+        }
+    }
+
+    @NonNull
+    public InetSocketAddress address() {
+        return mAddress;
+    }
+
+    /**
+     * @param listener called on the receive thread for every {@code /orientation} message
+     */
+    @NonNull
+    public OscReceiver listener(@Nullable final Listener listener) {
+        mListener = listener;
+        return this;
+    }
+
+    public synchronized void start() {
+        if (mThread != null) {
+            return;
+        }
+
+        final Thread thread = new Thread(this::run, TAG + " " + mAddress);
+        thread.setDaemon(true);
+        mThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Closes the socket and waits for the receive thread to finish.
+     */
+    @Override
+    public void close() throws IOException {
+        mChannel.close();
+        final Thread thread;
+        synchronized (this) {
+            thread = mThread;
+            mThread = null;
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits until at least {@code count} {@code /orientation} messages have been received.
+     *
+     * @return {@code false} if they did not arrive in time
+     */
+    public boolean awaitOrientations(final long count, final long timeoutMillis) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (mOrientationCount < count) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    public long packetCount() {
+        return mPacketCount;
+    }
+
+    /**
+     * @return number of packets that could not be parsed
+     */
+    public long malformedCount() {
+        return mMalformedCount;
+    }
+
+    public long orientationCount() {
+        return mOrientationCount;
+    }
+
+    /**
+     * @return number of {@code /trace} messages received
+     */
+    public long traceCount() {
+        return mTraceCount;
+    }
+
+    /**
+     * @return number of sequence numbers skipped
+     */
+    public long lostCount() {
+        return mLostCount;
+    }
+
+    /**
+     * @return number of sequence numbers at or below one received before
+     */
+    public long reorderedCount() {
+        return mReorderedCount;
+    }
+
+    /**
+     * @return the last sequence number received in order, or -1 if none was
+     */
+    public long lastSequence() {
+        return mLastSequence;
+    }
+
+    public float lastYaw() {
+        return mLastYaw;
+    }
+
+    public float lastPitch() {
+        return mLastPitch;
+    }
+
+    public float lastRoll() {
+        return mLastRoll;
+    }
+
+    /**
+     * @return one-way latency of traced frames
+     */
+    @NonNull
+    public LatencyHistogram latency() {
+        return mLatency;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        final LatencyHistogram.Interval latency = mLatency.interval();
+        latency.update();
+        return String.format(Locale.US,
+            "%s packets %d, orientations %d, traced %d, lost %d, reordered %d, malformed %d, latency p50 %d us, p99 %d us",
+            mAddress, mPacketCount, mOrientationCount, mTraceCount, mLostCount, mReorderedCount,
+            mMalformedCount, latency.valueAt(0.5) / 1000, latency.valueAt(0.99) / 1000);
+    }
+
+    private void run() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_PACKET_SIZE)
+            .order(ByteOrder.BIG_ENDIAN);
+        while (true) {
+            buffer.clear();
+            try {
+                mChannel.receive(buffer);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Failed to receive on " + mAddress, e);
+                return;
+            }
+
+            final long receivedTimetag = OscTimetag.now();
+            buffer.flip();
+            handle(buffer, receivedTimetag);
+        }
+    }
+
+    /**
+     * Parses one packet.
+     *
+     * @param packet the packet between its position and limit
+     * @param receivedTimetag when the packet arrived, see {@link OscTimetag#now()}
+     */
+    void handle(@NonNull final ByteBuffer packet, final long receivedTimetag) {
+        mPacketCount += 1;
+        try {
+            element(packet, receivedTimetag);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            mMalformedCount += 1;
+        }
+    }
+
+    private void element(@NonNull final ByteBuffer packet, final long receivedTimetag) {
+        if (!packet.hasRemaining()) {
+            throw new IllegalArgumentException("Empty element");
+        }
+
+        if (packet.get(packet.position()) == '#') {
+            bundle(packet, receivedTimetag);
+        } else {
+            message(packet, receivedTimetag);
+        }
+    }
+
+    private void bundle(@NonNull final ByteBuffer packet, final long receivedTimetag) {
+        if (!"#bundle".equals(string(packet))) {
+            throw new IllegalArgumentException("Not a bundle");
+        }
+        packet.getLong();
+
+        final int limit = packet.limit();
+        while (packet.hasRemaining()) {
+            final int size = packet.getInt();
+            if (size < 0 || size > packet.remaining() || size % 4 != 0) {
+                throw new IllegalArgumentException("Bad element size " + size);
+            }
+            final int end = packet.position() + size;
+            packet.limit(end);
+            element(packet, receivedTimetag);
+            packet.limit(limit);
+            packet.position(end);
+        }
+    }
+
+    private void message(@NonNull final ByteBuffer packet, final long receivedTimetag) {
+        final String address = string(packet);
+        final String typeTags = string(packet);
+        if (!typeTags.startsWith(",")) {
+            throw new IllegalArgumentException("Missing type tags");
+        }
+
+        if (OscMessageEncoder.ORIENTATION_ADDRESS.equals(address) && typeTags.startsWith(",fff")) {
+            orientation(packet.getFloat(), packet.getFloat(), packet.getFloat());
+        } else if (OscMessageEncoder.TRACE_ADDRESS.equals(address) && typeTags.startsWith(",ht")) {
+            trace(packet.getLong(), packet.getLong(), receivedTimetag);
+        }
+    }
+
+    private void orientation(final float yaw, final float pitch, final float roll) {
+        mLastYaw = yaw;
+        mLastPitch = pitch;
+        mLastRoll = roll;
+        mOrientationCount += 1;
+        final Listener listener = mListener;
+        if (listener != null) {
+            listener.onOrientation(yaw, pitch, roll);
+        }
+    }
+
+    private void trace(final long sequence, final long sentTimetag, final long receivedTimetag) {
+        mTraceCount += 1;
+        final long last = mLastSequence;
+        if (last >= 0 && sequence <= last) {
+            mReorderedCount += 1;
+        } else {
+            if (last >= 0) {
+                mLostCount += sequence - last - 1;
+            }
+            mLastSequence = sequence;
+        }
+
+        final long latencyNanos = OscTimetag.toNanos(receivedTimetag) - OscTimetag.toNanos(sentTimetag);
+        if (latencyNanos >= 0) {
+            mLatency.record(latencyNanos);
+        }
+    }
+
+    /**
+     * Reads a null terminated, 4-byte aligned OSC string.
+     */
+    @NonNull
+    private static String string(@NonNull final ByteBuffer packet) {
+        final StringBuilder string = new StringBuilder();
+        byte b;
+        while ((b = packet.get()) != 0) {
+            string.append((char) b);
+        }
+        packet.position((packet.position() + 3) & ~3);
+        return string.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.mach1.ar.sensor_core.osc;
+
+//
+//  OscTimetag.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+/**
+ * OSC time tags are 64-bit NTP timestamps: seconds since 1900 in the upper 32 bits and the
+ * fraction of a second in the lower 32 bits.
+ */
+public final class OscTimetag {
+    /**
+     * The special time tag meaning "process immediately".
+     */
+    public static final long IMMEDIATELY = 1L;
+
+    private static final long SECONDS_FROM_1900_TO_1970 = 2208988800L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Wall clock at a monotonic instant, so now() has nanoTime() resolution
+    private static final long ANCHOR_UNIX_NANOS = System.currentTimeMillis() * 1_000_000L;
+    private static final long ANCHOR_NANO_TIME = System.nanoTime();
+
+    private OscTimetag() {
+    }
+
+    /**
+     * Converts milliseconds since the Unix epoch to an NTP time tag, rounding the fraction the
+     * same way JavaOSC does.
+     */
+    public static long fromMillis(final long unixMillis) {
+        final long seconds = unixMillis / 1000 + SECONDS_FROM_1900_TO_1970;
+        final long fraction = (unixMillis % 1000) * 0x100000000L / 1000;
+        return (seconds << 32) | (fraction & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Converts nanoseconds since the Unix epoch to an NTP time tag, truncating to the 233 ps
+     * resolution of the fraction.
+     */
+    public static long fromNanos(final long unixNanos) {
+        final long seconds = unixNanos / NANOS_PER_SECOND + SECONDS_FROM_1900_TO_1970;
+        final long fraction = ((unixNanos % NANOS_PER_SECOND) << 32) / NANOS_PER_SECOND;
+        return (seconds << 32) | (fraction & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Converts an NTP time tag to nanoseconds since the Unix epoch, the inverse of
+     * {@link #fromNanos(long)} to within a nanosecond.
+     */
+    public static long toNanos(final long timetag) {
+        final long seconds = (timetag >>> 32) - SECONDS_FROM_1900_TO_1970;
+        final long fraction = timetag & 0xFFFFFFFFL;
+        return seconds * NANOS_PER_SECOND + ((fraction * NANOS_PER_SECOND + 0x80000000L) >>> 32);
+    }
+
+    /**
+     * @return the current time as a time tag. Follows {@code System.nanoTime()} from a wall clock
+     * reading taken once per process, so time tags from the same process can be subtracted with
+     * sub-millisecond precision even though the wall clock only has millisecond resolution.
+     */
+    public static long now() {
+        return fromNanos(ANCHOR_UNIX_NANOS + System.nanoTime() - ANCHOR_NANO_TIME);
+    }
+}
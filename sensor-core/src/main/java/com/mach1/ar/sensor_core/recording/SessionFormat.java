@@ -0,0 +1,96 @@
+package com.mach1.ar.sensor_core.recording;
+
+//
+//  SessionFormat.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+
+/**
+ * Layout of a recorded sensor session.
+ *
+ * A session file is a {@link #HEADER_SIZE} byte header followed by fixed-width records of
+ * {@link #RECORD_SIZE} bytes, all big-endian:
+ *
+ * <pre>
+ * header  0  int    MAGIC
+ *         4  short  VERSION
+ *         6  short  RECORD_SIZE
+ *         8  long   wall clock time the recording started, ms since the Unix epoch
+ *
+ * record  0  byte   kind, KIND_SENSOR or KIND_GESTURE
+ *         1  byte   reserved
+ *         2  short  sensor or gesture type
+ *         4  int    device timestamp
+ *         8  long   receive time, System.nanoTime()
+ *        16  float  x, y, z, w; w is NaN for vector sensors, all NaN for gestures
+ *        32  float  accuracy
+ *        36  int    reserved
+ * </pre>
+ *
+ * A record whose kind is {@link #KIND_NONE} marks the end of a recording that was not closed
+ * cleanly.
+ *
+ * Next to it, {@link #indexFile(File)} holds a sparse time index: a {@link #INDEX_HEADER_SIZE}
+ * byte header and one {@link #INDEX_ENTRY_SIZE} byte entry for every {@link #INDEX_STRIDE}
+ * records.
+ *
+ * <pre>
+ * header  0  int    INDEX_MAGIC
+ *         4  short  VERSION
+ *         6  short  reserved
+ *         8  int    INDEX_STRIDE
+ *        12  int    reserved
+ *
+ * entry   0  long   receive time of the record
+ *         8  long   record number
+ * </pre>
+ *
+ * Receive times rather than device timestamps are indexed: device timestamps wrap every 65.5
+ * seconds and differ between sensors, receive times increase monotonically over the session.
+ */
+public final class SessionFormat {
+    public static final int MAGIC = 0x4D315352; // "M1SR"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 40;
+
+    public static final int INDEX_MAGIC = 0x4D315349; // "M1SI"
+    public static final int INDEX_HEADER_SIZE = 16;
+    public static final int INDEX_ENTRY_SIZE = 16;
+    public static final int INDEX_STRIDE = 256;
+
+    public static final int KIND_NONE = 0;
+    public static final int KIND_SENSOR = 1;
+    public static final int KIND_GESTURE = 2;
+
+    static final int HEADER_START_MILLIS = 8;
+
+    static final int RECORD_KIND = 0;
+    static final int RECORD_TYPE = 2;
+    static final int RECORD_DEVICE_TIMESTAMP = 4;
+    static final int RECORD_RECEIVE_NANOS = 8;
+    static final int RECORD_VALUES = 16;
+    static final int RECORD_ACCURACY = 32;
+
+    /**
+     * Number of floats in a record: four values and the accuracy.
+     */
+    static final int VALUE_COUNT = 5;
+
+    private SessionFormat() {
+    }
+
+    /**
+     * @return the index file belonging to a session file
+     */
+    @NonNull
+    public static File indexFile(@NonNull final File sessionFile) {
+        return new File(sessionFile.getPath() + ".idx");
+    }
+}
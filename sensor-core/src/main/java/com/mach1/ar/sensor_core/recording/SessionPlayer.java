@@ -0,0 +1,181 @@
+package com.mach1.ar.sensor_core.recording;
+
+//
+//  SessionPlayer.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+import java.io.Closeable;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a recorded session into a {@link SensorSampleListener} on its own thread.
+ *
+ * Records keep their original spacing divided by the playback speed; at
+ * {@link #AS_FAST_AS_POSSIBLE} they are delivered back to back. Samples are delivered with the
+ * time they are replayed as their receive time, so downstream latency measurements stay
+ * meaningful. The player starts paused at the beginning of the session.
+ */
+public class SessionPlayer implements Closeable {
+    public static final double AS_FAST_AS_POSSIBLE = Double.POSITIVE_INFINITY;
+
+    private static final long NO_SEEK = Long.MIN_VALUE;
+
+    @NonNull
+    private final SessionReader mReader;
+    @NonNull
+    private final SensorSampleListener mListener;
+    @NonNull
+    private final Thread mThread;
+    private final SessionRecord mRecord = new SessionRecord();
+
+    private volatile double mSpeed = 1;
+    private volatile boolean mPlaying;
+    private volatile boolean mClosed;
+    private volatile long mSeekNanos = NO_SEEK;
+    private volatile boolean mRebase = true;
+
+    // Player thread only, published for position()
+    private volatile long mNext;
+    private long mBaseNanos;
+    private long mBaseReceiveNanos;
+
+    public SessionPlayer(@NonNull final SessionReader reader, @NonNull final SensorSampleListener listener) {
+        this(reader, listener, Thread::new);
+    }
+
+    public SessionPlayer(@NonNull final SessionReader reader,
+                         @NonNull final SensorSampleListener listener,
+                         @NonNull final ThreadFactory threadFactory) {
+        mReader = reader;
+        mListener = listener;
+        mThread = threadFactory.newThread(this::run);
+        mThread.setName(SessionPlayer.class.getSimpleName());
+        mThread.start();
+    }
+
+    public double speed() {
+        return mSpeed;
+    }
+
+    /**
+     * @param speed 1 for real time, more than 1 for faster or {@link #AS_FAST_AS_POSSIBLE}
+     */
+    public void speed(final double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Speed must be positive: " + speed);
+        }
+
+        mSpeed = speed;
+        mRebase = true;
+        LockSupport.unpark(mThread);
+    }
+
+    public void play() {
+        mRebase = true;
+        mPlaying = true;
+        LockSupport.unpark(mThread);
+    }
+
+    public void pause() {
+        mPlaying = false;
+    }
+
+    public boolean playing() {
+        return mPlaying;
+    }
+
+    /**
+     * @return {@code true} once every record up to the end of the session has been delivered
+     */
+    public boolean finished() {
+        return mSeekNanos == NO_SEEK && mNext >= mReader.recordCount();
+    }
+
+    /**
+     * Continues playback from the first record at or after {@code elapsedNanos} into the
+     * session.
+     */
+    public void seek(final long elapsedNanos) {
+        mSeekNanos = Math.max(0, elapsedNanos);
+        LockSupport.unpark(mThread);
+    }
+
+    /**
+     * @return time into the session of the next record to be delivered
+     */
+    public long positionNanos() {
+        final long next = mNext;
+        if (next >= mReader.recordCount()) {
+            return mReader.durationNanos();
+        }
+
+        return mReader.elapsedNanos(next);
+    }
+
+    /**
+     * Stops the player thread. The reader is left open.
+     */
+    @Override
+    public void close() {
+        mClosed = true;
+        LockSupport.unpark(mThread);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                mThread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (!mClosed) {
+            final long seekNanos = mSeekNanos;
+            if (seekNanos != NO_SEEK) {
+                mSeekNanos = NO_SEEK;
+                mNext = mReader.seek(seekNanos);
+                mRebase = true;
+            }
+
+            if (!mPlaying || mNext >= mReader.recordCount()) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            final SessionRecord record = mRecord;
+            mReader.read(mNext, record);
+            final long now = System.nanoTime();
+            if (mRebase) {
+                mRebase = false;
+                mBaseNanos = now;
+                mBaseReceiveNanos = record.receiveNanos();
+            }
+
+            final double speed = mSpeed;
+            if (speed != AS_FAST_AS_POSSIBLE) {
+                final long due = mBaseNanos + (long) ((record.receiveNanos() - mBaseReceiveNanos) / speed);
+                if (due - now > 0) {
+                    // Wake up early for seeks, pauses and speed changes
+                    LockSupport.parkNanos(this, due - now);
+                    continue;
+                }
+            }
+
+            record.dispatch(mListener, System.nanoTime());
+            mNext += 1;
+        }
+    }
+}
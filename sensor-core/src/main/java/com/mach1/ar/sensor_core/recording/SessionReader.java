@@ -0,0 +1,236 @@
+package com.mach1.ar.sensor_core.recording;
+
+//
+//  SessionReader.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Logger;
+
+/**
+ * Random access to a recorded session, see {@link SessionFormat}.
+ *
+ * The session file is memory-mapped, so reading a record only touches the pages it lives on.
+ * Seeking by time uses the sparse index to find the right block of records and a binary search
+ * within it. Without an index file, for example after the app was killed while recording, the
+ * index is rebuilt in memory from every {@link SessionFormat#INDEX_STRIDE}th record.
+ *
+ * Only absolute reads are used on the mapped buffer, so any number of threads may read at once.
+ */
+public class SessionReader implements Closeable {
+    private static final Logger LOG = Logger.getLogger(SessionReader.class.getName());
+
+    @NonNull
+    private final RandomAccessFile mFile;
+    @NonNull
+    private final MappedByteBuffer mBuffer;
+    private final long mStartMillis;
+    private final long mRecordCount;
+    private final long[] mIndexNanos;
+    private final long[] mIndexRecords;
+
+    public SessionReader(@NonNull final File file) throws IOException {
+        mFile = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = mFile.getChannel();
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Session too large to map: " + size + " bytes");
+            }
+            if (size < SessionFormat.HEADER_SIZE) {
+                throw new IOException("Not a session file: " + file);
+            }
+
+            mBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mBuffer.getInt(0) != SessionFormat.MAGIC
+                    || mBuffer.getShort(4) != SessionFormat.VERSION
+                    || mBuffer.getShort(6) != SessionFormat.RECORD_SIZE) {
+                throw new IOException("Not a session file: " + file);
+            }
+
+            mStartMillis = mBuffer.getLong(SessionFormat.HEADER_START_MILLIS);
+            mRecordCount = countRecords((size - SessionFormat.HEADER_SIZE) / SessionFormat.RECORD_SIZE);
+
+            final int entries = (int) ((mRecordCount + SessionFormat.INDEX_STRIDE - 1) / SessionFormat.INDEX_STRIDE);
+            mIndexNanos = new long[entries];
+            mIndexRecords = new long[entries];
+            if (!readIndex(SessionFormat.indexFile(file))) {
+                buildIndex();
+            }
+        } catch (IOException | RuntimeException e) {
+            mFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return wall clock time the recording started, in milliseconds since the Unix epoch
+     */
+    public long startMillis() {
+        return mStartMillis;
+    }
+
+    public long recordCount() {
+        return mRecordCount;
+    }
+
+    /**
+     * @return receive time of the first record, or 0 if there are none
+     */
+    public long startNanos() {
+        return mRecordCount > 0 ? receiveNanos(0) : 0;
+    }
+
+    /**
+     * @return time between the first and the last record
+     */
+    public long durationNanos() {
+        return mRecordCount > 0 ? receiveNanos(mRecordCount - 1) - receiveNanos(0) : 0;
+    }
+
+    /**
+     * @return time into the session at which record number {@code index} was received
+     */
+    public long elapsedNanos(final long index) {
+        return receiveNanos(index) - receiveNanos(0);
+    }
+
+    /**
+     * Reads record number {@code index} into {@code out}.
+     */
+    public void read(final long index, @NonNull final SessionRecord out) {
+        final int start = offset(index);
+        out.mKind = mBuffer.get(start + SessionFormat.RECORD_KIND);
+        out.mType = mBuffer.getShort(start + SessionFormat.RECORD_TYPE);
+        out.mDeviceTimestamp = mBuffer.getInt(start + SessionFormat.RECORD_DEVICE_TIMESTAMP);
+        out.mReceiveNanos = mBuffer.getLong(start + SessionFormat.RECORD_RECEIVE_NANOS);
+        out.mX = mBuffer.getFloat(start + SessionFormat.RECORD_VALUES);
+        out.mY = mBuffer.getFloat(start + SessionFormat.RECORD_VALUES + 4);
+        out.mZ = mBuffer.getFloat(start + SessionFormat.RECORD_VALUES + 8);
+        out.mW = mBuffer.getFloat(start + SessionFormat.RECORD_VALUES + 12);
+        out.mAccuracy = mBuffer.getFloat(start + SessionFormat.RECORD_ACCURACY);
+    }
+
+    /**
+     * Finds the first record received at or after {@code elapsedNanos} into the session.
+     *
+     * @return record number, or {@link #recordCount()} if the session is shorter
+     */
+    public long seek(final long elapsedNanos) {
+        if (mRecordCount == 0) {
+            return 0;
+        }
+
+        final long target = receiveNanos(0) + Math.max(0, elapsedNanos);
+
+        // Last index entry at or before the target
+        int low = 0;
+        int high = mIndexNanos.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (mIndexNanos[middle] <= target) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        // First record in the block at or after the target
+        long first = mIndexRecords[low];
+        long last = Math.min(first + SessionFormat.INDEX_STRIDE, mRecordCount);
+        while (first < last) {
+            final long middle = (first + last) >>> 1;
+            if (receiveNanos(middle) < target) {
+                first = middle + 1;
+            } else {
+                last = middle;
+            }
+        }
+        return first;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mFile.close();
+    }
+
+    private long receiveNanos(final long index) {
+        return mBuffer.getLong(offset(index) + SessionFormat.RECORD_RECEIVE_NANOS);
+    }
+
+    private int offset(final long index) {
+        if (index < 0 || index >= mRecordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + mRecordCount);
+        }
+        return (int) (SessionFormat.HEADER_SIZE + index * SessionFormat.RECORD_SIZE);
+    }
+
+    /**
+     * Records are written in order, so the first empty slot left by an unclean shutdown can be
+     * found with a binary search.
+     */
+    private long countRecords(final long slots) {
+        long low = 0;
+        long high = slots;
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+            final int start = (int) (SessionFormat.HEADER_SIZE + middle * SessionFormat.RECORD_SIZE);
+            if (mBuffer.get(start + SessionFormat.RECORD_KIND) != SessionFormat.KIND_NONE) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private boolean readIndex(@NonNull final File indexFile) throws IOException {
+        if (!indexFile.isFile()) {
+            return false;
+        }
+
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "r")) {
+            final FileChannel channel = index.getChannel();
+            final ByteBuffer header = ByteBuffer.allocate(SessionFormat.INDEX_HEADER_SIZE);
+            final int entries = mIndexNanos.length;
+            if (channel.read(header, 0) != SessionFormat.INDEX_HEADER_SIZE
+                    || header.getInt(0) != SessionFormat.INDEX_MAGIC
+                    || header.getInt(8) != SessionFormat.INDEX_STRIDE
+                    || channel.size() < SessionFormat.INDEX_HEADER_SIZE + (long) entries * SessionFormat.INDEX_ENTRY_SIZE) {
+                LOG.warning("Ignoring incomplete index " + indexFile);
+                return false;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate(entries * SessionFormat.INDEX_ENTRY_SIZE);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, SessionFormat.INDEX_HEADER_SIZE + buffer.position()) < 0) {
+                    return false;
+                }
+            }
+            buffer.flip();
+            for (int i = 0; i < entries; i++) {
+                mIndexNanos[i] = buffer.getLong();
+                mIndexRecords[i] = buffer.getLong();
+            }
+        }
+        return true;
+    }
+
+    private void buildIndex() {
+        for (int i = 0; i < mIndexNanos.length; i++) {
+            mIndexRecords[i] = (long) i * SessionFormat.INDEX_STRIDE;
+            mIndexNanos[i] = receiveNanos(mIndexRecords[i]);
+        }
+    }
+}
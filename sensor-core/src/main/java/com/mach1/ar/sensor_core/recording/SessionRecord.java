@@ -0,0 +1,77 @@
+package com.mach1.ar.sensor_core.recording;
+
+//
+//  SessionRecord.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+/**
+ * One record read from a session file. Reused between reads to avoid allocating.
+ */
+public final class SessionRecord {
+    int mKind;
+    int mType;
+    int mDeviceTimestamp;
+    long mReceiveNanos;
+    float mX;
+    float mY;
+    float mZ;
+    float mW;
+    float mAccuracy;
+
+    /**
+     * @return {@link SessionFormat#KIND_SENSOR} or {@link SessionFormat#KIND_GESTURE}
+     */
+    public int kind() {
+        return mKind;
+    }
+
+    public int type() {
+        return mType;
+    }
+
+    public int deviceTimestamp() {
+        return mDeviceTimestamp;
+    }
+
+    public long receiveNanos() {
+        return mReceiveNanos;
+    }
+
+    public float x() {
+        return mX;
+    }
+
+    public float y() {
+        return mY;
+    }
+
+    public float z() {
+        return mZ;
+    }
+
+    public float w() {
+        return mW;
+    }
+
+    public float accuracy() {
+        return mAccuracy;
+    }
+
+    /**
+     * Passes this record on as if it had just been received at {@code receiveNanos}.
+     */
+    public void dispatch(@NonNull final SensorSampleListener listener, final long receiveNanos) {
+        if (mKind == SessionFormat.KIND_GESTURE) {
+            listener.onGestureSample(mType, mDeviceTimestamp, receiveNanos);
+        } else {
+            listener.onSensorSample(mType, mDeviceTimestamp, receiveNanos, mX, mY, mZ, mW, mAccuracy);
+        }
+    }
+}
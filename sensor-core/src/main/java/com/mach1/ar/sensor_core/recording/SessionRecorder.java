@@ -0,0 +1,287 @@
+package com.mach1.ar.sensor_core.recording;
+
+//
+//  SessionRecorder.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.SampleQueue;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Appends sensor and gesture samples to a session file and its time index, see
+ * {@link SessionFormat}.
+ *
+ * The sensor callback only copies primitives into a preallocated queue and never blocks; a
+ * background thread writes them into a memory-mapped region of the file, mapping the next
+ * region when one fills up. Samples arriving while the queue is full are counted and dropped.
+ */
+public class SessionRecorder implements SensorSampleListener, Closeable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final Logger LOG = Logger.getLogger(SessionRecorder.class.getName());
+    private static final int REGION_SIZE = SessionFormat.RECORD_SIZE * 16 * 1024;
+
+    @NonNull
+    private final File mFile;
+    @NonNull
+    private final RandomAccessFile mRandomAccessFile;
+    @NonNull
+    private final FileChannel mChannel;
+    @NonNull
+    private final RandomAccessFile mIndexFile;
+    private final ByteBuffer mIndexEntry = ByteBuffer.allocate(SessionFormat.INDEX_ENTRY_SIZE);
+    @NonNull
+    private final SampleQueue mQueue;
+    @NonNull
+    private final Thread mThread;
+    private final float[] mValues = new float[SessionFormat.VALUE_COUNT];
+    private volatile boolean mClosing;
+    private boolean mClosed;
+
+    // Written by the producer thread only
+    private volatile long mDroppedCount;
+
+    // Written by the writer thread only
+    private volatile long mRecordCount;
+    @Nullable
+    private MappedByteBuffer mRegion;
+    private long mRegionStart;
+
+    /**
+     * Creates or truncates {@code file} and its index and starts the writer thread.
+     */
+    public SessionRecorder(@NonNull final File file) throws IOException {
+        this(file, DEFAULT_QUEUE_CAPACITY, Thread::new);
+    }
+
+    /**
+     * @param threadFactory creates the writer thread, for example to lower its priority
+     */
+    public SessionRecorder(@NonNull final File file,
+                           final int queueCapacity,
+                           @NonNull final ThreadFactory threadFactory) throws IOException {
+        mFile = file;
+        mQueue = new SampleQueue(queueCapacity, SessionFormat.VALUE_COUNT);
+        mRandomAccessFile = new RandomAccessFile(file, "rw");
+        mChannel = mRandomAccessFile.getChannel();
+        mIndexFile = new RandomAccessFile(SessionFormat.indexFile(file), "rw");
+        try {
+            mIndexFile.setLength(0);
+            mIndexFile.writeInt(SessionFormat.INDEX_MAGIC);
+            mIndexFile.writeShort(SessionFormat.VERSION);
+            mIndexFile.writeShort(0);
+            mIndexFile.writeInt(SessionFormat.INDEX_STRIDE);
+            mIndexFile.writeInt(0);
+
+            mChannel.truncate(0);
+            mapRegion(0);
+            mRegion.putInt(0, SessionFormat.MAGIC);
+            mRegion.putShort(4, SessionFormat.VERSION);
+            mRegion.putShort(6, (short) SessionFormat.RECORD_SIZE);
+            mRegion.putLong(SessionFormat.HEADER_START_MILLIS, System.currentTimeMillis());
+            mRegion.position(SessionFormat.HEADER_SIZE);
+        } catch (IOException e) {
+            mIndexFile.close();
+            mRandomAccessFile.close();
+            throw e;
+        }
+
+        mThread = threadFactory.newThread(this::run);
+        mThread.setName(SessionRecorder.class.getSimpleName() + " " + file.getName());
+        mThread.start();
+    }
+
+    @NonNull
+    public File file() {
+        return mFile;
+    }
+
+    /**
+     * Records a sensor sample. Must only be called from one thread at a time.
+     *
+     * @param w {@code Float.NaN} for vector sensors
+     * @return {@code false} if the queue was full and the sample was dropped
+     */
+    public boolean sensor(final int type,
+                          final int deviceTimestamp,
+                          final long receiveNanos,
+                          final float x,
+                          final float y,
+                          final float z,
+                          final float w,
+                          final float accuracy) {
+        mValues[0] = x;
+        mValues[1] = y;
+        mValues[2] = z;
+        mValues[3] = w;
+        mValues[4] = accuracy;
+        return offer(SessionFormat.KIND_SENSOR, type, deviceTimestamp, receiveNanos);
+    }
+
+    /**
+     * Records a gesture. Must only be called from one thread at a time.
+     *
+     * @return {@code false} if the queue was full and the gesture was dropped
+     */
+    public boolean gesture(final int type, final int deviceTimestamp, final long receiveNanos) {
+        for (int i = 0; i < mValues.length; i++) {
+            mValues[i] = Float.NaN;
+        }
+        return offer(SessionFormat.KIND_GESTURE, type, deviceTimestamp, receiveNanos);
+    }
+
+    @Override
+    public void onSensorSample(final int type,
+                               final int deviceTimestamp,
+                               final long receiveNanos,
+                               final float x,
+                               final float y,
+                               final float z,
+                               final float w,
+                               final float accuracy) {
+        sensor(type, deviceTimestamp, receiveNanos, x, y, z, w, accuracy);
+    }
+
+    @Override
+    public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+        gesture(type, deviceTimestamp, receiveNanos);
+    }
+
+    /**
+     * @return number of records written to the file so far
+     */
+    public long recordCount() {
+        return mRecordCount;
+    }
+
+    /**
+     * @return number of samples dropped because the writer fell behind
+     */
+    public long droppedCount() {
+        return mDroppedCount;
+    }
+
+    /**
+     * Writes what is still queued, then trims the file to the records written and closes it.
+     * Samples recorded after this call are dropped.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (mClosed) {
+            return;
+        }
+
+        mClosed = true;
+        mClosing = true;
+        LockSupport.unpark(mThread);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                mThread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        try {
+            if (mRegion != null) {
+                mRegion.force();
+            }
+            mChannel.truncate(SessionFormat.HEADER_SIZE + mRecordCount * SessionFormat.RECORD_SIZE);
+        } finally {
+            mRegion = null;
+            mIndexFile.close();
+            mRandomAccessFile.close();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean offer(final int kind,
+                          final int type,
+                          final int deviceTimestamp,
+                          final long receiveNanos) {
+        final long tag = (long) kind << 48
+            | (long) (type & 0xFFFF) << 32
+            | (deviceTimestamp & 0xFFFFFFFFL);
+        if (mClosing || !mQueue.offer(mValues, 0, receiveNanos, tag)) {
+            mDroppedCount += 1;
+            return false;
+        }
+
+        LockSupport.unpark(mThread);
+        return true;
+    }
+
+    private void run() {
+        final float[] values = new float[SessionFormat.VALUE_COUNT];
+        while (true) {
+            final long receiveNanos = mQueue.poll(values, 0);
+            if (receiveNanos == Long.MIN_VALUE) {
+                if (mClosing) {
+                    return;
+                }
+                LockSupport.park(this);
+                continue;
+            }
+
+            try {
+                write(mQueue.polledTag(), receiveNanos, values);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Failed to write " + mFile, e);
+                return;
+            }
+        }
+    }
+
+    private void write(final long tag, final long receiveNanos, @NonNull final float[] values) throws IOException {
+        MappedByteBuffer region = mRegion;
+        if (region == null || region.remaining() < SessionFormat.RECORD_SIZE) {
+            mapRegion(mRegionStart + (region != null ? region.position() : 0));
+            region = mRegion;
+        }
+
+        if (mRecordCount % SessionFormat.INDEX_STRIDE == 0) {
+            mIndexEntry.clear();
+            mIndexEntry.putLong(receiveNanos).putLong(mRecordCount).flip();
+            mIndexFile.getChannel().write(mIndexEntry);
+        }
+
+        final int start = region.position();
+        region.put(start + SessionFormat.RECORD_KIND, (byte) (tag >>> 48));
+        region.putShort(start + SessionFormat.RECORD_TYPE, (short) (tag >>> 32));
+        region.putInt(start + SessionFormat.RECORD_DEVICE_TIMESTAMP, (int) tag);
+        region.putLong(start + SessionFormat.RECORD_RECEIVE_NANOS, receiveNanos);
+        for (int i = 0; i < 4; i++) {
+            region.putFloat(start + SessionFormat.RECORD_VALUES + i * 4, values[i]);
+        }
+        region.putFloat(start + SessionFormat.RECORD_ACCURACY, values[4]);
+        region.position(start + SessionFormat.RECORD_SIZE);
+        mRecordCount += 1;
+    }
+
+    private void mapRegion(final long start) throws IOException {
+        mRegionStart = start;
+        mRegion = mChannel.map(FileChannel.MapMode.READ_WRITE, start, REGION_SIZE);
+    }
+}
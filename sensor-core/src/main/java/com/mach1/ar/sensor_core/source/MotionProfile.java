@@ -0,0 +1,81 @@
+package com.mach1.ar.sensor_core.source;
+
+//
+//  MotionProfile.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+/**
+ * Head movements for {@link SyntheticSensorSource}, as yaw, pitch and roll in radians over time.
+ */
+public enum MotionProfile {
+    /**
+     * Looking straight ahead.
+     */
+    STILL {
+        @Override
+        public void angles(final double seconds, @NonNull final double[] out) {
+            out[0] = 0;
+            out[1] = 0;
+            out[2] = 0;
+        }
+    },
+
+    /**
+     * Looking left and right, ±90° every four seconds.
+     */
+    HEAD_TURN {
+        @Override
+        public void angles(final double seconds, @NonNull final double[] out) {
+            out[0] = Math.PI / 2 * Math.sin(2 * Math.PI * seconds / 4);
+            out[1] = 0;
+            out[2] = 0;
+        }
+    },
+
+    /**
+     * Nodding, ±30° once a second.
+     */
+    NOD {
+        @Override
+        public void angles(final double seconds, @NonNull final double[] out) {
+            out[0] = 0;
+            out[1] = Math.PI / 6 * Math.sin(2 * Math.PI * seconds);
+            out[2] = 0;
+        }
+    },
+
+    /**
+     * Turning around continuously at 90° per second, crossing ±180° every four seconds.
+     */
+    SPIN {
+        @Override
+        public void angles(final double seconds, @NonNull final double[] out) {
+            out[0] = Math.IEEEremainder(Math.PI / 2 * seconds, 2 * Math.PI);
+            out[1] = 0;
+            out[2] = 0;
+        }
+    },
+
+    /**
+     * Looking around on all axes at once, with incommensurate periods so the motion does not
+     * repeat.
+     */
+    WANDER {
+        @Override
+        public void angles(final double seconds, @NonNull final double[] out) {
+            out[0] = 2.0 * Math.sin(0.31 * seconds) + 0.3 * Math.sin(1.7 * seconds);
+            out[1] = 0.4 * Math.sin(0.53 * seconds + 1) + 0.1 * Math.sin(2.9 * seconds);
+            out[2] = 0.2 * Math.sin(0.71 * seconds + 2);
+        }
+    };
+
+    /**
+     * Writes yaw, pitch and roll in radians at {@code seconds} into {@code out}.
+     */
+    public abstract void angles(double seconds, @NonNull double[] out);
+}
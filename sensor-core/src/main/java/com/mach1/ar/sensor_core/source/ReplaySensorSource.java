@@ -0,0 +1,108 @@
+package com.mach1.ar.sensor_core.source;
+
+//
+//  ReplaySensorSource.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+import com.mach1.ar.sensor_core.recording.SessionPlayer;
+import com.mach1.ar.sensor_core.recording.SessionReader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Replays a session recorded with {@code SessionRecorder}.
+ */
+public class ReplaySensorSource implements SensorSource, Closeable {
+    @NonNull
+    private final SessionReader mReader;
+    private double mSpeed = 1;
+    private long mStartNanos;
+    @Nullable
+    private SessionPlayer mPlayer;
+
+    public ReplaySensorSource(@NonNull final File sessionFile) throws IOException {
+        mReader = new SessionReader(sessionFile);
+    }
+
+    @NonNull
+    public SessionReader reader() {
+        return mReader;
+    }
+
+    /**
+     * @param speed playback speed, see {@link SessionPlayer#speed(double)}
+     */
+    @NonNull
+    public synchronized ReplaySensorSource speed(final double speed) {
+        mSpeed = speed;
+        if (mPlayer != null) {
+            mPlayer.speed(speed);
+        }
+        return this;
+    }
+
+    /**
+     * @param elapsedNanos time into the session to start playing from
+     */
+    @NonNull
+    public synchronized ReplaySensorSource startAt(final long elapsedNanos) {
+        mStartNanos = elapsedNanos;
+        if (mPlayer != null) {
+            mPlayer.seek(elapsedNanos);
+        }
+        return this;
+    }
+
+    /**
+     * @return the player once started, for seeking and pausing
+     */
+    @Nullable
+    public synchronized SessionPlayer player() {
+        return mPlayer;
+    }
+
+    /**
+     * @return {@code true} once the whole session has been played
+     */
+    public synchronized boolean finished() {
+        return mPlayer != null && mPlayer.finished();
+    }
+
+    @Override
+    public synchronized void start(@NonNull final SensorSampleListener listener) {
+        if (mPlayer != null) {
+            throw new IllegalStateException("Already started");
+        }
+
+        final SessionPlayer player = new SessionPlayer(mReader, listener);
+        player.speed(mSpeed);
+        player.seek(mStartNanos);
+        player.play();
+        mPlayer = player;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (mPlayer != null) {
+            mPlayer.close();
+        }
+    }
+
+    /**
+     * Stops playing and closes the session file.
+     */
+    @Override
+    public void close() throws IOException {
+        stop();
+        mReader.close();
+    }
+}
@@ -0,0 +1,31 @@
+package com.mach1.ar.sensor_core.source;
+
+//
+//  SensorSource.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+/**
+ * Something that produces sensor and gesture samples: a connected device, the SDK simulator, a
+ * synthetic generator or a recorded session.
+ *
+ * Samples are delivered one at a time, but not necessarily on the thread that called
+ * {@link #start(SensorSampleListener)}.
+ */
+public interface SensorSource {
+    /**
+     * Starts delivering samples to {@code listener}. A source is started at most once.
+     */
+    void start(@NonNull SensorSampleListener listener);
+
+    /**
+     * Stops delivering samples. No samples are delivered after this returns.
+     */
+    void stop();
+}
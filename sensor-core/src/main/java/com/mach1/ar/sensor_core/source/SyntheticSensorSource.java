@@ -0,0 +1,227 @@
+package com.mach1.ar.sensor_core.source;
+
+//
+//  SyntheticSensorSource.java
+//  Mach1 BoseWearable Examples
+//
+//  Copyright © 2026 Mach1. All rights reserved.
+//
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mach1.ar.sensor_core.Quaternions;
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+import java.util.Random;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates rotation and accelerometer samples following a {@link MotionProfile}, without any
+ * hardware.
+ *
+ * Sample {@code n} always has the same values for the same profile, rate and seed, so runs are
+ * reproducible; only the receive times depend on the machine. Samples are paced to the
+ * configured rate unless pacing is turned off, in which case they are generated as fast as the
+ * listener takes them.
+ */
+public class SyntheticSensorSource implements SensorSource {
+    public static final int MAX_RATE_HZ = 1000;
+    public static final double GRAVITY = 9.80665;
+
+    private static final float ROTATION_ACCURACY = (float) Math.toRadians(5);
+    private static final double ANGLE_NOISE = Math.toRadians(0.05);
+    private static final double ACCELERATION_NOISE = 0.02;
+
+    private final int mRateHz;
+    @NonNull
+    private final MotionProfile mProfile;
+    private final int mRotationType;
+    private final int mAccelerationType;
+    private long mSeed = 1;
+    private boolean mPaced = true;
+    private long mLimit = Long.MAX_VALUE;
+    @NonNull
+    private ThreadFactory mThreadFactory = Thread::new;
+
+    private final double[] mAngles = new double[3];
+    private final double[] mQuaternion = new double[4];
+    private final double[] mUp = new double[3];
+    @Nullable
+    private Random mRandom;
+    @Nullable
+    private volatile Thread mThread;
+    private volatile boolean mStopped;
+    private volatile long mSampleCount;
+
+    /**
+     * @param rateHz samples per second of each sensor, at most {@link #MAX_RATE_HZ}
+     * @param rotationType type reported for rotation samples, such as
+     *                     {@code SensorType.ROTATION_VECTOR.ordinal()}
+     * @param accelerationType type reported for accelerometer samples, or -1 for none
+     */
+    public SyntheticSensorSource(final int rateHz,
+                                 @NonNull final MotionProfile profile,
+                                 final int rotationType,
+                                 final int accelerationType) {
+        if (rateHz <= 0 || rateHz > MAX_RATE_HZ) {
+            throw new IllegalArgumentException("Rate must be 1 to " + MAX_RATE_HZ + " Hz: " + rateHz);
+        }
+
+        mRateHz = rateHz;
+        mProfile = profile;
+        mRotationType = rotationType;
+        mAccelerationType = accelerationType;
+    }
+
+    public int rateHz() {
+        return mRateHz;
+    }
+
+    @NonNull
+    public MotionProfile profile() {
+        return mProfile;
+    }
+
+    /**
+     * @param seed seed for the sensor noise
+     */
+    @NonNull
+    public SyntheticSensorSource seed(final long seed) {
+        mSeed = seed;
+        return this;
+    }
+
+    /**
+     * @param paced {@code false} to generate samples as fast as possible
+     */
+    @NonNull
+    public SyntheticSensorSource paced(final boolean paced) {
+        mPaced = paced;
+        return this;
+    }
+
+    /**
+     * @param sampleCount number of samples per sensor after which the source stops on its own
+     */
+    @NonNull
+    public SyntheticSensorSource limit(final long sampleCount) {
+        mLimit = sampleCount;
+        return this;
+    }
+
+    @NonNull
+    public SyntheticSensorSource threadFactory(@NonNull final ThreadFactory threadFactory) {
+        mThreadFactory = threadFactory;
+        return this;
+    }
+
+    /**
+     * @return number of rotation samples delivered so far
+     */
+    public long sampleCount() {
+        return mSampleCount;
+    }
+
+    /**
+     * @return {@code true} once the sample limit was reached or the source was stopped
+     */
+    public boolean finished() {
+        final Thread thread = mThread;
+        return thread != null && !thread.isAlive();
+    }
+
+    @Override
+    public synchronized void start(@NonNull final SensorSampleListener listener) {
+        if (mThread != null) {
+            throw new IllegalStateException("Already started");
+        }
+
+        final Thread thread = mThreadFactory.newThread(() -> run(listener));
+        thread.setName(SyntheticSensorSource.class.getSimpleName() + " " + mProfile + " " + mRateHz + " Hz");
+        mThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        mStopped = true;
+        final Thread thread = mThread;
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(@NonNull final SensorSampleListener listener) {
+        final long periodNanos = TimeUnit.SECONDS.toNanos(1) / mRateHz;
+        final long startNanos = System.nanoTime();
+        for (long index = 0; index < mLimit && !mStopped; index++) {
+            if (mPaced) {
+                final long due = startNanos + index * periodNanos;
+                long wait = due - System.nanoTime();
+                while (wait > 0 && !mStopped) {
+                    LockSupport.parkNanos(this, wait);
+                    wait = due - System.nanoTime();
+                }
+                if (mStopped) {
+                    break;
+                }
+            }
+
+            generate(index, System.nanoTime(), listener);
+            mSampleCount = index + 1;
+        }
+    }
+
+    /**
+     * Delivers sample {@code index} of each sensor. Samples must be generated in order.
+     */
+    void generate(final long index, final long receiveNanos, @NonNull final SensorSampleListener listener) {
+        if (mRandom == null || index == 0) {
+            mRandom = new Random(mSeed);
+        }
+        final Random random = mRandom;
+
+        final double seconds = (double) index / mRateHz;
+        final int deviceTimestamp = (int) ((index * 1000 / mRateHz) & 0xFFFF);
+
+        mProfile.angles(seconds, mAngles);
+        Quaternions.fromEuler(
+            mAngles[0] + random.nextGaussian() * ANGLE_NOISE,
+            mAngles[1] + random.nextGaussian() * ANGLE_NOISE,
+            mAngles[2] + random.nextGaussian() * ANGLE_NOISE,
+            mQuaternion);
+        listener.onSensorSample(mRotationType, deviceTimestamp, receiveNanos,
+            (float) mQuaternion[Quaternions.X],
+            (float) mQuaternion[Quaternions.Y],
+            (float) mQuaternion[Quaternions.Z],
+            (float) mQuaternion[Quaternions.W],
+            ROTATION_ACCURACY);
+
+        if (mAccelerationType >= 0) {
+            Quaternions.up(mQuaternion, mUp);
+            listener.onSensorSample(mAccelerationType, deviceTimestamp, receiveNanos,
+                (float) (mUp[0] * GRAVITY + random.nextGaussian() * ACCELERATION_NOISE),
+                (float) (mUp[1] * GRAVITY + random.nextGaussian() * ACCELERATION_NOISE),
+                (float) (mUp[2] * GRAVITY + random.nextGaussian() * ACCELERATION_NOISE),
+                Float.NaN,
+                Float.NaN);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AnglesTest {
+    private static final double[] EDGE_CASES = {
+        0.0, -0.0, 0.0005, -0.0005, 0.0015, 1.0005, -1.0005, 0.005, 0.015, 2.675, -2.675,
+        179.9995, -179.9995, 180, -180, 90, 1e-9, -1e-9, 16777.2155, 1e7, -1e12,
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE,
+    };
+
+    @Test
+    public void quantizeMatchesFormatAndParse() {
+        for (final double value : EDGE_CASES) {
+            assertQuantized(value);
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            assertQuantized(Angles.degrees((random.nextDouble() * 2 - 1) * Math.PI));
+        }
+        for (int i = 0; i < 50_000; i++) {
+            // Values sitting on or right next to a rounding tie
+            final double tie = (random.nextInt(360_000) - 180_000 + 0.5) / 1000.0;
+            assertQuantized(tie);
+            assertQuantized(Math.nextUp(tie));
+            assertQuantized(Math.nextDown(tie));
+        }
+    }
+
+    @Test
+    public void formatMatchesStringFormat() {
+        final char[] buffer = new char[DecimalFormatter.BUFFER_SIZE];
+        for (final double value : EDGE_CASES) {
+            assertFormatted(value, buffer);
+        }
+
+        final Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            assertFormatted(Angles.degrees((random.nextDouble() * 2 - 1) * Math.PI), buffer);
+            assertFormatted((random.nextInt(36_000) - 18_000 + 0.5) / 100.0, buffer);
+        }
+    }
+
+    @Test
+    public void toStringMatchesStringFormat() {
+        for (final double value : EDGE_CASES) {
+            assertEquals(String.format(Locale.US, "%.2f°", value), DecimalFormatter.toString(value, 2, "°"));
+        }
+    }
+
+    @Test
+    public void degreesMatchesLegacyConversion() {
+        final Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            final double radians = (random.nextDouble() * 2 - 1) * Math.PI;
+            assertEquals(Double.doubleToLongBits(radians * 180 / Math.PI),
+                Double.doubleToLongBits(Angles.degrees(radians)));
+        }
+    }
+
+    private static void assertQuantized(final double value) {
+        for (int decimals = 0; decimals <= Angles.MAX_DECIMALS; decimals++) {
+            final float expected = Float.parseFloat(String.format(Locale.US, "%." + decimals + "f", value));
+            final float actual = Angles.quantize(value, decimals);
+            assertEquals(value + " to " + decimals + " decimals",
+                Float.floatToRawIntBits(expected), Float.floatToRawIntBits(actual));
+        }
+    }
+
+    private static void assertFormatted(final double value, final char[] buffer) {
+        for (int decimals = 0; decimals <= 3; decimals++) {
+            final String expected = String.format(Locale.US, "%." + decimals + "f°", value);
+            if (expected.length() > buffer.length) {
+                continue;
+            }
+            final int length = DecimalFormatter.format(value, decimals, "°", buffer);
+            assertEquals(expected, new String(buffer, 0, length));
+        }
+    }
+}
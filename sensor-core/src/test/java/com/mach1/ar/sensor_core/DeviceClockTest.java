@@ -0,0 +1,209 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class DeviceClockTest {
+    private static final long START_NANOS = TimeUnit.SECONDS.toNanos(100);
+    private static final int PERIOD_MILLIS = 20;
+    private static final long PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(PERIOD_MILLIS);
+    private static final long DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(30);
+    private static final double JITTER_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final double DRIFT_PPM = 50;
+
+    private final Random mRandom = new Random(24);
+    private DeviceClock mClock;
+
+    @Before
+    public void setUp() {
+        mClock = new DeviceClock();
+    }
+
+    @Test
+    public void unwrapsTimestampRollover() {
+        final int first = DeviceClock.TIMESTAMP_PERIOD - 50;
+        for (int i = 0; i < 10; i++) {
+            final long deviceMillis = mClock.update((first + i * PERIOD_MILLIS) & (DeviceClock.TIMESTAMP_PERIOD - 1),
+                START_NANOS + i * PERIOD_NANOS);
+            assertEquals(i * PERIOD_MILLIS, deviceMillis);
+        }
+        assertEquals(0, mClock.lostCount());
+    }
+
+    @Test
+    public void silenceLongerThanAWrapKeepsTheTimeline() {
+        mClock.samplePeriodMillis(PERIOD_MILLIS);
+        mClock.update(1000, START_NANOS);
+
+        // 200 s pass, about three wraps; the phone clock tells how many
+        final int silenceMillis = 200_000;
+        final long deviceMillis = mClock.update((1000 + silenceMillis) & (DeviceClock.TIMESTAMP_PERIOD - 1),
+            START_NANOS + TimeUnit.MILLISECONDS.toNanos(silenceMillis) + DELAY_NANOS);
+
+        assertEquals(silenceMillis, deviceMillis);
+        assertEquals(silenceMillis / PERIOD_MILLIS - 1, mClock.lastLost());
+    }
+
+    @Test
+    public void countsLostSamples() {
+        mClock.samplePeriodMillis(PERIOD_MILLIS);
+        final int[] samples = { 0, 1, 2, 5, 6, 10 };
+        for (final int sample : samples) {
+            // A millisecond of timestamp jitter must not count as a loss
+            final int jitter = sample % 2 == 0 ? 1 : -1;
+            mClock.update(sample * PERIOD_MILLIS + jitter, START_NANOS + sample * PERIOD_NANOS);
+        }
+
+        assertEquals(3, mClock.lastLost());
+        assertEquals(5, mClock.lostCount());
+    }
+
+    @Test
+    public void estimatesThePeriodFromRecentSteps() {
+        final int[] timestamps = { 0, 20, 21, 41, 61, 81, 101, 161, 181 };
+        for (final int timestamp : timestamps) {
+            mClock.update(timestamp, START_NANOS + TimeUnit.MILLISECONDS.toNanos(timestamp));
+        }
+
+        // The early timestamp at 21 did not turn every later step into losses
+        assertEquals(2, mClock.lostCount());
+    }
+
+    @Test
+    public void outOfOrderSampleIsAStepOfZero() {
+        mClock.samplePeriodMillis(PERIOD_MILLIS);
+        final int[] samples = { 0, 1, 3, 2, 4 };
+        final long[] expected = { 0, 20, 60, 60, 80 };
+        for (int i = 0; i < samples.length; i++) {
+            final long deviceMillis = mClock.update(samples[i] * PERIOD_MILLIS,
+                START_NANOS + i * PERIOD_NANOS);
+            assertEquals(expected[i], deviceMillis);
+        }
+
+        // Sample 2 was counted as lost when sample 3 arrived; arriving late adds nothing, and
+        // sample 4 is measured against sample 3
+        assertEquals(1, mClock.lostCount());
+        assertEquals(0, mClock.lastLost());
+        assertEquals(0, mClock.restartCount());
+    }
+
+    @Test
+    public void timestampJumpingBackRestartsTheTimeline() {
+        mClock.samplePeriodMillis(PERIOD_MILLIS);
+        for (int i = 0; i < 100; i++) {
+            mClock.update(timestamp(1000 + i), arrivalNanos(i));
+        }
+        assertTrue(mClock.fitted());
+        final long before = mClock.deviceMillis();
+
+        // The device restarts its clock at 0, a sample period after the previous sample
+        final long deviceMillis = mClock.update(0, transmitNanos(100) + DELAY_NANOS);
+
+        assertEquals(1, mClock.restartCount());
+        assertEquals(0, mClock.lostCount());
+        assertEquals(before + PERIOD_MILLIS, deviceMillis, 10);
+        assertFalse(mClock.fitted());
+        // The samples after it continue from there
+        assertEquals(deviceMillis + PERIOD_MILLIS, mClock.update(PERIOD_MILLIS, transmitNanos(101) + DELAY_NANOS));
+        assertEquals(0, mClock.lostCount());
+    }
+
+    @Test
+    public void timestampJumpingFarAheadRestartsTheTimeline() {
+        mClock.samplePeriodMillis(PERIOD_MILLIS);
+        mClock.update(0, START_NANOS);
+        mClock.update(PERIOD_MILLIS, START_NANOS + PERIOD_NANOS);
+
+        // Another device, whose clock is 30 s ahead, feeds the same clock
+        final long deviceMillis = mClock.update(30_000, START_NANOS + 2 * PERIOD_NANOS);
+
+        assertEquals(2 * PERIOD_MILLIS, deviceMillis);
+        assertEquals(1, mClock.restartCount());
+        assertEquals(0, mClock.lostCount());
+    }
+
+    @Test
+    public void assumesTheNominalRateUntilFitted() {
+        mClock.update(0, START_NANOS + DELAY_NANOS);
+        mClock.update(PERIOD_MILLIS, START_NANOS + DELAY_NANOS + TimeUnit.MILLISECONDS.toNanos(7));
+
+        assertFalse(mClock.fitted());
+        assertEquals(0, mClock.driftPpm(), 0);
+        assertEquals(START_NANOS + DELAY_NANOS + PERIOD_NANOS, mClock.receiveNanos(PERIOD_MILLIS));
+    }
+
+    @Test
+    public void modelRemovesArrivalJitter() {
+        double arrivalError = 0;
+        double modelError = 0;
+        int count = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final long arrivalNanos = arrivalNanos(i);
+            final long deviceMillis = mClock.update(timestamp(i), arrivalNanos);
+            if (i >= 1000) {
+                final long expected = transmitNanos(i) + DELAY_NANOS + (long) JITTER_NANOS;
+                arrivalError += Math.abs(arrivalNanos - expected);
+                modelError += Math.abs(mClock.receiveNanos(deviceMillis) - expected);
+                count += 1;
+            }
+        }
+
+        assertTrue(mClock.fitted());
+        final double arrivalMillis = arrivalError / count / TimeUnit.MILLISECONDS.toNanos(1);
+        final double modelMillis = modelError / count / TimeUnit.MILLISECONDS.toNanos(1);
+        assertTrue("Arrival error " + arrivalMillis + " ms", arrivalMillis > 3);
+        assertTrue("Model error " + modelMillis + " ms", modelMillis < 1);
+    }
+
+    @Test
+    public void longWindowMeasuresDrift() {
+        mClock = new DeviceClock(4096);
+        // 10 minutes, with several timestamp wraps and re-anchorings
+        for (int i = 0; i < 30_000; i++) {
+            mClock.update(timestamp(i), arrivalNanos(i));
+        }
+
+        assertEquals(DRIFT_PPM, mClock.driftPpm(), 10);
+        final long last = mClock.deviceMillis();
+        assertEquals(29_999 * PERIOD_MILLIS, last);
+        final long expected = transmitNanos(29_999) + DELAY_NANOS + (long) JITTER_NANOS;
+        assertEquals(expected, mClock.receiveNanos(last), TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    public void resetStartsAgain() {
+        for (int i = 0; i < 100; i++) {
+            mClock.update(timestamp(i * 2), arrivalNanos(i * 2));
+        }
+        mClock.reset();
+
+        assertEquals(0, mClock.update(12345, START_NANOS));
+        assertEquals(0, mClock.lostCount());
+        assertEquals(0, mClock.restartCount());
+        assertFalse(mClock.fitted());
+    }
+
+    private static int timestamp(final int sample) {
+        return (sample * PERIOD_MILLIS) & (DeviceClock.TIMESTAMP_PERIOD - 1);
+    }
+
+    /**
+     * The device clock runs {@link #DRIFT_PPM} fast, so its samples leave a little early.
+     */
+    private static long transmitNanos(final int sample) {
+        return START_NANOS + Math.round(sample * PERIOD_NANOS / (1 + DRIFT_PPM * 1e-6));
+    }
+
+    /**
+     * A fixed delay plus exponentially distributed jitter, like BLE connection events.
+     */
+    private long arrivalNanos(final int sample) {
+        final double jitter = -JITTER_NANOS * Math.log(1 - mRandom.nextDouble());
+        return transmitNanos(sample) + DELAY_NANOS + (long) jitter;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EulerAnglesTest {
+    private static final double EPSILON = 1e-9;
+    private static final double ANGLE = Math.toRadians(30);
+
+    @Test
+    public void identityHasNoRotation() {
+        assertEquals(0, EulerAngles.yaw(0, 0, 0, 1), EPSILON);
+        assertEquals(0, EulerAngles.pitch(0, 0, 0, 1), EPSILON);
+        assertEquals(0, EulerAngles.roll(0, 0, 0, 1), EPSILON);
+    }
+
+    @Test
+    public void singleAxisRotations() {
+        final double s = Math.sin(ANGLE / 2);
+        final double c = Math.cos(ANGLE / 2);
+
+        assertEquals(-ANGLE, EulerAngles.yaw(0, s, 0, c), EPSILON);
+        assertEquals(0, EulerAngles.pitch(0, s, 0, c), EPSILON);
+        assertEquals(ANGLE, EulerAngles.pitch(s, 0, 0, c), EPSILON);
+        assertEquals(0, EulerAngles.roll(s, 0, 0, c), EPSILON);
+        assertEquals(-ANGLE, EulerAngles.roll(0, 0, s, c), EPSILON);
+    }
+
+    @Test
+    public void rollIsClampedAtThePoles() {
+        final double s = Math.sqrt(0.5);
+
+        assertEquals(-Math.PI / 2, EulerAngles.roll(0, 0, s, s), EPSILON);
+        assertEquals(Math.PI / 2, EulerAngles.roll(0, 0, -s, s), EPSILON);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class FrameAssemblerTest {
+    private final List<float[]> mFrames = new ArrayList<>();
+    private final List<Long> mTimes = new ArrayList<>();
+    private FrameAssembler mAssembler;
+
+    @Before
+    public void setUp() {
+        mAssembler = new FrameAssembler((frame, frameTimeMillis, arrivalNanos, convertedNanos) -> {
+            mFrames.add(frame.clone());
+            mTimes.add(frameTimeMillis);
+        });
+    }
+
+    @Test
+    public void unbundledOrientationIsEmittedImmediately() {
+        mAssembler.orientation(10, 1, 2, 3, 4);
+
+        assertEquals(1, mFrames.size());
+        assertEquals(1, mFrames.get(0)[SensorFrame.YAW], 0);
+        assertEquals(4, mFrames.get(0)[SensorFrame.ACCURACY], 0);
+    }
+
+    @Test
+    public void bundledFrameWaitsForAcceleration() {
+        mAssembler.bundled(true);
+
+        // First frame teaches the assembler that acceleration is streaming
+        mAssembler.acceleration(10, 7, 8, 9);
+        mAssembler.orientation(10, 1, 2, 3, 4);
+        assertEquals(1, mFrames.size());
+
+        mAssembler.orientation(30, 5, 6, 7, 8);
+        assertEquals(1, mFrames.size());
+        mAssembler.acceleration(30, -1, -2, -3);
+        assertEquals(2, mFrames.size());
+
+        final float[] frame = mFrames.get(1);
+        assertEquals(5, frame[SensorFrame.YAW], 0);
+        assertEquals(-1, frame[SensorFrame.ACCELERATION_X], 0);
+        assertEquals(-3, frame[SensorFrame.ACCELERATION_Z], 0);
+        assertEquals(20, mTimes.get(1) - mTimes.get(0));
+    }
+
+    @Test
+    public void missingAccelerationDoesNotStallOrientation() {
+        mAssembler.bundled(true);
+        mAssembler.acceleration(10, 7, 8, 9);
+        mAssembler.orientation(10, 1, 2, 3, 4);
+
+        // Accelerometer stops; the pending frame goes out when the next one starts
+        mAssembler.orientation(30, 5, 6, 7, 8);
+        assertEquals(1, mFrames.size());
+        mAssembler.orientation(50, 9, 10, 11, 12);
+        assertEquals(3, mFrames.size());
+
+        // The stale acceleration is carried along
+        assertEquals(7, mFrames.get(2)[SensorFrame.ACCELERATION_X], 0);
+    }
+
+    @Test
+    public void frameTimeUnwrapsDeviceTimestamps() {
+        mAssembler.orientation(FrameAssembler.TIMESTAMP_PERIOD - 10, 0, 0, 0, 0);
+        mAssembler.orientation(10, 0, 0, 0, 0);
+        mAssembler.orientation(30, 0, 0, 0, 0);
+
+        assertEquals(20, mTimes.get(1) - mTimes.get(0));
+        assertEquals(40, mTimes.get(2) - mTimes.get(0));
+    }
+
+    @Test
+    public void frameTimeIgnoresArrivalJitter() {
+        final Random random = new Random(24);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            final long jitter = TimeUnit.MILLISECONDS.toNanos(random.nextInt(15));
+            final long arrivalNanos = start + TimeUnit.MILLISECONDS.toNanos(i * 20) + jitter;
+            mAssembler.orientation((i * 20) & (FrameAssembler.TIMESTAMP_PERIOD - 1), 0, 0, 0, 0,
+                arrivalNanos, arrivalNanos);
+        }
+
+        for (int i = 1; i < mTimes.size(); i++) {
+            final long step = mTimes.get(i) - mTimes.get(i - 1);
+            assertTrue("Step " + step + " ms at " + i, step >= 19 && step <= 21);
+        }
+    }
+}
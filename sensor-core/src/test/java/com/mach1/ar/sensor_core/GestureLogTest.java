@@ -0,0 +1,164 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GestureLogTest {
+    private File mSpillFile;
+    private final List<String> mChanges = new ArrayList<>();
+    private final GestureLog.Listener mListener = new GestureLog.Listener() {
+        @Override
+        public void onInserted(final int position, final int count) {
+            mChanges.add("+" + position + "x" + count);
+        }
+
+        @Override
+        public void onRemoved(final int position, final int count) {
+            mChanges.add("-" + position + "x" + count);
+        }
+    };
+
+    @Before
+    public void setUp() throws IOException {
+        mSpillFile = File.createTempFile("gestures", ".log");
+    }
+
+    @After
+    public void tearDown() {
+        assertTrue(mSpillFile.delete());
+    }
+
+    @Test
+    public void dropsOldestEventsOnceFull() {
+        final GestureLog log = new GestureLog(3, GestureLog.NO_RETENTION_LIMIT);
+        log.listener(mListener);
+        for (int i = 0; i < 5; i++) {
+            add(log, i);
+        }
+
+        assertEquals(3, log.size());
+        assertEquals(5, log.count());
+        assertEquals(Arrays.asList("+0x1", "+1x1", "+2x1", "-0x1", "+2x1", "-0x1", "+2x1"), mChanges);
+        assertPage(log, 0, 10, 2, 3, 4);
+    }
+
+    @Test
+    public void spillsEvictedEventsToDisk() throws IOException {
+        try (GestureLog log = new GestureLog(4, GestureLog.NO_RETENTION_LIMIT)) {
+            log.spillTo(mSpillFile, 100);
+            log.listener(mListener);
+            for (int i = 0; i < 50; i++) {
+                add(log, i);
+            }
+
+            assertEquals(50, log.size());
+            assertEquals(50, mChanges.size());
+            assertEquals(46 * GestureLog.RECORD_SIZE, mSpillFile.length());
+            assertPage(log, 0, 8, 0, 1, 2, 3, 4, 5, 6, 7);
+            // Crosses from the file into memory
+            assertPage(log, 44, 8, 44, 45, 46, 47, 48, 49);
+        }
+    }
+
+    @Test
+    public void spillFileIsBoundedToo() throws IOException {
+        try (GestureLog log = new GestureLog(4, GestureLog.NO_RETENTION_LIMIT)) {
+            log.spillTo(mSpillFile, 10);
+            for (int i = 0; i < 37; i++) {
+                add(log, i);
+            }
+
+            assertEquals(14, log.size());
+            assertEquals(10 * GestureLog.RECORD_SIZE, mSpillFile.length());
+            // The oldest records wrap around the end of the file
+            assertPage(log, 0, 14, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36);
+        }
+    }
+
+    @Test
+    public void expiresEventsOutsideTheRetentionWindow() throws IOException {
+        try (GestureLog log = new GestureLog(4, 1000)) {
+            log.spillTo(mSpillFile, 100);
+            for (int i = 0; i < 10; i++) {
+                add(log, i);
+            }
+            log.listener(mListener);
+
+            // Events are 100 ms apart; this one is at 2000 ms
+            add(log, 20);
+            assertEquals(Arrays.asList("-0x10", "+0x1"), mChanges);
+            assertPage(log, 0, 4, 20);
+
+            mChanges.clear();
+            add(log, 21);
+            add(log, 22);
+            log.expire(timeMillis(22));
+            assertEquals(Arrays.asList("+1x1", "+2x1", "-0x2"), mChanges);
+            assertPage(log, 0, 4, 22);
+        }
+    }
+
+    @Test
+    public void clearRemovesEverything() throws IOException {
+        try (GestureLog log = new GestureLog(4, GestureLog.NO_RETENTION_LIMIT)) {
+            log.spillTo(mSpillFile, 100);
+            for (int i = 0; i < 10; i++) {
+                add(log, i);
+            }
+            log.listener(mListener);
+            log.clear();
+            add(log, 10);
+
+            assertEquals(Arrays.asList("-0x10", "+0x1"), mChanges);
+            assertPage(log, 0, 4, 10);
+        }
+    }
+
+    @Test
+    public void pagesKnowWhatTheyHold() {
+        final GestureLog log = new GestureLog(16, GestureLog.NO_RETENTION_LIMIT);
+        for (int i = 0; i < 10; i++) {
+            add(log, i);
+        }
+
+        final GestureLog.Page page = new GestureLog.Page(4);
+        assertEquals(4, log.read(4, page));
+        assertEquals(4, page.position());
+        assertTrue(page.contains(7));
+        assertFalse(page.contains(8));
+        assertEquals(5, page.type(5));
+
+        page.invalidate();
+        assertFalse(page.contains(4));
+    }
+
+    private static long timeMillis(final int i) {
+        return 100L * i;
+    }
+
+    private static void add(final GestureLog log, final int i) {
+        log.add(i, i * 10, timeMillis(i));
+    }
+
+    private static void assertPage(final GestureLog log,
+                                   final int position,
+                                   final int capacity,
+                                   final int... expected) {
+        final GestureLog.Page page = new GestureLog.Page(capacity);
+        assertEquals(expected.length, log.read(position, page));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], page.type(position + i));
+            assertEquals(expected[i] * 10, page.deviceTimestamp(position + i));
+            assertEquals(timeMillis(expected[i]), page.timeMillis(position + i));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+    @Test
+    public void bucketsCoverEveryValueInOrder() {
+        int previous = -1;
+        for (long value = 0; value < 100_000; value++) {
+            final int bucket = LatencyHistogram.bucket(value);
+            assertTrue(bucket == previous || bucket == previous + 1);
+            assertTrue(value <= LatencyHistogram.highestValue(bucket));
+            previous = bucket;
+        }
+    }
+
+    @Test
+    public void bucketsAreNarrow() {
+        for (long value = 1; value < 1L << 35; value = value * 3 + 1) {
+            final long highest = LatencyHistogram.highestValue(LatencyHistogram.bucket(value));
+            assertTrue(value + " in bucket up to " + highest, highest - value <= Math.max(1, value / 16));
+        }
+    }
+
+    @Test
+    public void outOfRangeValuesAreClamped() {
+        assertEquals(0, LatencyHistogram.bucket(-5));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void quantilesOfInterval() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(123_456_789);
+        final LatencyHistogram.Interval interval = histogram.interval();
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        interval.update();
+
+        assertEquals(1000, interval.count());
+        assertEquals(500_000, interval.valueAt(0.5), 500_000 / 16.0);
+        assertEquals(990_000, interval.valueAt(0.99), 990_000 / 16.0);
+        assertEquals(1_000_000, interval.max(), 1_000_000 / 16.0);
+
+        interval.update();
+        assertEquals(0, interval.count());
+        assertEquals(0, interval.valueAt(0.5));
+    }
+
+    @Test
+    public void concurrentRecordingLosesNothing() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i % 50 + offset);
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(400_000, histogram.count());
+    }
+}
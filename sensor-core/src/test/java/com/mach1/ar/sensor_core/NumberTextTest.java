@@ -0,0 +1,62 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class NumberTextTest {
+    @Test
+    public void reportsOnlyChangedText() {
+        final NumberText text = new NumberText();
+        assertTrue(text.decimal(0.1234, 3, ""));
+        assertEquals("0.123", text.toString());
+
+        assertFalse(text.decimal(0.1231, 3, ""));
+        assertTrue(text.decimal(0.1236, 3, ""));
+        assertEquals("0.124", text.toString());
+        assertTrue(text.decimal(-0.1236, 3, ""));
+        assertEquals("-0.124", text.toString());
+    }
+
+    @Test
+    public void neverWritesIntoTheShownBuffer() {
+        final NumberText text = new NumberText();
+        text.integer(1, "");
+        final char[] shown = text.chars();
+
+        assertFalse(text.integer(1, ""));
+        assertSame(shown, text.chars());
+        assertTrue(text.integer(2, ""));
+        assertNotSame(shown, text.chars());
+        assertEquals('1', shown[0]);
+    }
+
+    @Test
+    public void invalidateForcesAChange() {
+        final NumberText text = new NumberText();
+        text.integer(5, " Hz");
+        text.invalidate();
+        assertTrue(text.integer(5, " Hz"));
+        assertEquals("5 Hz", text.toString());
+    }
+
+    @Test
+    public void integerMatchesStringValueOf() {
+        final char[] buffer = new char[DecimalFormatter.BUFFER_SIZE];
+        final long[] edgeCases = { 0, 1, -1, 9, 10, -10, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Long.MAX_VALUE, Long.MIN_VALUE };
+        for (final long value : edgeCases) {
+            assertEquals(value + "°", new String(buffer, 0, DecimalFormatter.format(value, "°", buffer)));
+        }
+
+        final Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            final long value = random.nextLong() >> random.nextInt(64);
+            assertEquals(String.format(Locale.US, "%d Hz", value),
+                new String(buffer, 0, DecimalFormatter.format(value, " Hz", buffer)));
+        }
+    }
+}
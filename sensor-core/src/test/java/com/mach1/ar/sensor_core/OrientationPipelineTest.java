@@ -0,0 +1,129 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class OrientationPipelineTest {
+    private static final int ROTATION = 2;
+    private static final int ACCELERATION = 0;
+    private static final double EPSILON = 1e-3;
+
+    private final List<float[]> mFrames = new ArrayList<>();
+    private final OrientationPipeline mPipeline = new OrientationPipeline(ROTATION, ACCELERATION,
+        (frame, frameTimeMillis, arrivalNanos, convertedNanos) -> mFrames.add(frame.clone()));
+
+    @Test
+    public void translatesIntoListenerFrame() {
+        // The device reports rotations relative to TRANSLATION_Q
+        sample(0, device(30, 0, 0));
+        sample(20, device(0, 20, 0));
+        sample(40, device(0, 0, -10));
+
+        assertAngles(mFrames.get(0), -30, 0, 0);
+        assertAngles(mFrames.get(1), 0, 20, 0);
+        assertAngles(mFrames.get(2), 0, 0, -10);
+        assertEquals(Math.toDegrees(0.1), mFrames.get(0)[SensorFrame.ACCURACY], EPSILON);
+    }
+
+    @Test
+    public void disabledAxesAreZero() {
+        final double[] q = new double[4];
+        Quaternions.fromEuler(Math.toRadians(30), Math.toRadians(-20), Math.toRadians(10), q);
+        mPipeline.axes(false, true, false);
+
+        sample(0, q);
+
+        final float[] frame = mFrames.get(0);
+        assertEquals(0, frame[SensorFrame.YAW], 0);
+        assertNotEquals(0, frame[SensorFrame.PITCH], EPSILON);
+        assertEquals(0, frame[SensorFrame.ROLL], 0);
+    }
+
+    @Test
+    public void bundlesAccelerationWithRotation() {
+        mPipeline.bundled(true);
+
+        mPipeline.onSensorSample(ACCELERATION, 20, 0, 1, 2, 3, Float.NaN, Float.NaN);
+        sample(20, new double[] {0, 0, 0, 1});
+        mPipeline.onSensorSample(7, 40, 0, 0, 0, 0, 1, 0);
+
+        assertEquals(1, mFrames.size());
+        assertEquals(1, mFrames.get(0)[SensorFrame.ACCELERATION_X], 0);
+        assertEquals(3, mFrames.get(0)[SensorFrame.ACCELERATION_Z], 0);
+    }
+
+    @Test
+    public void smoothingIsOptional() {
+        sample(0, device(0, 0, 0));
+        sample(20, device(10, 0, 0));
+        mPipeline.smoothed(true);
+        sample(40, device(10, 0, 0));
+        sample(60, device(20, 0, 0));
+
+        assertAngles(mFrames.get(1), -10, 0, 0);
+        // The filter starts over from the first smoothed rotation
+        assertAngles(mFrames.get(2), -10, 0, 0);
+        final float yaw = mFrames.get(3)[SensorFrame.YAW];
+        assertTrue("Yaw " + yaw, yaw < -10 && yaw > -20);
+    }
+
+    @Test
+    public void smoothingStartsOverAfterASilenceLongerThanAWrap() {
+        mPipeline.smoothed(true);
+        sample(0, 0, device(0, 0, 0));
+        sample(20, 20, device(0, 0, 0));
+
+        // The timestamp reads 20 ms later, but a whole wrap passed in between
+        final long silenceMillis = DeviceClock.TIMESTAMP_PERIOD + 20;
+        sample(40, 20 + silenceMillis, device(90, 0, 0));
+
+        assertAngles(mFrames.get(2), -90, 0, 0);
+    }
+
+    @Test
+    public void resetStartsOverWithAnotherDevice() {
+        mPipeline.smoothed(true);
+        sample(0, 0, device(0, 0, 0));
+        sample(20, 20, device(0, 0, 0));
+
+        // The next device's timestamps happen to be a sample period on
+        mPipeline.reset();
+        sample(40, 40, device(90, 0, 0));
+
+        assertAngles(mFrames.get(2), -90, 0, 0);
+    }
+
+    @Test
+    public void unknownAccuracy() {
+        mPipeline.onSensorSample(ROTATION, 0, 0, 0, 0, 0, 1, Float.NaN);
+
+        assertEquals(SensorFrame.UNKNOWN_ACCURACY, mFrames.get(0)[SensorFrame.ACCURACY], 0);
+    }
+
+    private static double[] device(final double yaw, final double pitch, final double roll) {
+        final double[] q = new double[4];
+        Quaternions.fromEuler(Math.toRadians(yaw), Math.toRadians(pitch), Math.toRadians(roll), q);
+        Quaternions.multiply(q, new double[] {1, 0, 0, 0}, q);
+        return q;
+    }
+
+    private static void assertAngles(final float[] frame, final double yaw, final double pitch, final double roll) {
+        assertEquals(yaw, frame[SensorFrame.YAW], EPSILON);
+        assertEquals(pitch, frame[SensorFrame.PITCH], EPSILON);
+        assertEquals(roll, frame[SensorFrame.ROLL], EPSILON);
+    }
+
+    private void sample(final int timestamp, final double[] q) {
+        sample(timestamp, 0, q);
+    }
+
+    private void sample(final int timestamp, final long receiveMillis, final double[] q) {
+        mPipeline.onSensorSample(ROTATION, timestamp, TimeUnit.MILLISECONDS.toNanos(receiveMillis),
+            (float) q[0], (float) q[1], (float) q[2], (float) q[3], 0.1f);
+    }
+}
@@ -0,0 +1,78 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class OrientationSnapshotTest {
+    @Test
+    public void emptySnapshotHasSequenceZero() {
+        final OrientationSnapshot snapshot = new OrientationSnapshot();
+        final OrientationSnapshot.Sample sample = new OrientationSnapshot.Sample();
+
+        assertEquals(0, snapshot.sequence());
+        assertEquals(0, snapshot.read(sample));
+    }
+
+    @Test
+    public void readReturnsLatestWrite() {
+        final OrientationSnapshot snapshot = new OrientationSnapshot();
+        final OrientationSnapshot.Sample sample = new OrientationSnapshot.Sample();
+
+        snapshot.write(1, 2, 3, 4);
+        final long first = snapshot.read(sample);
+        snapshot.write(5, 6, 7, 8);
+        final long second = snapshot.read(sample);
+
+        assertTrue(second > first);
+        assertEquals(second, sample.sequence());
+        assertEquals(5, sample.yaw(), 0);
+        assertEquals(6, sample.pitch(), 0);
+        assertEquals(7, sample.roll(), 0);
+        assertEquals(8, sample.timestampNanos());
+    }
+
+    @Test
+    public void concurrentReadersNeverSeeTornSamples() throws Exception {
+        final OrientationSnapshot snapshot = new OrientationSnapshot();
+        final int writes = 2_000_000;
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        final Thread[] readers = new Thread[2];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                final OrientationSnapshot.Sample sample = new OrientationSnapshot.Sample();
+                long lastSequence = 0;
+                long lastTimestamp = -1;
+                while (lastTimestamp < writes - 1 && failure.get() == null) {
+                    final long sequence = snapshot.read(sample);
+                    if (sequence == 0) {
+                        continue;
+                    }
+
+                    final long t = sample.timestampNanos();
+                    if (sample.yaw() != t || sample.pitch() != -t || sample.roll() != t * 0.5f) {
+                        failure.set("Torn sample at " + t);
+                    } else if (sequence < lastSequence || t < lastTimestamp) {
+                        failure.set("Went backwards at " + t);
+                    }
+                    lastSequence = sequence;
+                    lastTimestamp = t;
+                }
+            });
+            readers[r].start();
+        }
+
+        for (int i = 0; i < writes; i++) {
+            snapshot.write(i, -i, i * 0.5f, i);
+        }
+        for (final Thread reader : readers) {
+            reader.join(10_000);
+        }
+
+        assertNull(failure.get());
+        assertEquals(2L * writes, snapshot.sequence());
+    }
+}
@@ -0,0 +1,202 @@
+package com.mach1.ar.sensor_core;
+
+import com.mach1.ar.sensor_core.source.MotionProfile;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class QuaternionFilterTest {
+    // Noise of SyntheticSensorSource
+    private static final double ANGLE_NOISE = Math.toRadians(0.05);
+    private static final double SPIN_SPEED = Math.PI / 2;
+    private static final int SETTLE_SAMPLES = 100;
+
+    @Test
+    public void firstRotationPassesUnchanged() {
+        final QuaternionFilter filter = new QuaternionFilter();
+        final double[] q = rotation(30, 10, -5);
+        final double[] expected = q.clone();
+
+        filter.filter(q, 0.02);
+
+        assertArrayEquals(expected, q, 0);
+    }
+
+    @Test
+    public void startsOverAfterAGap() {
+        final QuaternionFilter filter = new QuaternionFilter();
+        filter.filter(rotation(0, 0, 0), 0.02);
+        final double[] q = rotation(90, 0, 0);
+        final double[] expected = q.clone();
+
+        filter.filter(q, QuaternionFilter.MAX_STEP_SECONDS * 2);
+
+        assertArrayEquals(expected, q, 0);
+    }
+
+    @Test
+    public void duplicateTimestampKeepsTheOutput() {
+        final QuaternionFilter filter = new QuaternionFilter();
+        filter.filter(rotation(0, 0, 0), 0.02);
+        final double[] first = rotation(1, 0, 0);
+        filter.filter(first, 0.02);
+
+        // Device timestamps jitter by a millisecond, so two samples may share one
+        final double[] duplicate = rotation(2, 0, 0);
+        filter.filter(duplicate, 0);
+
+        assertArrayEquals(first, duplicate, 0);
+        final double[] next = rotation(1, 0, 0);
+        filter.filter(next, 0.02);
+        assertTrue(QuaternionFilter.angle(rotation(0, 0, 0), next) < Math.toRadians(1));
+    }
+
+    @Test
+    public void negativeStepStartsOver() {
+        final QuaternionFilter filter = new QuaternionFilter();
+        filter.filter(rotation(0, 0, 0), 0.02);
+        final double[] q = rotation(90, 0, 0);
+        final double[] expected = q.clone();
+
+        filter.filter(q, -0.02);
+
+        assertArrayEquals(expected, q, 0);
+    }
+
+    @Test
+    public void ignoresTheSignOfTheQuaternion() {
+        final QuaternionFilter filter = new QuaternionFilter();
+        final double[] reference = rotation(170, 0, 0);
+        for (int i = 0; i < 50; i++) {
+            // q and -q alternate, as a sensor may report them
+            final double[] q = rotation(170, 0, 0);
+            if (i % 2 == 1) {
+                for (int j = 0; j < 4; j++) {
+                    q[j] = -q[j];
+                }
+            }
+            filter.filter(q, 0.02);
+            assertEquals(0, QuaternionFilter.angle(reference, q), 1e-9);
+        }
+    }
+
+    @Test
+    public void reducesJitterAtRest() {
+        final Run raw = run(MotionProfile.STILL, null, 50);
+        final Run filtered = run(MotionProfile.STILL, new QuaternionFilter(), 50);
+
+        assertTrue("Raw " + raw + ", filtered " + filtered, filtered.mRmsError < raw.mRmsError / 2);
+    }
+
+    @Test
+    public void followsFastMotionWithinOneSample() {
+        final int[] ratesHz = { 50, 100 };
+        for (final int rateHz : ratesHz) {
+            final Run filtered = run(MotionProfile.SPIN, new QuaternionFilter(), rateHz);
+            assertTrue(rateHz + " Hz: " + filtered, filtered.latencySeconds() < 1.0 / rateHz);
+        }
+    }
+
+    @Test
+    public void adaptiveCutoffBeatsFixedCutoff() {
+        // Without beta the filter is a plain low pass at the minimum cutoff
+        final QuaternionFilter fixed = new QuaternionFilter(QuaternionFilter.DEFAULT_MIN_CUTOFF_HZ, 0,
+            QuaternionFilter.DEFAULT_SPEED_CUTOFF_HZ);
+        final Run fixedStill = run(MotionProfile.STILL, fixed, 50);
+        final Run fixedSpin = run(MotionProfile.SPIN, fixed, 50);
+        final Run adaptiveStill = run(MotionProfile.STILL, new QuaternionFilter(), 50);
+        final Run adaptiveSpin = run(MotionProfile.SPIN, new QuaternionFilter(), 50);
+
+        // About as smooth at rest, and many times faster when turning
+        assertTrue("Fixed " + fixedStill + ", adaptive " + adaptiveStill,
+            adaptiveStill.mRmsError < fixedStill.mRmsError * 2);
+        assertTrue("Fixed " + fixedSpin + ", adaptive " + adaptiveSpin,
+            adaptiveSpin.latencySeconds() * 5 < fixedSpin.latencySeconds());
+    }
+
+    @Test
+    public void turnsThroughHalfTurnWithoutJumps() {
+        final QuaternionFilter filter = new QuaternionFilter();
+        final double[] angles = new double[3];
+        final double[] previous = new double[4];
+        final int rateHz = 50;
+        // SPIN crosses ±180° at two seconds
+        for (int i = 0; i < 3 * rateHz; i++) {
+            MotionProfile.SPIN.angles((double) i / rateHz, angles);
+            final double[] q = new double[4];
+            Quaternions.fromEuler(angles[0], angles[1], angles[2], q);
+            filter.filter(q, 1.0 / rateHz);
+
+            if (i > 0) {
+                assertEquals(SPIN_SPEED / rateHz, QuaternionFilter.angle(previous, q), SPIN_SPEED / rateHz);
+            }
+            System.arraycopy(q, 0, previous, 0, 4);
+        }
+    }
+
+    /**
+     * Filters 20 seconds of noisy samples of {@code profile} and compares them with the motion
+     * without noise.
+     */
+    private static Run run(final MotionProfile profile, final QuaternionFilter filter, final int rateHz) {
+        final Random random = new Random(25);
+        final double[] angles = new double[3];
+        final double[] truth = new double[4];
+        final double[] q = new double[4];
+        double sumError = 0;
+        double sumSquaredError = 0;
+        int count = 0;
+        for (int i = 0; i < 20 * rateHz; i++) {
+            profile.angles((double) i / rateHz, angles);
+            Quaternions.fromEuler(angles[0], angles[1], angles[2], truth);
+            Quaternions.fromEuler(
+                angles[0] + random.nextGaussian() * ANGLE_NOISE,
+                angles[1] + random.nextGaussian() * ANGLE_NOISE,
+                angles[2] + random.nextGaussian() * ANGLE_NOISE,
+                q);
+            if (filter != null) {
+                filter.filter(q, 1.0 / rateHz);
+            }
+
+            if (i >= SETTLE_SAMPLES) {
+                final double error = QuaternionFilter.angle(truth, q);
+                sumError += error;
+                sumSquaredError += error * error;
+                count += 1;
+            }
+        }
+        return new Run(sumError / count, Math.sqrt(sumSquaredError / count));
+    }
+
+    private static double[] rotation(final double yaw, final double pitch, final double roll) {
+        final double[] q = new double[4];
+        Quaternions.fromEuler(Math.toRadians(yaw), Math.toRadians(pitch), Math.toRadians(roll), q);
+        return q;
+    }
+
+    private static final class Run {
+        final double mMeanError;
+        final double mRmsError;
+
+        Run(final double meanError, final double rmsError) {
+            mMeanError = meanError;
+            mRmsError = rmsError;
+        }
+
+        /**
+         * @return how far the output trails a spin, in seconds
+         */
+        double latencySeconds() {
+            return mMeanError / SPIN_SPEED;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean error %.4f°, rms %.4f°, spin latency %.1f ms",
+                Math.toDegrees(mMeanError), Math.toDegrees(mRmsError), latencySeconds() * 1000);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class QuaternionsTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void multiplyByIdentity() {
+        final double[] q = {0.1, 0.2, 0.3, 0.9};
+        Quaternions.normalize(q);
+        final double[] out = new double[4];
+
+        Quaternions.multiply(q, new double[] {0, 0, 0, 1}, out);
+
+        assertArrayEquals(q, out, EPSILON);
+    }
+
+    @Test
+    public void multiplyIntoInput() {
+        final double[] a = {0.1, 0.2, 0.3, 0.9};
+        final double[] b = {-0.4, 0.1, 0.2, 0.8};
+        final double[] expected = new double[4];
+        Quaternions.multiply(a, b, expected);
+
+        Quaternions.multiply(a, b, a);
+
+        assertArrayEquals(expected, a, EPSILON);
+    }
+
+    @Test
+    public void fromEulerComposesSingleAxisRotations() {
+        final double yaw = Math.toRadians(40);
+        final double pitch = Math.toRadians(-25);
+        final double roll = Math.toRadians(10);
+
+        final double[] expected = new double[4];
+        Quaternions.fromEuler(yaw, 0, 0, expected);
+        final double[] single = new double[4];
+        Quaternions.fromEuler(0, pitch, 0, single);
+        Quaternions.multiply(expected, single, expected);
+        Quaternions.fromEuler(0, 0, roll, single);
+        Quaternions.multiply(expected, single, expected);
+
+        final double[] q = new double[4];
+        Quaternions.fromEuler(yaw, pitch, roll, q);
+
+        assertArrayEquals(expected, q, EPSILON);
+    }
+
+    @Test
+    public void fromEulerSingleAxes() {
+        final double angle = Math.toRadians(30);
+        final double s = Math.sin(angle / 2);
+        final double c = Math.cos(angle / 2);
+        final double[] q = new double[4];
+
+        Quaternions.fromEuler(angle, 0, 0, q);
+        assertArrayEquals(new double[] {0, 0, s, c}, q, EPSILON);
+
+        Quaternions.fromEuler(0, angle, 0, q);
+        assertArrayEquals(new double[] {s, 0, 0, c}, q, EPSILON);
+
+        Quaternions.fromEuler(0, 0, angle, q);
+        assertArrayEquals(new double[] {0, s, 0, c}, q, EPSILON);
+    }
+
+    @Test
+    public void upFollowsPitch() {
+        final double[] q = new double[4];
+        final double[] up = new double[3];
+
+        Quaternions.fromEuler(Math.toRadians(70), 0, 0, q);
+        Quaternions.up(q, up);
+        assertArrayEquals(new double[] {0, 0, 1}, up, EPSILON);
+
+        Quaternions.fromEuler(0, Math.PI / 2, 0, q);
+        Quaternions.up(q, up);
+        assertArrayEquals(new double[] {0, 1, 0}, up, EPSILON);
+    }
+}
@@ -0,0 +1,96 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SampleQueueTest {
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, new SampleQueue(1, 3).capacity());
+        assertEquals(2, new SampleQueue(2, 3).capacity());
+        assertEquals(64, new SampleQueue(64, 3).capacity());
+        assertEquals(128, new SampleQueue(65, 3).capacity());
+    }
+
+    @Test
+    public void offerRefusesWhenFull() {
+        final SampleQueue queue = new SampleQueue(4, 3);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i, i, i, i));
+        }
+        assertFalse(queue.offer(9, 9, 9, 9));
+        assertEquals(4, queue.size());
+
+        final float[] out = new float[3];
+        assertEquals(0, queue.poll(out, 0));
+        assertTrue(queue.offer(4, 4, 4, 4));
+    }
+
+    @Test
+    public void recordsComeOutInOrderAcrossWraparound() {
+        final SampleQueue queue = new SampleQueue(4, 2);
+        final float[] in = new float[2];
+        final float[] out = new float[2];
+        for (int i = 0; i < 100; i++) {
+            in[0] = i;
+            in[1] = -i;
+            assertTrue(queue.offer(in, 0, i * 10L));
+            assertEquals(i * 10L, queue.poll(out, 0));
+            assertEquals(i, out[0], 0);
+            assertEquals(-i, out[1], 0);
+        }
+        assertTrue(queue.isEmpty());
+        assertEquals(Long.MIN_VALUE, queue.poll(out, 0));
+    }
+
+    @Test
+    public void originTravelsWithRecord() {
+        final SampleQueue queue = new SampleQueue(4, 1);
+        queue.offer(new float[] { 1f }, 0, 10, 20, 5);
+        queue.offer(new float[] { 2f }, 0, 11, 21);
+
+        final float[] out = new float[1];
+        assertEquals(10, queue.poll(out, 0));
+        assertEquals(20, queue.polledTag());
+        assertEquals(5, queue.polledOrigin());
+        assertEquals(11, queue.poll(out, 0));
+        assertEquals(11, queue.polledOrigin());
+    }
+
+    @Test
+    public void producerAndConsumerThreadsAgree() throws Exception {
+        final SampleQueue queue = new SampleQueue(16, 3);
+        final int count = 100_000;
+        final long[] received = new long[1];
+
+        final Thread consumer = new Thread(() -> {
+            final float[] out = new float[3];
+            long expected = 0;
+            while (expected < count) {
+                final long timestamp = queue.poll(out, 0);
+                if (timestamp == Long.MIN_VALUE) {
+                    Thread.yield();
+                    continue;
+                }
+                if (timestamp != expected || out[0] != (float) expected || out[2] != -(float) expected) {
+                    break;
+                }
+                expected++;
+            }
+            received[0] = expected;
+        });
+        consumer.start();
+
+        for (long i = 0; i < count; ) {
+            if (queue.offer(i, 0, -i, i)) {
+                i++;
+            } else {
+                Thread.yield();
+            }
+        }
+        consumer.join(10_000);
+
+        assertEquals(count, received[0]);
+    }
+}
@@ -0,0 +1,142 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SendThrottleTest {
+    private static final long MS = 1_000_000;
+
+    @Test
+    public void unthrottledSendsEverything() {
+        final SendThrottle throttle = new SendThrottle();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(throttle.accept(frame(0, 0, 0), i * 20 * MS));
+        }
+        assertEquals(0, throttle.reduction(), 0);
+    }
+
+    @Test
+    public void windowReportsTheRecentReduction() {
+        final SendThrottle throttle = new SendThrottle();
+        throttle.policy(new SendPolicy(0, 0, 25));
+        final SendThrottle.Window window = throttle.window();
+        window.update(0);
+
+        // One second at 50 Hz through a 25 Hz cap
+        for (int i = 0; i < 50; i++) {
+            throttle.accept(frame(i, 0, 0), i * 20 * MS);
+        }
+        window.update(1000 * MS);
+
+        assertEquals(50, window.inputRate(), 1e-9);
+        assertEquals(25, window.outputRate(), 1);
+        assertEquals(0.5, window.reduction(), 0.02);
+        final float[] values = new float[SendThrottle.Window.VALUE_COUNT];
+        window.write(values, 0);
+        assertEquals(50, values[0], 1e-3);
+
+        // Nothing arrives in the next one
+        window.update(2000 * MS);
+        assertEquals(0, window.inputRate(), 0);
+        assertEquals(0, window.reduction(), 0);
+    }
+
+    @Test
+    public void deadbandSuppressesSmallChanges() {
+        final SendThrottle throttle = new SendThrottle();
+        throttle.policy(new SendPolicy(0.5f, 0, 0));
+
+        assertTrue(throttle.accept(frame(10, 0, 0), 0));
+        assertFalse(throttle.accept(frame(10.4f, 0.4f, -0.4f), 20 * MS));
+        assertTrue(throttle.accept(frame(10, 0.6f, 0), 40 * MS));
+        // Compared against the last sent frame, not the last seen one
+        assertFalse(throttle.accept(frame(10, 0.2f, 0), 60 * MS));
+        assertTrue(throttle.accept(frame(10, 0, 0), 80 * MS));
+    }
+
+    @Test
+    public void deadbandWrapsYawAroundHalfTurn() {
+        final SendThrottle throttle = new SendThrottle();
+        throttle.policy(new SendPolicy(0.5f, 0, 0));
+
+        assertTrue(throttle.accept(frame(179.9f, 0, 0), 0));
+        assertFalse(throttle.accept(frame(-179.9f, 0, 0), 20 * MS));
+        assertTrue(throttle.accept(frame(-179f, 0, 0), 40 * MS));
+    }
+
+    @Test
+    public void keepAliveSendsWhileIdle() {
+        final SendThrottle throttle = new SendThrottle();
+        throttle.policy(new SendPolicy(1f, 100, 0));
+
+        assertTrue(throttle.accept(frame(0, 0, 0), 0));
+        assertFalse(throttle.accept(frame(0, 0, 0), 50 * MS));
+        assertTrue(throttle.accept(frame(0, 0, 0), 100 * MS));
+        assertFalse(throttle.accept(frame(0, 0, 0), 150 * MS));
+    }
+
+    @Test
+    public void rateCapLimitsFastMotion() {
+        final SendThrottle throttle = new SendThrottle();
+        throttle.policy(new SendPolicy(0, 0, 25));
+
+        int sent = 0;
+        for (int i = 0; i < 100; i++) {
+            // 100 Hz of fast motion
+            if (throttle.accept(frame(i, i, i), i * 10 * MS)) {
+                sent++;
+            }
+        }
+
+        assertEquals(25, sent);
+        assertEquals(0.75, throttle.reduction(), 1e-9);
+        assertEquals(100, throttle.inputRate(1000 * MS), 1e-9);
+        assertEquals(25, throttle.outputRate(1000 * MS), 1e-9);
+    }
+
+    @Test
+    public void rateCapAtTheStreamRatePassesJitteredArrivals() {
+        final SendThrottle throttle = new SendThrottle();
+        // The adaptive policy of basic-example
+        throttle.policy(new SendPolicy(0.1f, 500, 50));
+
+        final Random random = new Random(7);
+        final int count = 1000;
+        int sent = 0;
+        for (int i = 0; i < count; i++) {
+            // 50 Hz of motion, each frame up to 15 ms late, so that many arrive closer than 20 ms
+            final long arrival = i * 20 * MS + random.nextInt(15) * MS;
+            if (throttle.accept(frame(i * 0.5f, 0, 0), arrival)) {
+                sent++;
+            }
+        }
+
+        assertTrue("Sent " + sent, sent >= count * 0.99);
+    }
+
+    @Test
+    public void rateCapAllowsOnlyShortBursts() {
+        final SendThrottle throttle = new SendThrottle();
+        throttle.policy(new SendPolicy(0, 0, 50));
+
+        assertTrue(throttle.accept(frame(0, 0, 0), 0));
+        // Credit for two frames builds up, but no more
+        for (int i = 0; i < SendThrottle.MAX_BURST; i++) {
+            assertTrue(throttle.accept(frame(0, 0, 0), 100 * MS));
+        }
+        assertFalse(throttle.accept(frame(0, 0, 0), 100 * MS));
+        assertFalse(throttle.accept(frame(0, 0, 0), 110 * MS));
+        assertTrue(throttle.accept(frame(0, 0, 0), 120 * MS));
+    }
+
+    private static float[] frame(final float yaw, final float pitch, final float roll) {
+        final float[] frame = new float[SensorFrame.WIDTH];
+        frame[SensorFrame.YAW] = yaw;
+        frame[SensorFrame.PITCH] = pitch;
+        frame[SensorFrame.ROLL] = roll;
+        return frame;
+    }
+}
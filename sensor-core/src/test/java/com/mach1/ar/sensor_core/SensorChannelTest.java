@@ -0,0 +1,219 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SensorChannelTest {
+    @Test
+    public void latestDeliversOnlyTheNewestValue() {
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        final ManualExecutor executor = new ManualExecutor();
+        final List<Integer> received = new ArrayList<>();
+        channel.subscribe(SensorChannel.Delivery.LATEST, executor, received::add);
+
+        channel.publish(1);
+        channel.publish(2);
+        channel.publish(3);
+        assertEquals(1, executor.pending());
+
+        executor.runAll();
+        assertEquals(Arrays.asList(3), received);
+    }
+
+    @Test
+    public void boundedDropsWhileFull() {
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        final ManualExecutor executor = new ManualExecutor();
+        final List<Integer> received = new ArrayList<>();
+        final SensorChannel.Subscription<Integer> subscription =
+            channel.subscribe(SensorChannel.Delivery.bounded(2), executor, received::add);
+
+        for (int i = 1; i <= 4; i++) {
+            channel.publish(i);
+        }
+        executor.runAll();
+        channel.publish(5);
+        executor.runAll();
+
+        assertEquals(Arrays.asList(1, 2, 5), received);
+        assertEquals(2, subscription.droppedCount());
+    }
+
+    @Test
+    public void everySampleDeliversAllInOrder() {
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        final ManualExecutor executor = new ManualExecutor();
+        final List<Integer> received = new ArrayList<>();
+        channel.subscribe(SensorChannel.Delivery.EVERY_SAMPLE, executor, received::add);
+
+        for (int i = 1; i <= 100; i++) {
+            channel.publish(i);
+        }
+        assertEquals(1, executor.pending());
+        executor.runAll();
+
+        assertEquals(100, received.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, (int) received.get(i));
+        }
+    }
+
+    @Test
+    public void subscribersChooseTheirOwnDelivery() {
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        final ManualExecutor executor = new ManualExecutor();
+        final List<Integer> latest = new ArrayList<>();
+        final List<Integer> every = new ArrayList<>();
+        channel.subscribe(SensorChannel.Delivery.LATEST, executor, latest::add);
+        channel.subscribe(SensorChannel.Delivery.EVERY_SAMPLE, Runnable::run, every::add);
+
+        channel.publish(1);
+        channel.publish(2);
+        executor.runAll();
+
+        assertEquals(Arrays.asList(2), latest);
+        assertEquals(Arrays.asList(1, 2), every);
+    }
+
+    @Test
+    public void newSubscribersReceiveTheLatestValue() {
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        channel.publish(7);
+
+        final List<Integer> received = new ArrayList<>();
+        channel.subscribe(SensorChannel.Delivery.LATEST, Runnable::run, received::add);
+        assertEquals(Arrays.asList(7), received);
+
+        channel.clear();
+        final List<Integer> late = new ArrayList<>();
+        channel.subscribe(SensorChannel.Delivery.LATEST, Runnable::run, late::add);
+        assertTrue(late.isEmpty());
+    }
+
+    @Test
+    public void cancelStopsPendingAndFutureDeliveries() {
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        final ManualExecutor executor = new ManualExecutor();
+        final List<Integer> received = new ArrayList<>();
+        final SensorChannel.Subscription<Integer> subscription =
+            channel.subscribe(SensorChannel.Delivery.EVERY_SAMPLE, executor, received::add);
+
+        channel.publish(1);
+        subscription.cancel();
+        channel.publish(2);
+        executor.runAll();
+
+        assertTrue(received.isEmpty());
+        assertEquals(0, channel.subscriberCount());
+    }
+
+    @Test
+    public void observerIsNeverCalledConcurrentlyOnAThreadPool() throws Exception {
+        final int count = 200_000;
+        final SensorChannel<Integer> channel = new SensorChannel<>();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final AtomicInteger insideEvery = new AtomicInteger();
+        final AtomicInteger insideLatest = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger latest = new AtomicInteger(-1);
+        try {
+            channel.subscribe(SensorChannel.Delivery.EVERY_SAMPLE, pool, value -> {
+                if (insideEvery.incrementAndGet() != 1) {
+                    overlaps.incrementAndGet();
+                }
+                if (value != next.getAndIncrement()) {
+                    outOfOrder.incrementAndGet();
+                }
+                insideEvery.decrementAndGet();
+            });
+            channel.subscribe(SensorChannel.Delivery.LATEST, pool, value -> {
+                if (insideLatest.incrementAndGet() != 1) {
+                    overlaps.incrementAndGet();
+                }
+                latest.set(value);
+                insideLatest.decrementAndGet();
+            });
+
+            for (int i = 0; i < count; i++) {
+                channel.publish(i);
+            }
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while ((next.get() < count || latest.get() != count - 1) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(count, next.get());
+        assertEquals(count - 1, latest.get());
+        assertEquals(0, outOfOrder.get());
+        assertEquals(0, overlaps.get());
+    }
+
+    @Test
+    public void valuePublishedWhileSubscribingIsNotMissed() throws Exception {
+        final SensorChannel.Delivery[] deliveries = {
+            SensorChannel.Delivery.LATEST, SensorChannel.Delivery.EVERY_SAMPLE
+        };
+        final ExecutorService producer = Executors.newSingleThreadExecutor();
+        try {
+            for (final SensorChannel.Delivery delivery : deliveries) {
+                final SensorChannel<Integer> channel = new SensorChannel<>();
+                channel.publish(1);
+
+                // The first delivery has the producer publish again, while subscribe() runs,
+                // and then goes quiet
+                final List<Integer> received = new ArrayList<>();
+                channel.subscribe(delivery, Runnable::run, value -> {
+                    if (received.isEmpty()) {
+                        final Future<?> published = producer.submit(() -> channel.publish(2));
+                        try {
+                            published.get(10, TimeUnit.SECONDS);
+                        } catch (final Exception e) {
+                            throw new AssertionError(e);
+                        }
+                    }
+                    received.add(value);
+                });
+
+                assertEquals(delivery.toString(), Arrays.asList(1, 2), received);
+            }
+        } finally {
+            producer.shutdown();
+        }
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final List<Runnable> mTasks = new ArrayList<>();
+
+        @Override
+        public void execute(final Runnable task) {
+            mTasks.add(task);
+        }
+
+        int pending() {
+            return mTasks.size();
+        }
+
+        void runAll() {
+            while (!mTasks.isEmpty()) {
+                mTasks.remove(0).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class SensorHistoryTest {
+    @Test
+    public void snapshotIsOldestFirst() {
+        final SensorHistory history = new SensorHistory(8);
+        for (int i = 0; i < 5; i++) {
+            add(history, i);
+        }
+
+        final SensorHistory.Snapshot snapshot = history.newSnapshot();
+        assertEquals(5, history.snapshot(snapshot));
+        assertEquals(0, snapshot.firstSequence());
+        for (int i = 0; i < 5; i++) {
+            assertSample(snapshot, i, i);
+        }
+    }
+
+    @Test
+    public void oldestSamplesAreReplacedOnceFull() {
+        final SensorHistory history = new SensorHistory(8);
+        for (int i = 0; i < 21; i++) {
+            add(history, i);
+        }
+
+        final SensorHistory.Snapshot snapshot = history.newSnapshot();
+        assertEquals(8, history.snapshot(snapshot));
+        assertEquals(21, history.count());
+        assertEquals(13, snapshot.firstSequence());
+        for (int i = 0; i < 8; i++) {
+            assertSample(snapshot, i, 13 + i);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSmallerSnapshots() {
+        new SensorHistory(8).snapshot(new SensorHistory.Snapshot(4));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsIndexesPastTheEnd() {
+        final SensorHistory history = new SensorHistory(8);
+        add(history, 0);
+        final SensorHistory.Snapshot snapshot = history.newSnapshot();
+        history.snapshot(snapshot);
+        snapshot.x(1);
+    }
+
+    @Test
+    public void findsSamplesByReceiveTime() {
+        final SensorHistory history = new SensorHistory(100);
+        for (int i = 0; i < 250; i++) {
+            add(history, i);
+        }
+
+        final SensorHistory.Snapshot snapshot = history.newSnapshot();
+        history.snapshot(snapshot);
+        // Samples are 10 ms apart; the newest is 249
+        assertEquals(0, snapshot.indexAtOrAfter(0));
+        assertEquals(50, snapshot.indexAtOrAfter(receiveNanos(200)));
+        assertEquals(51, snapshot.indexAtOrAfter(receiveNanos(200) + 1));
+        assertEquals(100, snapshot.indexAtOrAfter(receiveNanos(250)));
+        assertEquals(99 - 50, snapshot.indexOfLast(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void forDurationHoldsEnoughSamples() {
+        assertEquals(2000, SensorHistory.forDuration(10, 200).capacity());
+    }
+
+    @Test
+    public void snapshotsNeverHoldTornSamples() throws Exception {
+        final SensorHistory history = new SensorHistory(64);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread writer = new Thread(() -> {
+            int i = 0;
+            while (running.get()) {
+                add(history, i++);
+            }
+        });
+        writer.start();
+
+        final SensorHistory.Snapshot snapshot = history.newSnapshot();
+        try {
+            for (int round = 0; round < 20_000; round++) {
+                history.snapshot(snapshot);
+                for (int i = 0; i < snapshot.size(); i++) {
+                    assertSample(snapshot, i, (int) (snapshot.firstSequence() + i));
+                }
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    private static long receiveNanos(final int i) {
+        return TimeUnit.MILLISECONDS.toNanos(10) * i;
+    }
+
+    private static void add(final SensorHistory history, final int i) {
+        history.add(i, receiveNanos(i), i, i + 1, i + 2, -i, i * 0.5f);
+    }
+
+    private static void assertSample(final SensorHistory.Snapshot snapshot, final int index, final int i) {
+        assertEquals(i, snapshot.deviceTimestamp(index));
+        assertEquals(receiveNanos(i), snapshot.receiveNanos(index));
+        assertEquals(i, snapshot.x(index), 0);
+        assertEquals(i + 1, snapshot.y(index), 0);
+        assertEquals(i + 2, snapshot.z(index), 0);
+        assertEquals(-i, snapshot.w(index), 0);
+        assertEquals(i * 0.5f, snapshot.accuracy(index), 0);
+    }
+}
@@ -0,0 +1,150 @@
+package com.mach1.ar.sensor_core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SensorStatsTest {
+    private static final long START_NANOS = TimeUnit.SECONDS.toNanos(100);
+    private static final int PERIOD_MILLIS = 20;
+    private static final long PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(PERIOD_MILLIS);
+
+    private SensorStats mStats;
+    private SensorStats.Window mWindow;
+
+    @Before
+    public void setUp() {
+        mStats = new SensorStats();
+        mWindow = mStats.window();
+        mWindow.update(START_NANOS);
+    }
+
+    @Test
+    public void steadyStreamHasItsRateAndNoJitter() {
+        for (int i = 0; i < 50; i++) {
+            record(i, START_NANOS + i * PERIOD_NANOS);
+        }
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(50, mWindow.count());
+        assertEquals(50, mWindow.rateHz(), 1e-9);
+        assertWithinBucket(PERIOD_NANOS, mWindow.intervalNanos(0.5));
+        assertWithinBucket(PERIOD_NANOS, mWindow.intervalNanos(0.99));
+        assertEquals(0, mWindow.lostCount());
+    }
+
+    @Test
+    public void burstsShowUpAsJitter() {
+        // Pairs of samples arrive together, as when two BLE packets share a connection event
+        for (int i = 0; i < 50; i++) {
+            record(i, START_NANOS + (i / 2) * 2 * PERIOD_NANOS);
+        }
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(0, mWindow.intervalNanos(0.5));
+        assertWithinBucket(2 * PERIOD_NANOS, mWindow.intervalNanos(0.99));
+        assertEquals(0, mWindow.lostCount());
+    }
+
+    @Test
+    public void deviceTimestampsRevealLostSamples() {
+        mStats.samplePeriodMillis(PERIOD_MILLIS);
+        long now = START_NANOS;
+        for (int i = 0; i < 50; i++) {
+            if (i % 10 == 5 || i == 20 || i == 21) {
+                continue;
+            }
+            now += PERIOD_NANOS;
+            record(i, now);
+        }
+        mWindow.update(now);
+
+        // 5, 15, 20, 21, 25, 35 and 45
+        assertEquals(7, mWindow.lostCount());
+        assertEquals(7, mStats.lostCount());
+    }
+
+    @Test
+    public void lostSamplesAreFoundWithoutTheSamplePeriod() {
+        for (int i = 0; i < 20; i++) {
+            if (i != 10) {
+                record(i, START_NANOS + i * PERIOD_NANOS);
+            }
+        }
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(1, mWindow.lostCount());
+    }
+
+    @Test
+    public void lostSamplesAreFoundAcrossTimestampWraps() {
+        mStats.samplePeriodMillis(PERIOD_MILLIS);
+        final int first = FrameAssembler.TIMESTAMP_PERIOD / PERIOD_MILLIS - 3;
+        for (int i = first; i < first + 10; i++) {
+            if (i != first + 5) {
+                record(i, START_NANOS + (i - first) * PERIOD_NANOS);
+            }
+        }
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(1, mWindow.lostCount());
+    }
+
+    @Test
+    public void maxGapIncludesAStalledSensor() {
+        record(0, START_NANOS);
+        record(1, START_NANOS + PERIOD_NANOS);
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(TimeUnit.SECONDS.toNanos(1) - PERIOD_NANOS, mWindow.maxGapNanos());
+    }
+
+    @Test
+    public void windowsOnlySeeTheirOwnSamples() {
+        for (int i = 0; i < 10; i++) {
+            record(i, START_NANOS + i * PERIOD_NANOS);
+        }
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(1));
+        mWindow.update(START_NANOS + TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(0, mWindow.count());
+        assertEquals(0, mWindow.rateHz(), 0);
+        assertEquals(0, mWindow.intervalNanos(0.5));
+        assertEquals(10, mStats.count());
+    }
+
+    @Test
+    public void resetStartsOverWithAnotherDevice() {
+        mStats.samplePeriodMillis(PERIOD_MILLIS);
+        for (int i = 0; i < 10; i++) {
+            if (i != 5) {
+                record(i, START_NANOS + i * PERIOD_NANOS);
+            }
+        }
+
+        // Half a second later another device connects, its timestamps far from the first one's
+        mStats.reset();
+        final long second = START_NANOS + TimeUnit.MILLISECONDS.toNanos(500);
+        for (int i = 0; i < 10; i++) {
+            record(2000 + i, second + i * PERIOD_NANOS);
+        }
+        mWindow.update(second + TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(19, mWindow.count());
+        assertEquals(1, mWindow.lostCount());
+        assertEquals(1, mStats.lostCount());
+        // The time between the devices is no interval between samples; the longest is the loss
+        assertWithinBucket(2 * PERIOD_NANOS, mWindow.intervalNanos(1));
+    }
+
+    private void record(final int sample, final long receiveNanos) {
+        mStats.record((sample * PERIOD_MILLIS) & (FrameAssembler.TIMESTAMP_PERIOD - 1), receiveNanos);
+    }
+
+    private static void assertWithinBucket(final long expected, final long actual) {
+        assertTrue(actual + " for " + expected, actual >= expected && actual <= expected * 1.07);
+    }
+}
@@ -0,0 +1,89 @@
+package com.mach1.ar.sensor_core.osc;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class DestinationResolverTest {
+    @Test
+    public void parseAddressesUsesDefaultPort() {
+        final List<InetSocketAddress> addresses =
+            DestinationResolver.parseAddresses(" 127.0.0.1, 127.0.0.2:9000  [::1]:9100 ::1 ", 9898);
+
+        assertEquals(4, addresses.size());
+        assertEquals(new InetSocketAddress("127.0.0.1", 9898), addresses.get(0));
+        assertEquals(new InetSocketAddress("127.0.0.2", 9000), addresses.get(1));
+        assertEquals(new InetSocketAddress("::1", 9100), addresses.get(2));
+        assertEquals(new InetSocketAddress("::1", 9898), addresses.get(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseAddressesRejectsBadPort() {
+        DestinationResolver.parseAddresses("127.0.0.1:port", 9898);
+    }
+
+    @Test
+    public void requestsAreDebounced() throws Exception {
+        final Recorder recorder = new Recorder(1);
+        final DestinationResolver resolver = new DestinationResolver(recorder, 100);
+        try {
+            resolver.request("127.0.0.1", "9");
+            resolver.request("127.0.0.1", "98");
+            resolver.request("127.0.0.1", "989");
+            assertTrue(recorder.mDone.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+
+            assertEquals(1, recorder.mResolved.size());
+            assertEquals(new InetSocketAddress("127.0.0.1", 989), recorder.mResolved.get(0).get(0));
+            assertTrue(recorder.mFailed.isEmpty());
+        } finally {
+            resolver.shutdown();
+        }
+    }
+
+    @Test
+    public void reportsBadInput() throws Exception {
+        final Recorder recorder = new Recorder(1);
+        final DestinationResolver resolver = new DestinationResolver(recorder, 0);
+        try {
+            resolver.request("127.0.0.1", "port");
+            assertTrue(recorder.mDone.await(5, TimeUnit.SECONDS));
+
+            assertEquals(1, recorder.mFailed.size());
+            assertEquals("127.0.0.1", recorder.mFailed.get(0));
+            assertTrue(recorder.mResolved.isEmpty());
+        } finally {
+            resolver.shutdown();
+        }
+    }
+
+    private static class Recorder implements DestinationResolver.Listener {
+        final List<List<InetSocketAddress>> mResolved = new ArrayList<>();
+        final List<String> mFailed = new ArrayList<>();
+        final CountDownLatch mDone;
+
+        Recorder(final int count) {
+            mDone = new CountDownLatch(count);
+        }
+
+        @Override
+        public synchronized void onResolved(@NonNull final List<InetSocketAddress> addresses) {
+            mResolved.add(addresses);
+            mDone.countDown();
+        }
+
+        @Override
+        public synchronized void onResolveFailed(@NonNull final String hosts, @NonNull final Exception error) {
+            mFailed.add(hosts);
+            mDone.countDown();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.mach1.ar.sensor_core.osc;
+
+import com.mach1.ar.sensor_core.PipelineLatency;
+import com.mach1.ar.sensor_core.SendThrottle;
+import com.mach1.ar.sensor_core.SensorFrame;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class OrientationSenderTest {
+    @Test
+    public void publishReachesEveryDestination() throws Exception {
+        try (DatagramChannel first = open(); DatagramChannel second = open()) {
+            final OrientationSender sender = new OrientationSender();
+            sender.addresses(Arrays.asList(
+                (InetSocketAddress) first.getLocalAddress(),
+                (InetSocketAddress) second.getLocalAddress()));
+            sender.start();
+            try {
+                sender.publish(new float[] { 10f, 20f, 30f, 0f, 0f, 1f, 2f }, 0);
+
+                final byte[] expected = bytes(OscMessageEncoder.orientation().encode(10f, 20f, 30f));
+                assertArrayEquals(expected, receive(first));
+                assertArrayEquals(expected, receive(second));
+            } finally {
+                sender.stop();
+            }
+        }
+    }
+
+    @Test
+    public void bundleFormatSendsTimetaggedFrame() throws Exception {
+        try (DatagramChannel receiver = open()) {
+            final OrientationSender sender = new OrientationSender();
+            sender.format(OscFormat.BUNDLE);
+            sender.addresses(Arrays.asList((InetSocketAddress) receiver.getLocalAddress()));
+            sender.start();
+            try {
+                final float[] frame = { 1f, 2f, 3f, 4f, 5f, 6f, 7f };
+                sender.publish(frame, 1_600_000_000_123L);
+
+                final byte[] expected = bytes(OscBundleEncoder.sensorFrame()
+                    .encode(OscTimetag.fromMillis(1_600_000_000_123L), frame, 0));
+                assertArrayEquals(expected, receive(receiver));
+            } finally {
+                sender.stop();
+            }
+        }
+    }
+
+    @Test
+    public void fullQueueDropsOnlyForThatDestination() throws Exception {
+        try (DatagramChannel receiver = open()) {
+            final OscDestination stalled = new OscDestination(
+                new OscOutput((InetSocketAddress) receiver.getLocalAddress()), 4, Thread::new);
+            // Not started, so nothing drains its queue
+            final float[] frame = new float[SensorFrame.WIDTH];
+            for (int i = 0; i < 10; i++) {
+                stalled.offer(frame, System.nanoTime(), OscTimetag.IMMEDIATELY);
+            }
+
+            assertEquals(4, stalled.queueDepth());
+            assertEquals(6, stalled.droppedCount());
+            assertEquals(0, stalled.sentCount());
+            stalled.stop();
+        }
+    }
+
+    @Test
+    public void addressesKeepsUnchangedDestinations() throws Exception {
+        try (DatagramChannel first = open(); DatagramChannel second = open(); DatagramChannel third = open()) {
+            final InetSocketAddress firstAddress = (InetSocketAddress) first.getLocalAddress();
+            final InetSocketAddress secondAddress = (InetSocketAddress) second.getLocalAddress();
+            final InetSocketAddress thirdAddress = (InetSocketAddress) third.getLocalAddress();
+            final OrientationSender sender = new OrientationSender();
+            sender.addresses(Arrays.asList(firstAddress, secondAddress));
+            final List<OscDestination> before = sender.destinations();
+
+            sender.addresses(Arrays.asList(firstAddress, thirdAddress));
+            final List<OscDestination> after = sender.destinations();
+
+            assertEquals(2, after.size());
+            assertSame(before.get(0), after.get(0));
+            // The destination for the dropped address is reused for the new one
+            assertSame(before.get(1), after.get(1));
+            assertEquals(thirdAddress, after.get(1).address());
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void addressChangeKeepsQueuedFrames() throws Exception {
+        try (DatagramChannel first = open(); DatagramChannel second = open()) {
+            final OscDestination destination = new OscDestination(
+                new OscOutput((InetSocketAddress) first.getLocalAddress()));
+            final float[] frame = { 10f, 20f, 30f, 0f, 0f, 0f, 0f };
+            // Queued before the switch and sent after it
+            destination.offer(frame, System.nanoTime(), OscTimetag.IMMEDIATELY);
+            destination.address((InetSocketAddress) second.getLocalAddress());
+            destination.start();
+            try {
+                assertArrayEquals(bytes(OscMessageEncoder.orientation().encode(10f, 20f, 30f)), receive(second));
+            } finally {
+                destination.stop();
+            }
+        }
+    }
+
+    @Test
+    public void failedReconnectCountsFramesAsFailedAndRecovers() throws Exception {
+        try (DatagramChannel receiver = open()) {
+            final InetSocketAddress address = (InetSocketAddress) receiver.getLocalAddress();
+            final OscOutput output = new OscOutput(address);
+            final OscDestination destination = new OscDestination(output);
+            destination.start();
+            try {
+                // Cannot be connected to, which leaves the socket disconnected
+                destination.address(InetSocketAddress.createUnresolved("unreachable.invalid", address.getPort()));
+                destination.offer(new float[SensorFrame.WIDTH], System.nanoTime(), OscTimetag.IMMEDIATELY);
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (destination.failedCount() == 0 && System.nanoTime() - deadline < 0) {
+                    Thread.sleep(5);
+                }
+                assertEquals(1, destination.failedCount());
+                assertFalse(output.isConnected());
+                assertEquals(address, output.destination());
+
+                // The send thread survived and connects to the next address
+                destination.address(address);
+                destination.offer(new float[] { 10f, 20f, 30f, 0f, 0f, 0f, 0f }, System.nanoTime(),
+                    OscTimetag.IMMEDIATELY);
+                assertArrayEquals(bytes(OscMessageEncoder.orientation().encode(10f, 20f, 30f)), receive(receiver));
+                assertTrue(output.isConnected());
+            } finally {
+                destination.stop();
+            }
+        }
+    }
+
+    @Test
+    public void stopSendsQueuedFrames() throws Exception {
+        try (DatagramChannel receiver = open()) {
+            final OscDestination destination = new OscDestination(
+                new OscOutput((InetSocketAddress) receiver.getLocalAddress()));
+            final float[] frame = new float[SensorFrame.WIDTH];
+            for (int i = 0; i < 3; i++) {
+                destination.offer(frame, System.nanoTime(), OscTimetag.IMMEDIATELY);
+            }
+            destination.start();
+            destination.stop();
+
+            assertEquals(3, destination.sentCount());
+            assertEquals(0, destination.queueDepth());
+        }
+    }
+
+    @Test
+    public void sentFramesRecordEveryStage() throws Exception {
+        try (DatagramChannel receiver = open()) {
+            final OrientationSender sender = new OrientationSender();
+            final PipelineLatency.Window window = sender.latency().window();
+            sender.addresses(Arrays.asList((InetSocketAddress) receiver.getLocalAddress()));
+            sender.start();
+            try {
+                final long arrival = System.nanoTime() - 3_000_000;
+                sender.publish(new float[SensorFrame.WIDTH], 0, arrival, arrival + 1_000_000);
+                receive(receiver);
+            } finally {
+                sender.stop();
+            }
+
+            window.update();
+            assertEquals(1, window.count());
+            assertEquals(1_000_000, window.valueAt(PipelineLatency.CONVERSION, 0.5), 1_000_000 / 16.0);
+            assertTrue(window.valueAt(PipelineLatency.QUEUEING, 0.5) >= 2_000_000);
+            assertTrue(window.valueAt(PipelineLatency.TOTAL, 0.5) >= 3_000_000);
+            assertTrue(window.valueAt(PipelineLatency.TOTAL, 0.5)
+                >= window.valueAt(PipelineLatency.SENDING, 0.5));
+        }
+    }
+
+    @Test
+    public void statsAreSentPeriodically() throws Exception {
+        try (DatagramChannel receiver = open()) {
+            final OrientationSender sender = new OrientationSender();
+            sender.addresses(Arrays.asList((InetSocketAddress) receiver.getLocalAddress()));
+            sender.stats(50);
+            sender.start();
+            try {
+                sender.publish(new float[SensorFrame.WIDTH], 0);
+                final byte[] frame = receive(receiver);
+                final byte[] stats = receive(receiver);
+
+                final OscMessageEncoder encoder = new OscMessageEncoder(OscMessageEncoder.STATS_ADDRESS,
+                    PipelineLatency.Window.VALUE_COUNT + SendThrottle.Window.VALUE_COUNT);
+                assertEquals(OscMessageEncoder.orientation().size(), frame.length);
+                assertEquals(encoder.size(), stats.length);
+                assertEquals(OscMessageEncoder.STATS_ADDRESS,
+                    new String(stats, 0, OscMessageEncoder.STATS_ADDRESS.length(), "US-ASCII"));
+            } finally {
+                sender.stop();
+            }
+        }
+    }
+
+    private static DatagramChannel open() throws Exception {
+        final DatagramChannel channel = DatagramChannel.open();
+        channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        return channel;
+    }
+
+    private static byte[] receive(final DatagramChannel channel) throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        channel.receive(buffer);
+        buffer.flip();
+        return bytes(buffer);
+    }
+
+    private static byte[] bytes(final ByteBuffer buffer) {
+        final ByteBuffer copy = buffer.duplicate();
+        final byte[] result = new byte[copy.remaining()];
+        copy.get(result);
+        return result;
+    }
+}
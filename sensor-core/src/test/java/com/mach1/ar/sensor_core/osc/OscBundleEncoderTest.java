@@ -0,0 +1,91 @@
+package com.mach1.ar.sensor_core.osc;
+
+import com.illposed.osc.OSCBundle;
+import com.illposed.osc.OSCMessage;
+import com.illposed.osc.OSCPacket;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OscBundleEncoderTest {
+    @Test
+    public void sensorFrameMatchesJavaOsc() {
+        final OscBundleEncoder encoder = OscBundleEncoder.sensorFrame();
+        final float[] frame = { 12.5f, -3.25f, 0f, 0.01f, -9.81f, 0.5f, 2.75f };
+        final long[] times = { 1L, 999L, 1_000L, 1_600_000_000_123L, 1_234_567_890_987L };
+
+        for (final long millis : times) {
+            final OSCBundle bundle = new OSCBundle(Arrays.<OSCPacket>asList(
+                message(OscMessageEncoder.ORIENTATION_ADDRESS, frame[0], frame[1], frame[2]),
+                message(OscMessageEncoder.ACCELERATION_ADDRESS, frame[3], frame[4], frame[5]),
+                message(OscMessageEncoder.ACCURACY_ADDRESS, frame[6])),
+                new Date(millis));
+
+            final byte[] actual = bytes(encoder.encode(OscTimetag.fromMillis(millis), frame, 0));
+            assertArrayEquals("at " + millis, bundle.getByteArray(), actual);
+            assertEquals(actual.length, encoder.size());
+        }
+    }
+
+    @Test
+    public void immediateTimetagMatchesJavaOsc() {
+        final OscBundleEncoder encoder = new OscBundleEncoder(OscMessageEncoder.orientation());
+        final OSCBundle bundle = new OSCBundle(
+            Arrays.<OSCPacket>asList(message(OscMessageEncoder.ORIENTATION_ADDRESS, 1f, 2f, 3f)));
+
+        assertArrayEquals(bundle.getByteArray(),
+            bytes(encoder.encode(OscTimetag.IMMEDIATELY, new float[] { 1f, 2f, 3f }, 0)));
+    }
+
+    @Test
+    public void argumentCountSpansAllMessages() {
+        assertEquals(7, OscBundleEncoder.sensorFrame().argumentCount());
+        assertEquals(7, OscBundleEncoder.tracedSensorFrame().argumentCount());
+        assertEquals(2, OscBundleEncoder.tracedSensorFrame().longArgumentCount());
+    }
+
+    @Test
+    public void tracedSensorFrameMatchesJavaOsc() {
+        final OscBundleEncoder encoder = OscBundleEncoder.tracedSensorFrame();
+        final float[] frame = { 12.5f, -3.25f, 0f, 0.01f, -9.81f, 0.5f, 2.75f };
+        final long frameMillis = 1_600_000_000_123L;
+        final long sentMillis = 1_600_000_000_456L;
+        final long sequence = 0x1_0000_0002L;
+
+        final OSCBundle bundle = new OSCBundle(Arrays.<OSCPacket>asList(
+            new OSCMessage(OscMessageEncoder.TRACE_ADDRESS,
+                Arrays.<Object>asList(sequence, new Date(sentMillis))),
+            message(OscMessageEncoder.ORIENTATION_ADDRESS, frame[0], frame[1], frame[2]),
+            message(OscMessageEncoder.ACCELERATION_ADDRESS, frame[3], frame[4], frame[5]),
+            message(OscMessageEncoder.ACCURACY_ADDRESS, frame[6])),
+            new Date(frameMillis));
+
+        encoder.longArgument(0, sequence);
+        encoder.longArgument(1, OscTimetag.fromMillis(sentMillis));
+        final byte[] actual = bytes(encoder.encode(OscTimetag.fromMillis(frameMillis), frame, 0));
+        assertArrayEquals(bundle.getByteArray(), actual);
+        assertEquals(actual.length, encoder.size());
+    }
+
+    private static OSCMessage message(final String address, final float... arguments) {
+        final List<Object> list = new ArrayList<>(arguments.length);
+        for (final float argument : arguments) {
+            list.add(argument);
+        }
+        return new OSCMessage(address, list);
+    }
+
+    private static byte[] bytes(final ByteBuffer buffer) {
+        final ByteBuffer copy = buffer.duplicate();
+        final byte[] result = new byte[copy.remaining()];
+        copy.get(result);
+        return result;
+    }
+}
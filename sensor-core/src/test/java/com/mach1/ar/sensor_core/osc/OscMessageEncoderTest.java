@@ -0,0 +1,114 @@
+package com.mach1.ar.sensor_core.osc;
+
+import com.illposed.osc.OSCMessage;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OscMessageEncoderTest {
+    private static final float[][] SAMPLES = {
+        { 0f, 0f, 0f },
+        { -0f, 0f, -0f },
+        { 12.345f, -67.891f, 179.999f },
+        { -180f, 90f, -90f },
+        { Float.MIN_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE },
+        { Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 1e-30f },
+    };
+
+    @Test
+    public void orientationMatchesJavaOsc() {
+        final OscMessageEncoder encoder = OscMessageEncoder.orientation();
+        for (final float[] sample : SAMPLES) {
+            final byte[] expected = javaOscBytes(OscMessageEncoder.ORIENTATION_ADDRESS, sample);
+            assertArrayEquals(expected, bytes(encoder.encode(sample[0], sample[1], sample[2])));
+            assertArrayEquals(expected, bytes(encoder.encode(sample, 0)));
+        }
+    }
+
+    @Test
+    public void addressPaddingMatchesJavaOsc() {
+        final String[] addresses = { "/a", "/ab", "/abc", "/abcd", "/stats/x" };
+        for (final String address : addresses) {
+            for (int count = 1; count <= 6; count++) {
+                final float[] arguments = new float[count];
+                for (int i = 0; i < count; i++) {
+                    arguments[i] = i * 1.5f - 2f;
+                }
+
+                final OscMessageEncoder encoder = new OscMessageEncoder(address, count);
+                final byte[] actual = bytes(encoder.encode(arguments, 0));
+                assertArrayEquals(address + " x" + count, javaOscBytes(address, arguments), actual);
+                assertEquals(actual.length, encoder.size());
+            }
+        }
+    }
+
+    @Test
+    public void encodeDoesNotAllocate() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+        final OscMessageEncoder encoder = OscMessageEncoder.orientation();
+        float checksum = 0;
+        // Warm up so the measured loop runs compiled code
+        for (int i = 0; i < 100_000; i++) {
+            checksum += encoder.encode(i, -i, 0.5f * i).get(20);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            checksum += encoder.encode(i, -i, 0.5f * i).get(20);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+        assertFalse(Float.isNaN(checksum));
+    }
+
+    @Test
+    public void outputDeliversDatagram() throws Exception {
+        try (DatagramChannel receiver = DatagramChannel.open()) {
+            receiver.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            final InetSocketAddress address = (InetSocketAddress) receiver.getLocalAddress();
+
+            final OscMessageEncoder encoder = OscMessageEncoder.orientation();
+            try (OscOutput output = new OscOutput(address)) {
+                assertTrue(output.send(encoder.encode(1f, 2f, 3f)));
+            }
+
+            final ByteBuffer received = ByteBuffer.allocate(256);
+            receiver.receive(received);
+            received.flip();
+            assertArrayEquals(javaOscBytes(OscMessageEncoder.ORIENTATION_ADDRESS, new float[] { 1f, 2f, 3f }),
+                bytes(received));
+        }
+    }
+
+    private static byte[] javaOscBytes(final String address, final float[] arguments) {
+        final List<Object> list = new ArrayList<>(arguments.length);
+        for (final float argument : arguments) {
+            list.add(argument);
+        }
+        return new OSCMessage(address, list).getByteArray();
+    }
+
+    private static byte[] bytes(final ByteBuffer buffer) {
+        final ByteBuffer copy = buffer.duplicate();
+        final byte[] result = new byte[copy.remaining()];
+        copy.get(result);
+        return result;
+    }
+}
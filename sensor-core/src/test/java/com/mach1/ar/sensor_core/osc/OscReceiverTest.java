@@ -0,0 +1,138 @@
+package com.mach1.ar.sensor_core.osc;
+
+import com.mach1.ar.sensor_core.SensorFrame;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.*;
+
+public class OscReceiverTest {
+    private static final int FRAME_COUNT = 2000;
+
+    @Test
+    public void tracedFramesArriveCompleteAndInOrder() throws Exception {
+        final AtomicInteger expectedYaw = new AtomicInteger();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        try (OscReceiver receiver = new OscReceiver()) {
+            receiver.listener((yaw, pitch, roll) -> {
+                if (yaw != expectedYaw.getAndIncrement()) {
+                    outOfOrder.incrementAndGet();
+                }
+            });
+            receiver.start();
+
+            final OrientationSender sender = new OrientationSender();
+            sender.format(OscFormat.TRACED);
+            sender.addresses(Collections.singletonList(receiver.address()));
+            sender.start();
+            final OscDestination destination = sender.destinations().get(0);
+            try {
+                final float[] frame = new float[SensorFrame.WIDTH];
+                final long start = System.nanoTime();
+                for (int i = 0; i < FRAME_COUNT; i++) {
+                    frame[SensorFrame.YAW] = i;
+                    sender.publish(frame, System.currentTimeMillis());
+                    // Pace at 1 kHz like a fast sensor
+                    final long due = start + TimeUnit.MILLISECONDS.toNanos(i + 1);
+                    while (System.nanoTime() - due < 0) {
+                        LockSupport.parkNanos(due - System.nanoTime());
+                    }
+                }
+
+                assertTrue(receiver.toString(), receiver.awaitOrientations(FRAME_COUNT, 10_000));
+            } finally {
+                sender.stop();
+            }
+
+            assertEquals(0, destination.droppedCount());
+            assertEquals(FRAME_COUNT, receiver.orientationCount());
+            assertEquals(FRAME_COUNT, receiver.traceCount());
+            assertEquals(0, receiver.lostCount());
+            assertEquals(0, receiver.reorderedCount());
+            assertEquals(0, receiver.malformedCount());
+            assertEquals(FRAME_COUNT - 1, receiver.lastSequence());
+            assertEquals(0, outOfOrder.get());
+            assertEquals(FRAME_COUNT, receiver.latency().count());
+        }
+    }
+
+    @Test
+    public void messagesAreParsedWithoutTrace() throws Exception {
+        try (OscReceiver receiver = new OscReceiver()) {
+            receiver.start();
+
+            final OrientationSender sender = new OrientationSender();
+            sender.addresses(Collections.singletonList(receiver.address()));
+            sender.start();
+            try {
+                sender.publish(new float[] { 10f, 20f, 30f, 0f, 0f, 1f, 2f }, 0);
+                assertTrue(receiver.awaitOrientations(1, 5_000));
+            } finally {
+                sender.stop();
+            }
+
+            assertEquals(10f, receiver.lastYaw(), 0f);
+            assertEquals(20f, receiver.lastPitch(), 0f);
+            assertEquals(30f, receiver.lastRoll(), 0f);
+            assertEquals(0, receiver.traceCount());
+            assertEquals(-1, receiver.lastSequence());
+        }
+    }
+
+    @Test
+    public void gapsAndReorderingAreCounted() throws Exception {
+        try (OscReceiver receiver = new OscReceiver()) {
+            final OscBundleEncoder encoder = OscBundleEncoder.tracedSensorFrame();
+            final float[] frame = new float[SensorFrame.WIDTH];
+            final long sent = OscTimetag.fromMillis(1_600_000_000_000L);
+            for (final long sequence : new long[] { 0, 1, 4, 3, 5, 5 }) {
+                encoder.longArgument(0, sequence);
+                encoder.longArgument(1, sent);
+                receiver.handle(encoder.encode(OscTimetag.IMMEDIATELY, frame, 0),
+                    OscTimetag.fromMillis(1_600_000_000_002L));
+            }
+
+            assertEquals(6, receiver.traceCount());
+            assertEquals(6, receiver.orientationCount());
+            assertEquals(2, receiver.lostCount());
+            assertEquals(2, receiver.reorderedCount());
+            assertEquals(5, receiver.lastSequence());
+            assertEquals(6, receiver.latency().count());
+        }
+    }
+
+    @Test
+    public void malformedPacketsAreCounted() throws Exception {
+        try (OscReceiver receiver = new OscReceiver()) {
+            receiver.handle(ByteBuffer.wrap(new byte[] { '/', 'o', 0, 0, 'f' }), OscTimetag.IMMEDIATELY);
+            receiver.handle(ByteBuffer.wrap(new byte[] { '#', 'b', 'u', 'n', 'd', 'l', 'e', 0 }), OscTimetag.IMMEDIATELY);
+
+            assertEquals(2, receiver.packetCount());
+            assertEquals(2, receiver.malformedCount());
+            assertEquals(0, receiver.orientationCount());
+        }
+    }
+
+    @Test
+    public void emptyElementsAreMalformed() throws Exception {
+        try (OscReceiver receiver = new OscReceiver()) {
+            receiver.handle(ByteBuffer.allocate(0), OscTimetag.IMMEDIATELY);
+            // A bundle holding one element of size 0
+            final ByteBuffer bundle = ByteBuffer.allocate(20);
+            bundle.put(new byte[] { '#', 'b', 'u', 'n', 'd', 'l', 'e', 0 })
+                .putLong(OscTimetag.IMMEDIATELY)
+                .putInt(0)
+                .flip();
+            receiver.handle(bundle, OscTimetag.IMMEDIATELY);
+
+            assertEquals(2, receiver.packetCount());
+            assertEquals(2, receiver.malformedCount());
+        }
+    }
+}
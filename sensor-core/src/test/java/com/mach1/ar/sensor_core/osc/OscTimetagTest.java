@@ -0,0 +1,29 @@
+package com.mach1.ar.sensor_core.osc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OscTimetagTest {
+    @Test
+    public void nanosRoundTrip() {
+        final long[] times = { 0L, 1L, 999_999_999L, 1_000_000_000L, 1_600_000_000_123_456_789L };
+        for (final long nanos : times) {
+            assertEquals(nanos, OscTimetag.toNanos(OscTimetag.fromNanos(nanos)));
+        }
+    }
+
+    @Test
+    public void nanosAgreeWithMillis() {
+        assertEquals(OscTimetag.fromMillis(1_600_000_000_000L),
+            OscTimetag.fromNanos(1_600_000_000_000_000_000L));
+        assertEquals(1_600_000_000_123_000_000L,
+            OscTimetag.toNanos(OscTimetag.fromMillis(1_600_000_000_123L)), 1);
+    }
+
+    @Test
+    public void nowFollowsTheWallClock() {
+        final long nowMillis = OscTimetag.toNanos(OscTimetag.now()) / 1_000_000L;
+        assertEquals(System.currentTimeMillis(), nowMillis, 1_000);
+    }
+}
@@ -0,0 +1,139 @@
+package com.mach1.ar.sensor_core.recording;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SessionPlayerTest {
+    private static final long PERIOD_NANOS = 10_000_000L;
+
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void playsEverythingInOrder() throws Exception {
+        final File file = record(1000);
+        final Collector collector = new Collector();
+        try (SessionReader reader = new SessionReader(file)) {
+            final SessionPlayer player = new SessionPlayer(reader, collector);
+            player.speed(SessionPlayer.AS_FAST_AS_POSSIBLE);
+            player.play();
+            awaitFinished(player, 5000);
+            player.close();
+        }
+
+        assertEquals(1000, collector.mTimestamps.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) collector.mTimestamps.get(i));
+        }
+        assertEquals(1, collector.mGestures);
+    }
+
+    @Test
+    public void seekStartsFromRecordAtTime() throws Exception {
+        final File file = record(1000);
+        final Collector collector = new Collector();
+        try (SessionReader reader = new SessionReader(file)) {
+            final SessionPlayer player = new SessionPlayer(reader, collector);
+            player.speed(SessionPlayer.AS_FAST_AS_POSSIBLE);
+            player.seek(900 * PERIOD_NANOS);
+            player.play();
+            awaitFinished(player, 5000);
+            player.close();
+        }
+
+        assertEquals(100, collector.mTimestamps.size());
+        assertEquals(900, (int) collector.mTimestamps.get(0));
+    }
+
+    @Test
+    public void speedScalesPlaybackTime() throws Exception {
+        // One second of samples at ten times real time
+        final File file = record(101);
+        final Collector collector = new Collector();
+        try (SessionReader reader = new SessionReader(file)) {
+            final SessionPlayer player = new SessionPlayer(reader, collector);
+            player.speed(10);
+            final long start = System.nanoTime();
+            player.play();
+            awaitFinished(player, 5000);
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            player.close();
+
+            assertTrue("took " + elapsedMillis + " ms", elapsedMillis >= 95);
+            assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 1000);
+        }
+        assertEquals(101, collector.mTimestamps.size());
+    }
+
+    @Test
+    public void pausedPlayerDeliversNothing() throws Exception {
+        final File file = record(10);
+        final Collector collector = new Collector();
+        try (SessionReader reader = new SessionReader(file)) {
+            final SessionPlayer player = new SessionPlayer(reader, collector);
+            Thread.sleep(50);
+            player.close();
+
+            assertFalse(player.finished());
+            assertEquals(0, player.positionNanos());
+        }
+        assertTrue(collector.mTimestamps.isEmpty());
+    }
+
+    private static void awaitFinished(final SessionPlayer player, final long timeoutMillis) throws Exception {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!player.finished()) {
+            assertTrue("Playback did not finish", System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private File record(final int count) throws Exception {
+        final File file = mFolder.newFile();
+        try (SessionRecorder recorder = new SessionRecorder(file)) {
+            for (int i = 0; i < count; i++) {
+                while (!recorder.sensor(0, i, i * PERIOD_NANOS, 0, 0, 0, Float.NaN, 0)) {
+                    Thread.yield();
+                }
+                if (i == count / 2) {
+                    while (!recorder.gesture(1, -1, i * PERIOD_NANOS)) {
+                        Thread.yield();
+                    }
+                }
+            }
+        }
+        return file;
+    }
+
+    private static class Collector implements SensorSampleListener {
+        final List<Integer> mTimestamps = new ArrayList<>();
+        int mGestures;
+
+        @Override
+        public void onSensorSample(final int type,
+                                   final int deviceTimestamp,
+                                   final long receiveNanos,
+                                   final float x,
+                                   final float y,
+                                   final float z,
+                                   final float w,
+                                   final float accuracy) {
+            mTimestamps.add(deviceTimestamp);
+        }
+
+        @Override
+        public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+            mGestures += 1;
+        }
+    }
+}
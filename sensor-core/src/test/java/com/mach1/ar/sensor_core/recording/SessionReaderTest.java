@@ -0,0 +1,94 @@
+package com.mach1.ar.sensor_core.recording;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.*;
+
+public class SessionReaderTest {
+    private static final long PERIOD_NANOS = 20_000_000L;
+    private static final long START_NANOS = 1_000_000_000L;
+    private static final int COUNT = 5000;
+
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void readsRecordsBack() throws Exception {
+        final File file = record(COUNT);
+        try (SessionReader reader = new SessionReader(file)) {
+            assertEquals(COUNT, reader.recordCount());
+            assertEquals(START_NANOS, reader.startNanos());
+            assertEquals((COUNT - 1) * PERIOD_NANOS, reader.durationNanos());
+
+            final SessionRecord record = new SessionRecord();
+            reader.read(1234, record);
+            assertEquals(SessionFormat.KIND_SENSOR, record.kind());
+            assertEquals(2, record.type());
+            assertEquals((1234 * 20) & 0xFFFF, record.deviceTimestamp());
+            assertEquals(1234f, record.x(), 0);
+            assertTrue(Float.isNaN(record.w()));
+        }
+    }
+
+    @Test
+    public void seeksByTime() throws Exception {
+        final File file = record(COUNT);
+        try (SessionReader reader = new SessionReader(file)) {
+            assertSeeks(reader);
+        }
+    }
+
+    @Test
+    public void seeksWithoutIndexFile() throws Exception {
+        final File file = record(COUNT);
+        assertTrue(SessionFormat.indexFile(file).delete());
+        try (SessionReader reader = new SessionReader(file)) {
+            assertSeeks(reader);
+        }
+    }
+
+    @Test
+    public void ignoresUnwrittenTail() throws Exception {
+        final File file = record(300);
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            // What an unclean shutdown leaves behind: mapped but never written records
+            raw.setLength(raw.length() + 100L * SessionFormat.RECORD_SIZE);
+        }
+
+        try (SessionReader reader = new SessionReader(file)) {
+            assertEquals(300, reader.recordCount());
+            assertEquals(299 * PERIOD_NANOS, reader.durationNanos());
+        }
+    }
+
+    private static void assertSeeks(final SessionReader reader) {
+        assertEquals(0, reader.seek(0));
+        assertEquals(0, reader.seek(-1));
+        assertEquals(1, reader.seek(1));
+        assertEquals(1000, reader.seek(1000 * PERIOD_NANOS));
+        assertEquals(1001, reader.seek(1000 * PERIOD_NANOS + 1));
+        assertEquals(COUNT - 1, reader.seek((COUNT - 1) * PERIOD_NANOS));
+        assertEquals(COUNT, reader.seek(COUNT * PERIOD_NANOS));
+        for (int i = 0; i < COUNT; i += 97) {
+            assertEquals(i, reader.seek(reader.elapsedNanos(i)));
+        }
+    }
+
+    private File record(final int count) throws Exception {
+        final File file = mFolder.newFile();
+        try (SessionRecorder recorder = new SessionRecorder(file)) {
+            for (int i = 0; i < count; i++) {
+                while (!recorder.sensor(2, (i * 20) & 0xFFFF, START_NANOS + i * PERIOD_NANOS,
+                        i, 0, 0, Float.NaN, 0)) {
+                    Thread.yield();
+                }
+            }
+        }
+        return file;
+    }
+}
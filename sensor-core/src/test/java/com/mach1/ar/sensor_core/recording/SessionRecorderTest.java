@@ -0,0 +1,80 @@
+package com.mach1.ar.sensor_core.recording;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class SessionRecorderTest {
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void writesHeaderAndRecords() throws Exception {
+        final File file = mFolder.newFile("session.m1s");
+        final long before = System.currentTimeMillis();
+        try (SessionRecorder recorder = new SessionRecorder(file)) {
+            assertTrue(recorder.sensor(3, 1234, 5_000_000_000L, 0.1f, 0.2f, 0.3f, 0.9f, 0.05f));
+            assertTrue(recorder.gesture(7, 1300, 6_000_000_000L));
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        assertEquals(SessionFormat.HEADER_SIZE + 2 * SessionFormat.RECORD_SIZE, buffer.capacity());
+        assertEquals(SessionFormat.MAGIC, buffer.getInt(0));
+        assertEquals(SessionFormat.VERSION, buffer.getShort(4));
+        assertEquals(SessionFormat.RECORD_SIZE, buffer.getShort(6));
+        assertTrue(buffer.getLong(SessionFormat.HEADER_START_MILLIS) >= before);
+
+        int record = SessionFormat.HEADER_SIZE;
+        assertEquals(SessionFormat.KIND_SENSOR, buffer.get(record + SessionFormat.RECORD_KIND));
+        assertEquals(3, buffer.getShort(record + SessionFormat.RECORD_TYPE));
+        assertEquals(1234, buffer.getInt(record + SessionFormat.RECORD_DEVICE_TIMESTAMP));
+        assertEquals(5_000_000_000L, buffer.getLong(record + SessionFormat.RECORD_RECEIVE_NANOS));
+        assertEquals(0.1f, buffer.getFloat(record + SessionFormat.RECORD_VALUES), 0);
+        assertEquals(0.9f, buffer.getFloat(record + SessionFormat.RECORD_VALUES + 12), 0);
+        assertEquals(0.05f, buffer.getFloat(record + SessionFormat.RECORD_ACCURACY), 0);
+
+        record += SessionFormat.RECORD_SIZE;
+        assertEquals(SessionFormat.KIND_GESTURE, buffer.get(record + SessionFormat.RECORD_KIND));
+        assertEquals(7, buffer.getShort(record + SessionFormat.RECORD_TYPE));
+        assertEquals(1300, buffer.getInt(record + SessionFormat.RECORD_DEVICE_TIMESTAMP));
+        assertTrue(Float.isNaN(buffer.getFloat(record + SessionFormat.RECORD_VALUES)));
+    }
+
+    @Test
+    public void spansMappedRegions() throws Exception {
+        final File file = mFolder.newFile("long.m1s");
+        final int count = 40_000;
+        final SessionRecorder recorder = new SessionRecorder(file);
+        for (int i = 0; i < count; i++) {
+            while (!recorder.sensor(1, i, i, i, 0, 0, Float.NaN, 0)) {
+                Thread.yield();
+            }
+        }
+        recorder.close();
+
+        assertEquals(count, recorder.recordCount());
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        assertEquals(SessionFormat.HEADER_SIZE + (long) count * SessionFormat.RECORD_SIZE, buffer.capacity());
+        for (int i = 0; i < count; i++) {
+            final int record = SessionFormat.HEADER_SIZE + i * SessionFormat.RECORD_SIZE;
+            assertEquals(i, buffer.getInt(record + SessionFormat.RECORD_DEVICE_TIMESTAMP));
+            assertEquals(i, buffer.getFloat(record + SessionFormat.RECORD_VALUES), 0);
+        }
+    }
+
+    @Test
+    public void dropsAfterClose() throws Exception {
+        final SessionRecorder recorder = new SessionRecorder(mFolder.newFile("closed.m1s"));
+        recorder.close();
+
+        assertFalse(recorder.gesture(1, 0, 0));
+        assertEquals(1, recorder.droppedCount());
+        assertEquals(0, recorder.recordCount());
+    }
+}
@@ -0,0 +1,92 @@
+package com.mach1.ar.sensor_core.source;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+import com.mach1.ar.sensor_core.recording.SessionRecorder;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ReplaySensorSourceTest {
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void replaysRecordedSyntheticSession() throws Exception {
+        final File file = mFolder.newFile();
+        final SyntheticSensorSource synthetic = new SyntheticSensorSource(500, MotionProfile.WANDER, 5, 0)
+            .paced(false)
+            .limit(1000);
+        try (SessionRecorder recorder = new SessionRecorder(file, 4096, Thread::new)) {
+            synthetic.start(recorder);
+            awaitFinished(synthetic::finished);
+            assertEquals(0, recorder.droppedCount());
+        }
+
+        final List<Float> values = new ArrayList<>();
+        try (ReplaySensorSource replay = new ReplaySensorSource(file)) {
+            assertEquals(2000, replay.reader().recordCount());
+            replay.speed(Double.POSITIVE_INFINITY);
+            replay.start(new SensorSampleListener() {
+                @Override
+                public void onSensorSample(final int type,
+                                           final int deviceTimestamp,
+                                           final long receiveNanos,
+                                           final float x,
+                                           final float y,
+                                           final float z,
+                                           final float w,
+                                           final float accuracy) {
+                    values.add(x);
+                }
+
+                @Override
+                public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+                }
+            });
+            awaitFinished(replay::finished);
+        }
+
+        assertEquals(2000, values.size());
+        final List<Float> expected = new ArrayList<>();
+        final SyntheticSensorSource reference = new SyntheticSensorSource(500, MotionProfile.WANDER, 5, 0);
+        for (int i = 0; i < 1000; i++) {
+            reference.generate(i, 0, new SensorSampleListener() {
+                @Override
+                public void onSensorSample(final int type,
+                                           final int deviceTimestamp,
+                                           final long receiveNanos,
+                                           final float x,
+                                           final float y,
+                                           final float z,
+                                           final float w,
+                                           final float accuracy) {
+                    expected.add(x);
+                }
+
+                @Override
+                public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+                }
+            });
+        }
+        assertEquals(expected, values);
+    }
+
+    private static void awaitFinished(final Condition condition) throws Exception {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.met()) {
+            assertTrue("Did not finish", System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private interface Condition {
+        boolean met();
+    }
+}
@@ -0,0 +1,145 @@
+package com.mach1.ar.sensor_core.source;
+
+import com.mach1.ar.sensor_core.SensorSampleListener;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SyntheticSensorSourceTest {
+    private static final int ROTATION = 5;
+    private static final int ACCELEROMETER = 0;
+
+    @Test
+    public void sameSeedGivesSameSamples() {
+        final Collector first = generate(new SyntheticSensorSource(100, MotionProfile.WANDER, ROTATION, ACCELEROMETER), 500);
+        final Collector second = generate(new SyntheticSensorSource(100, MotionProfile.WANDER, ROTATION, ACCELEROMETER), 500);
+        final Collector other = generate(new SyntheticSensorSource(100, MotionProfile.WANDER, ROTATION, ACCELEROMETER).seed(2), 500);
+
+        assertEquals(first.mValues, second.mValues);
+        assertNotEquals(first.mValues, other.mValues);
+    }
+
+    @Test
+    public void rotationFollowsProfile() {
+        final Collector collector = generate(new SyntheticSensorSource(50, MotionProfile.HEAD_TURN, ROTATION, -1), 51);
+
+        assertEquals(51 * 5, collector.mValues.size());
+        // One second into a four second head turn, looking 90° to the side
+        final int offset = 50 * 5;
+        final double x = collector.mValues.get(offset);
+        final double y = collector.mValues.get(offset + 1);
+        final double z = collector.mValues.get(offset + 2);
+        final double w = collector.mValues.get(offset + 3);
+        final double yaw = Math.atan2(2 * (w * z + x * y), 1 - 2 * (y * y + z * z));
+        assertEquals(90, Math.toDegrees(yaw), 1);
+    }
+
+    @Test
+    public void accelerometerMeasuresGravity() {
+        final Collector collector = generate(new SyntheticSensorSource(100, MotionProfile.NOD, ROTATION, ACCELEROMETER), 100);
+
+        for (int i = 0; i < collector.mTypes.size(); i++) {
+            if (collector.mTypes.get(i) == ACCELEROMETER) {
+                final int offset = i * 5;
+                final double x = collector.mValues.get(offset);
+                final double y = collector.mValues.get(offset + 1);
+                final double z = collector.mValues.get(offset + 2);
+                assertEquals(SyntheticSensorSource.GRAVITY, Math.sqrt(x * x + y * y + z * z), 0.2);
+            }
+        }
+    }
+
+    @Test
+    public void timestampsWrapAtSixteenBits() {
+        final Collector collector = generate(new SyntheticSensorSource(1000, MotionProfile.STILL, ROTATION, -1), 65_540);
+
+        assertEquals(0, (int) collector.mTimestamps.get(0));
+        assertEquals(65_535, (int) collector.mTimestamps.get(65_535));
+        assertEquals(0, (int) collector.mTimestamps.get(65_536));
+    }
+
+    @Test
+    public void pacedAtRate() throws Exception {
+        final Collector collector = new Collector();
+        final SyntheticSensorSource source = new SyntheticSensorSource(1000, MotionProfile.SPIN, ROTATION, ACCELEROMETER)
+            .limit(200);
+        final long start = System.nanoTime();
+        source.start(collector);
+        awaitFinished(source);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(200, source.sampleCount());
+        assertEquals(400, collector.mTypes.size());
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis >= 190);
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 2000);
+    }
+
+    @Test
+    public void stopEndsDelivery() throws Exception {
+        final Collector collector = new Collector();
+        final SyntheticSensorSource source = new SyntheticSensorSource(1000, MotionProfile.STILL, ROTATION, -1)
+            .paced(false);
+        source.start(collector);
+        Thread.sleep(20);
+        source.stop();
+
+        final long count = source.sampleCount();
+        assertTrue(source.finished());
+        Thread.sleep(20);
+        assertEquals(count, source.sampleCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rateIsLimited() {
+        new SyntheticSensorSource(SyntheticSensorSource.MAX_RATE_HZ + 1, MotionProfile.STILL, ROTATION, -1);
+    }
+
+    private static Collector generate(final SyntheticSensorSource source, final int count) {
+        final Collector collector = new Collector();
+        for (int i = 0; i < count; i++) {
+            source.generate(i, 0, collector);
+        }
+        return collector;
+    }
+
+    private static void awaitFinished(final SyntheticSensorSource source) throws Exception {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!source.finished()) {
+            assertTrue("Source did not finish", System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static class Collector implements SensorSampleListener {
+        final List<Integer> mTypes = new ArrayList<>();
+        final List<Integer> mTimestamps = new ArrayList<>();
+        final List<Float> mValues = new ArrayList<>();
+
+        @Override
+        public void onSensorSample(final int type,
+                                   final int deviceTimestamp,
+                                   final long receiveNanos,
+                                   final float x,
+                                   final float y,
+                                   final float z,
+                                   final float w,
+                                   final float accuracy) {
+            mTypes.add(type);
+            mTimestamps.add(deviceTimestamp);
+            mValues.add(x);
+            mValues.add(y);
+            mValues.add(z);
+            mValues.add(w);
+            mValues.add(accuracy);
+        }
+
+        @Override
+        public void onGestureSample(final int type, final int deviceTimestamp, final long receiveNanos) {
+        }
+    }
+}